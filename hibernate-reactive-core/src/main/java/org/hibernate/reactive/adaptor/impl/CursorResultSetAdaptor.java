@@ -0,0 +1,84 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.adaptor.impl;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+
+/**
+ * A {@link ResultSetAdaptor} which reads the rows of a query in chunks,
+ * using a database cursor. It only holds one chunk at a time: when the
+ * rows of the current chunk have been consumed, {@link #next()} returns
+ * {@code false}, and the next chunk must be read with {@link #nextChunk()}.
+ */
+public class CursorResultSetAdaptor extends ResultSetAdaptor {
+
+	private final Supplier<CompletionStage<RowSet<Row>>> readChunk;
+	private final BooleanSupplier hasMoreChunks;
+	private final Runnable closeCursor;
+	private boolean closed;
+
+	/**
+	 * @param firstChunk the rows already read from the cursor
+	 * @param readChunk reads the next chunk of rows from the cursor
+	 * @param hasMoreChunks whether there are more rows to read from the cursor
+	 * @param closeCursor closes the cursor
+	 */
+	public CursorResultSetAdaptor(
+			RowSet<Row> firstChunk,
+			Supplier<CompletionStage<RowSet<Row>>> readChunk,
+			BooleanSupplier hasMoreChunks,
+			Runnable closeCursor) {
+		super( firstChunk );
+		this.readChunk = readChunk;
+		this.hasMoreChunks = hasMoreChunks;
+		this.closeCursor = closeCursor;
+	}
+
+	/**
+	 * Read the next chunk of rows, and advance to its first row.
+	 *
+	 * @return {@code false} if there are no more rows
+	 */
+	public CompletionStage<Boolean> nextChunk() {
+		if ( closed || !hasMoreChunks.getAsBoolean() ) {
+			close();
+			return falseFuture();
+		}
+		return readChunk.get()
+				.thenApply( rows -> {
+					resetRows( rows );
+					return next();
+				} );
+	}
+
+	/**
+	 * @return {@code null}, because the rows of a cursor are only read once
+	 */
+	@Override
+	public ResultSetAdaptor copy() {
+		return null;
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			closeCursor.run();
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+}
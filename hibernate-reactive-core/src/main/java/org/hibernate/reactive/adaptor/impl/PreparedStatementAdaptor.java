@@ -6,6 +6,7 @@
 package org.hibernate.reactive.adaptor.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.data.NullValue;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -51,8 +52,21 @@ public interface Binder {
 	}
 
 	public static Object[] bind(Binder binder) {
+		return bind( 0, binder );
+	}
+
+	/**
+	 * Collect the parameter bindings in an array of the expected size,
+	 * so that it doesn't need to be grown while binding, or copied at
+	 * the end. Null values are bound as the Vert.x {@link NullValue}
+	 * for the JDBC type.
+	 *
+	 * @param expectedParameterCount the number of parameters of the statement,
+	 *                               or {@code 0} if unknown
+	 */
+	public static Object[] bind(int expectedParameterCount, Binder binder) {
 		try {
-			PreparedStatementAdaptor statement = new PreparedStatementAdaptor();
+			PreparedStatementAdaptor statement = new PreparedStatementAdaptor( expectedParameterCount );
 			binder.bind( statement );
 			return statement.getParametersAsArray();
 		}
@@ -63,11 +77,19 @@ public static Object[] bind(Binder binder) {
 
 	static final Object[] NO_PARAMS = new Object[0];
 
-	Object[] params = NO_PARAMS;
+	Object[] params;
 	int size = 0;
 
+	public PreparedStatementAdaptor() {
+		this( 0 );
+	}
+
+	PreparedStatementAdaptor(int expectedParameterCount) {
+		params = expectedParameterCount > 0 ? new Object[expectedParameterCount] : NO_PARAMS;
+	}
+
 	void put(int parameterIndex, Object parameter) {
-		if ( params.length <= parameterIndex ) {
+		if ( params.length < parameterIndex ) {
 			params = Arrays.copyOf(params, 4 + parameterIndex * 2);
 		}
 		params[parameterIndex-1] = parameter;
@@ -78,10 +100,15 @@ void put(int parameterIndex, Object parameter) {
 
 	void clear() {
 		params = NO_PARAMS;
+		size = 0;
 	}
 
+	/**
+	 * @return the bound parameters, which is the array used for binding
+	 *         if it had exactly the right size
+	 */
 	public Object[] getParametersAsArray() {
-		return Arrays.copyOf(params, size);
+		return params.length == size ? params : Arrays.copyOf(params, size);
 	}
 
 	@Override
@@ -96,7 +123,7 @@ public int executeUpdate() {
 
 	@Override
 	public void setNull(int parameterIndex, int sqlType) {
-		put( parameterIndex, new JdbcNull(sqlType) );
+		put( parameterIndex, JdbcNull.toNullValue( sqlType ) );
 	}
 
 	@Override
@@ -265,7 +292,7 @@ public void setDate(int parameterIndex, Date x, Calendar cal) {
 
 	@Override
 	public void setNull(int parameterIndex, int sqlType, String typeName) {
-		put( parameterIndex, new JdbcNull( sqlType ) );
+		put( parameterIndex, JdbcNull.toNullValue( sqlType ) );
 	}
 
 	@Override
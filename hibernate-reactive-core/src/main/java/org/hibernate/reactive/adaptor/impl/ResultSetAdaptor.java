@@ -41,6 +41,8 @@
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
@@ -56,18 +58,54 @@
  */
 public class ResultSetAdaptor implements ResultSet {
 
-	private final Iterator<Row> iterator;
+	private Iterator<Row> iterator;
+
+	/**
+	 * The rows this result set reads, or {@code null} if it reads
+	 * a row built from the generated ids
+	 */
+	private final Iterable<Row> rows;
 
 	private final List<ColumnDescriptor> columnDescriptors;
 	private final List<String> columnNames;
+
+	/**
+	 * Whether the mutable values read from the rows must be copied,
+	 * because other result sets read the same rows
+	 */
+	private final boolean copyValues;
+
 	private Row row;
 	private boolean wasNull;
 
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		requireNonNull( rows );
+		this.rows = rows;
 		this.iterator = rows.iterator();
 		this.columnNames = rows.columnsNames() == null ? emptyList() : rows.columnsNames();
 		this.columnDescriptors = rows.columnDescriptors();
+		this.copyValues = false;
+	}
+
+	/**
+	 * A result set reading the given rows, which have the given columns,
+	 * for rows which have been collected from the result of a query.
+	 */
+	public ResultSetAdaptor(List<Row> rows, List<String> columnNames, List<ColumnDescriptor> columnDescriptors) {
+		requireNonNull( rows );
+		this.rows = rows;
+		this.iterator = rows.iterator();
+		this.columnNames = columnNames == null ? emptyList() : columnNames;
+		this.columnDescriptors = columnDescriptors;
+		this.copyValues = false;
+	}
+
+	private ResultSetAdaptor(ResultSetAdaptor original) {
+		this.rows = original.rows;
+		this.iterator = original.rows.iterator();
+		this.columnNames = original.columnNames;
+		this.columnDescriptors = original.columnDescriptors;
+		this.copyValues = true;
 	}
 
 	public ResultSetAdaptor(RowSet<Row> rows, PropertyKind<Row> propertyKind, String idColumnName, Class<?> idClass) {
@@ -81,8 +119,10 @@ public ResultSetAdaptor(RowSet<Row> rows, Collection<?> ids, String idColumnName
 	private ResultSetAdaptor(RowSet<Row> rows, Row row, String idColumnName, Class<?> idClass) {
 		requireNonNull( rows );
 		requireNonNull( idColumnName );
+		this.rows = null;
 		this.iterator = List.of( row ).iterator();
 		this.columnNames = List.of( idColumnName );
+		this.copyValues = false;
 		ColumnDescriptor columnDescriptor = new ColumnDescriptor() {
 			@Override
 			public String name() {
@@ -127,6 +167,61 @@ public int getColumnIndex(String column) {
 		}
 	}
 
+	/**
+	 * A new result set, positioned before the first row, which reads
+	 * the same rows as this one. The rows of a {@code RowSet} can be
+	 * read any number of times, and from any thread, but some of the
+	 * values they contain, such as JSON objects and arrays, are mutable:
+	 * the new result set returns a copy of those values, so that the
+	 * objects built from its rows don't share them with the objects
+	 * built by other result sets.
+	 *
+	 * @return the new result set, or {@code null} if the rows of this
+	 *         result set can't be read again
+	 */
+	public ResultSetAdaptor copy() {
+		return rows == null ? null : new ResultSetAdaptor( this );
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T copyIfShared(T value) {
+		return copyValues ? (T) deepCopy( value ) : value;
+	}
+
+	private static Object deepCopy(Object value) {
+		if ( value instanceof JsonObject ) {
+			return ( (JsonObject) value ).copy();
+		}
+		if ( value instanceof JsonArray ) {
+			return ( (JsonArray) value ).copy();
+		}
+		if ( value instanceof Buffer ) {
+			return ( (Buffer) value ).copy();
+		}
+		if ( value instanceof byte[] ) {
+			return ( (byte[]) value ).clone();
+		}
+		if ( value instanceof Object[] ) {
+			final Object[] copy = ( (Object[]) value ).clone();
+			for ( int i = 0; i < copy.length; i++ ) {
+				copy[i] = deepCopy( copy[i] );
+			}
+			return copy;
+		}
+		// the other values of a row are immutable
+		return value;
+	}
+
+	/**
+	 * Continue reading from the given rows, which must have the same
+	 * columns as the rows this result set was created with.
+	 */
+	protected void resetRows(RowSet<Row> rows) {
+		requireNonNull( rows );
+		this.iterator = rows.iterator();
+		this.row = null;
+	}
+
 	@Override
 	public boolean next() {
 		if ( iterator.hasNext() ) {
@@ -410,13 +505,13 @@ public boolean isClosed() {
 	@Override
 	public <T> T getObject(int columnIndex, Class<T> type) {
 		T object = row.get( type, columnIndex - 1 );
-		return ( wasNull = object == null ) ? null : object;
+		return ( wasNull = object == null ) ? null : copyIfShared( object );
 	}
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
 		T object = row.get( type, row.getColumnIndex( columnLabel ) );
-		return ( wasNull = object == null ) ? null : object;
+		return ( wasNull = object == null ) ? null : copyIfShared( object );
 	}
 
 	@Override
@@ -446,13 +541,13 @@ public String getCursorName() {
 	@Override
 	public Object getObject(int columnIndex) {
 		Object object = row.getValue( columnIndex - 1 );
-		return ( wasNull = object == null ) ? null : object;
+		return ( wasNull = object == null ) ? null : copyIfShared( object );
 	}
 
 	@Override
 	public Object getObject(String columnLabel) {
 		Object object = row.getValue( columnLabel );
-		return ( wasNull = object == null ) ? null : object;
+		return ( wasNull = object == null ) ? null : copyIfShared( object );
 	}
 
 	@Override
@@ -696,7 +791,7 @@ public Array getArray(int columnIndex, JdbcType elementJdbcType) {
 		if ( objects == null ) {
 			return null;
 		}
-		return new ArrayAdaptor( elementJdbcType, objects );
+		return new ArrayAdaptor( elementJdbcType, copyIfShared( objects ) );
 	}
 
 	@Override
@@ -725,7 +820,7 @@ private Blob blob(Function<Row, Object> getValue, Function<Row, Buffer> getBuffe
 			return BlobProxy.generateProxy( ( (String) value ).getBytes() );
 		}
 		if ( value instanceof byte[] ) {
-			return BlobProxy.generateProxy( (byte[]) value );
+			return BlobProxy.generateProxy( copyIfShared( (byte[]) value ) );
 		}
 		return BlobProxy.generateProxy( getBuffer.apply( row ).getBytes() );
 	}
@@ -0,0 +1,378 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.stage.Stage;
+
+import io.vertx.core.buffer.Buffer;
+import jakarta.persistence.Parameter;
+import jakarta.persistence.metamodel.Attribute;
+
+/**
+ * A blocking API for Hibernate Reactive, intended for use from
+ * threads which may be parked cheaply while waiting for the
+ * database, for example, the virtual threads of Java 21.
+ * <p>
+ * Each operation of a {@link Session} is executed on the Vert.x
+ * context associated with the session, and so on its event loop,
+ * exactly as if the operation had been called via the
+ * {@link Stage} API. The calling thread waits for the operation
+ * to complete, but the interaction with the database is still
+ * non-blocking, and the session holds a connection from the
+ * reactive connection pool.
+ * <p>
+ * Operations of this API must never be called from a Vert.x
+ * event loop thread, since they would block the event loop.
+ * <p>
+ * A {@code Blocking.SessionFactory} may be obtained from an instance
+ * of {@link jakarta.persistence.EntityManagerFactory} or of
+ * {@link org.hibernate.SessionFactory} as follows:
+ *
+ * <pre>
+ * Blocking.SessionFactory sessionFactory =
+ * 			createEntityManagerFactory("example")
+ * 				.unwrap(Blocking.SessionFactory.class);
+ * </pre>
+ */
+public interface Blocking {
+
+	/**
+	 * A blocking counterpart to {@link Stage.SelectionQuery}.
+	 */
+	interface SelectionQuery<R> {
+
+		/**
+		 * @see Stage.SelectionQuery#setParameter(int, Object)
+		 */
+		SelectionQuery<R> setParameter(int parameter, Object argument);
+
+		/**
+		 * @see Stage.SelectionQuery#setParameter(String, Object)
+		 */
+		SelectionQuery<R> setParameter(String parameter, Object argument);
+
+		/**
+		 * @see Stage.SelectionQuery#setParameter(Parameter, Object)
+		 */
+		<T> SelectionQuery<R> setParameter(Parameter<T> parameter, T argument);
+
+		/**
+		 * @see Stage.SelectionQuery#setMaxResults(int)
+		 */
+		SelectionQuery<R> setMaxResults(int maxResults);
+
+		/**
+		 * @see Stage.SelectionQuery#setFirstResult(int)
+		 */
+		SelectionQuery<R> setFirstResult(int firstResult);
+
+		/**
+		 * @see Stage.SelectionQuery#setLockMode(LockMode)
+		 */
+		SelectionQuery<R> setLockMode(LockMode lockMode);
+
+		/**
+		 * @see Stage.SelectionQuery#setReadOnly(boolean)
+		 */
+		SelectionQuery<R> setReadOnly(boolean readOnly);
+
+		/**
+		 * @see Stage.SelectionQuery#setResultRowLimit(int)
+		 */
+		SelectionQuery<R> setResultRowLimit(int resultRowLimit);
+
+		/**
+		 * @see Stage.SelectionQuery#setEvictAfterQuery(boolean)
+		 */
+		SelectionQuery<R> setEvictAfterQuery(boolean evictAfterQuery);
+
+		/**
+		 * @see Stage.SelectionQuery#setFetchSize(int)
+		 */
+		SelectionQuery<R> setFetchSize(int fetchSize);
+
+		/**
+		 * Execute the query and return the single result of the query,
+		 * throwing an exception if the query returns no results.
+		 *
+		 * @see Stage.SelectionQuery#getSingleResult()
+		 */
+		R getSingleResult();
+
+		/**
+		 * Execute the query and return the single result of the query,
+		 * or {@code null} if the query returns no results.
+		 *
+		 * @see Stage.SelectionQuery#getSingleResultOrNull()
+		 */
+		R getSingleResultOrNull();
+
+		/**
+		 * Execute the query and return the query results as a {@link List}.
+		 *
+		 * @see Stage.SelectionQuery#getResultList()
+		 */
+		List<R> getResultList();
+
+		/**
+		 * Execute the query and return the given page of results using
+		 * keyset pagination, together with the page which comes after it.
+		 *
+		 * @see Stage.SelectionQuery#getKeysetResultList(KeysetPage)
+		 */
+		KeysetResultList<R> getKeysetResultList(KeysetPage<R> page);
+
+		/**
+		 * Execute the query and write the query results as a JSON array
+		 * of objects to {@link Buffer}s of the given number of rows. The
+		 * consumer is called on the event loop of the session, and must
+		 * not block it.
+		 *
+		 * @return the number of rows written
+		 *
+		 * @see Stage.SelectionQuery#getResultJson(int, Consumer)
+		 */
+		long getResultJson(int rowsPerBuffer, Consumer<Buffer> consumer);
+	}
+
+	/**
+	 * A blocking counterpart to {@link Stage.MutationQuery}.
+	 */
+	interface MutationQuery {
+
+		/**
+		 * @see Stage.MutationQuery#setParameter(int, Object)
+		 */
+		MutationQuery setParameter(int parameter, Object argument);
+
+		/**
+		 * @see Stage.MutationQuery#setParameter(String, Object)
+		 */
+		MutationQuery setParameter(String parameter, Object argument);
+
+		/**
+		 * @see Stage.MutationQuery#setParameter(Parameter, Object)
+		 */
+		<T> MutationQuery setParameter(Parameter<T> parameter, T argument);
+
+		/**
+		 * Execute an update or delete statement, returning the number of
+		 * rows affected.
+		 *
+		 * @see Stage.MutationQuery#executeUpdate()
+		 */
+		int executeUpdate();
+	}
+
+	/**
+	 * A blocking counterpart to {@link Stage.Session}.
+	 * <p>
+	 * The semantics of operations on this interface are identical to the
+	 * semantics of the similarly-named operations of {@code Stage.Session},
+	 * except that the calling thread waits for the operation to complete.
+	 * <p>
+	 * Like the {@code Stage.Session}, a {@code Blocking.Session} must not
+	 * be used from more than one thread at a time.
+	 */
+	interface Session extends AutoCloseable {
+
+		/**
+		 * @see Stage.Session#find(Class, Object)
+		 */
+		<T> T find(Class<T> entityClass, Object id);
+
+		/**
+		 * @see Stage.Session#find(Class, Object, LockMode)
+		 */
+		<T> T find(Class<T> entityClass, Object id, LockMode lockMode);
+
+		/**
+		 * @see Stage.Session#find(Class, Object...)
+		 */
+		<T> List<T> find(Class<T> entityClass, Object... ids);
+
+		/**
+		 * @see Stage.Session#getReference(Class, Object)
+		 */
+		<T> T getReference(Class<T> entityClass, Object id);
+
+		/**
+		 * @see Stage.Session#persist(Object)
+		 */
+		void persist(Object entity);
+
+		/**
+		 * @see Stage.Session#persist(Object...)
+		 */
+		void persist(Object... entities);
+
+		/**
+		 * @see Stage.Session#merge(Object)
+		 */
+		<T> T merge(T entity);
+
+		/**
+		 * @see Stage.Session#remove(Object)
+		 */
+		void remove(Object entity);
+
+		/**
+		 * @see Stage.Session#refresh(Object)
+		 */
+		void refresh(Object entity);
+
+		/**
+		 * @see Stage.Session#lock(Object, LockMode)
+		 */
+		void lock(Object entity, LockMode lockMode);
+
+		/**
+		 * @see Stage.Session#fetch(Object)
+		 */
+		<T> T fetch(T association);
+
+		/**
+		 * @see Stage.Session#fetchAll(Collection, Attribute)
+		 */
+		<E, T> void fetchAll(Collection<E> entities, Attribute<E, T> field);
+
+		/**
+		 * @see Stage.Session#flush()
+		 */
+		void flush();
+
+		/**
+		 * @see Stage.Session#contains(Object)
+		 */
+		boolean contains(Object entity);
+
+		/**
+		 * @see Stage.Session#detach(Object)
+		 */
+		void detach(Object entity);
+
+		/**
+		 * @see Stage.Session#clear()
+		 */
+		void clear();
+
+		/**
+		 * @see Stage.Session#createSelectionQuery(String, Class)
+		 */
+		<R> SelectionQuery<R> createSelectionQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * @see Stage.Session#createMutationQuery(String)
+		 */
+		MutationQuery createMutationQuery(String queryString);
+
+		/**
+		 * @see Stage.Session#createNativeQuery(String, Class)
+		 */
+		<R> SelectionQuery<R> createNativeQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Performs the given work within the scope of a database transaction,
+		 * automatically flushing the session. The work is executed by the
+		 * calling thread. The transaction will be rolled back if the work
+		 * throws an exception, or if {@link Stage.Transaction#markForRollback()}
+		 * is called.
+		 * <p>
+		 * If there is already a transaction associated with this session, the
+		 * work is executed in the context of the existing transaction.
+		 *
+		 * @see Stage.Session#withTransaction(Function)
+		 */
+		<T> T withTransaction(Function<Stage.Transaction, T> work);
+
+		/**
+		 * The underlying {@link Stage.Session}, which must only be used from
+		 * the Vert.x context of this session.
+		 */
+		Stage.Session getReactiveSession();
+
+		/**
+		 * @return false if {@link #close()} has been called
+		 */
+		boolean isOpen();
+
+		/**
+		 * Close the session and release the connection.
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * Factory for {@link Session blocking sessions}.
+	 */
+	interface SessionFactory extends AutoCloseable {
+
+		/**
+		 * Obtain a new {@link Session blocking session}, associated with a
+		 * new Vert.x context.
+		 * <p>
+		 * The client must explicitly close the session by calling
+		 * {@link Session#close()}.
+		 *
+		 * @see #withSession(Function)
+		 */
+		Session openSession();
+
+		/**
+		 * Obtain a new {@link Session blocking session} for a specified tenant.
+		 *
+		 * @param tenantId the id of the tenant
+		 *
+		 * @see #openSession()
+		 */
+		Session openSession(String tenantId);
+
+		/**
+		 * Perform work using a new {@link Session blocking session}, which
+		 * is closed automatically when the work completes.
+		 *
+		 * @param work a function which accepts the session and returns
+		 *             the result of the work
+		 */
+		<T> T withSession(Function<Session, T> work);
+
+		/**
+		 * Perform work using a new {@link Session blocking session}, within
+		 * a database transaction.
+		 *
+		 * @param work a function which accepts the session and returns
+		 *             the result of the work
+		 *
+		 * @see Session#withTransaction(Function)
+		 */
+		<T> T withTransaction(Function<Session, T> work);
+
+		/**
+		 * The underlying {@link Stage.SessionFactory}.
+		 */
+		Stage.SessionFactory getReactiveSessionFactory();
+
+		/**
+		 * Destroy the session factory and clean up its connection pool.
+		 */
+		@Override
+		void close();
+
+		/**
+		 * @return false if {@link #close()} has been called
+		 */
+		boolean isOpen();
+	}
+}
@@ -0,0 +1,114 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * Runs operations on a Vert.x context, and makes the calling
+ * thread wait for their results.
+ * <p>
+ * Each executor uses its own duplicated context, so that the
+ * values stored in the local context, including the current
+ * session, aren't shared with other streams.
+ */
+final class BlockingExecutor {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Context context;
+
+	BlockingExecutor(Vertx vertx) {
+		// Ensure we don't run on the root context, which is globally scoped
+		this.context = ( (ContextInternal) vertx.getOrCreateContext() ).duplicate();
+	}
+
+	/**
+	 * Run the given operation on the Vert.x context, and wait for the
+	 * {@link CompletionStage} it returns to complete.
+	 */
+	<T> T await(Supplier<? extends CompletionStage<T>> operation) {
+		return join( submit( operation ) );
+	}
+
+	/**
+	 * Run the given operation on the Vert.x context, without waiting.
+	 *
+	 * @return a {@link CompletableFuture} completed with the result of the
+	 * {@link CompletionStage} returned by the operation
+	 */
+	<T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> operation) {
+		if ( Context.isOnEventLoopThread() ) {
+			throw LOG.blockingOperationOnEventLoop();
+		}
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		context.runOnContext( v -> {
+			try {
+				operation.get().whenComplete( (r, e) -> {
+					if ( e == null ) {
+						result.complete( r );
+					}
+					else {
+						result.completeExceptionally( e );
+					}
+				} );
+			}
+			catch (Throwable t) {
+				result.completeExceptionally( t );
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * Run the given command on the Vert.x context, without waiting.
+	 */
+	void execute(Runnable command) {
+		context.runOnContext( v -> command.run() );
+	}
+
+	/**
+	 * Run the given operation on the Vert.x context, and wait for its result.
+	 */
+	<T> T call(Supplier<T> operation) {
+		return await( () -> completedFuture( operation.get() ) );
+	}
+
+	/**
+	 * Wait for the given {@link CompletableFuture}, which might be completed
+	 * by a different thread, rethrowing the original exception in case of
+	 * failure.
+	 */
+	static <T> T join(CompletableFuture<T> future) {
+		try {
+			// A virtual thread unmounts from its carrier while waiting here
+			return future.join();
+		}
+		catch (CompletionException ce) {
+			final Throwable cause = ce.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw ce;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+import jakarta.persistence.Parameter;
+
+/**
+ * Implements the {@link Blocking.MutationQuery} API, delegating to a
+ * {@link Stage.MutationQuery}. The query is executed on the Vert.x
+ * context of the session which created it.
+ */
+public class BlockingMutationQueryImpl implements Blocking.MutationQuery {
+
+	private final Stage.MutationQuery delegate;
+	private final BlockingExecutor executor;
+
+	BlockingMutationQueryImpl(Stage.MutationQuery delegate, BlockingExecutor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	@Override
+	public Blocking.MutationQuery setParameter(int parameter, Object argument) {
+		delegate.setParameter( parameter, argument );
+		return this;
+	}
+
+	@Override
+	public Blocking.MutationQuery setParameter(String parameter, Object argument) {
+		delegate.setParameter( parameter, argument );
+		return this;
+	}
+
+	@Override
+	public <T> Blocking.MutationQuery setParameter(Parameter<T> parameter, T argument) {
+		delegate.setParameter( parameter, argument );
+		return this;
+	}
+
+	@Override
+	public int executeUpdate() {
+		return executor.await( delegate::executeUpdate );
+	}
+}
@@ -0,0 +1,119 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.stage.Stage;
+
+import io.vertx.core.buffer.Buffer;
+import jakarta.persistence.Parameter;
+
+/**
+ * Implements the {@link Blocking.SelectionQuery} API, delegating to a
+ * {@link Stage.SelectionQuery}. The query is executed on the Vert.x
+ * context of the session which created it.
+ */
+public class BlockingSelectionQueryImpl<R> implements Blocking.SelectionQuery<R> {
+
+	private final Stage.SelectionQuery<R> delegate;
+	private final BlockingExecutor executor;
+
+	BlockingSelectionQueryImpl(Stage.SelectionQuery<R> delegate, BlockingExecutor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setParameter(int parameter, Object argument) {
+		delegate.setParameter( parameter, argument );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setParameter(String parameter, Object argument) {
+		delegate.setParameter( parameter, argument );
+		return this;
+	}
+
+	@Override
+	public <T> Blocking.SelectionQuery<R> setParameter(Parameter<T> parameter, T argument) {
+		delegate.setParameter( parameter, argument );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setMaxResults(int maxResults) {
+		delegate.setMaxResults( maxResults );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setFirstResult(int firstResult) {
+		delegate.setFirstResult( firstResult );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setLockMode(LockMode lockMode) {
+		delegate.setLockMode( lockMode );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setReadOnly(boolean readOnly) {
+		delegate.setReadOnly( readOnly );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setResultRowLimit(int resultRowLimit) {
+		delegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setEvictAfterQuery(boolean evictAfterQuery) {
+		delegate.setEvictAfterQuery( evictAfterQuery );
+		return this;
+	}
+
+	@Override
+	public Blocking.SelectionQuery<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
+	@Override
+	public R getSingleResult() {
+		return executor.await( delegate::getSingleResult );
+	}
+
+	@Override
+	public R getSingleResultOrNull() {
+		return executor.await( delegate::getSingleResultOrNull );
+	}
+
+	@Override
+	public List<R> getResultList() {
+		return executor.await( delegate::getResultList );
+	}
+
+	@Override
+	public KeysetResultList<R> getKeysetResultList(KeysetPage<R> page) {
+		return executor.await( () -> delegate.getKeysetResultList( page ) );
+	}
+
+	@Override
+	public long getResultJson(int rowsPerBuffer, Consumer<Buffer> consumer) {
+		return executor.await( () -> delegate.getResultJson( rowsPerBuffer, consumer ) );
+	}
+}
@@ -0,0 +1,95 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.context.impl.BaseKey;
+import org.hibernate.reactive.context.impl.MultitenantKey;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+import org.hibernate.reactive.vertx.VertxInstance;
+
+/**
+ * Implementation of {@link Blocking.SessionFactory}.
+ * <p>
+ * Obtained by calling {@link org.hibernate.SessionFactory#unwrap(Class)}.
+ */
+public class BlockingSessionFactoryImpl implements Blocking.SessionFactory {
+
+	private final StageSessionFactoryImpl delegate;
+	private final VertxInstance vertxInstance;
+	private final Context context;
+	private final BaseKey<Stage.Session> contextKeyForSession;
+
+	public BlockingSessionFactoryImpl(SessionFactoryImpl factory) {
+		this.delegate = new StageSessionFactoryImpl( factory );
+		this.vertxInstance = factory.getServiceRegistry().getService( VertxInstance.class );
+		this.context = factory.getServiceRegistry().getService( Context.class );
+		// The same key used by the Stage.SessionFactory, so that reactive
+		// code running in the context of the session finds it
+		this.contextKeyForSession = new BaseKey<>( Stage.Session.class, factory.getUuid() );
+	}
+
+	@Override
+	public Blocking.Session openSession() {
+		return openSession( contextKeyForSession, delegate::openSession );
+	}
+
+	@Override
+	public Blocking.Session openSession(String tenantId) {
+		Objects.requireNonNull( tenantId, "parameter 'tenantId' is required" );
+		return openSession(
+				new MultitenantKey<>( contextKeyForSession, tenantId ),
+				() -> delegate.openSession( tenantId )
+		);
+	}
+
+	private Blocking.Session openSession(Context.Key<Stage.Session> key, Supplier<CompletionStage<Stage.Session>> open) {
+		final BlockingExecutor executor = new BlockingExecutor( vertxInstance.getVertx() );
+		final Stage.Session session = executor.await( () -> open.get()
+				.thenApply( s -> {
+					context.put( key, s );
+					return s;
+				} ) );
+		return new BlockingSessionImpl( session, executor, () -> context.remove( key ) );
+	}
+
+	@Override
+	public <T> T withSession(Function<Blocking.Session, T> work) {
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		try ( Blocking.Session session = openSession() ) {
+			return work.apply( session );
+		}
+	}
+
+	@Override
+	public <T> T withTransaction(Function<Blocking.Session, T> work) {
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		return withSession( session -> session.withTransaction( tx -> work.apply( session ) ) );
+	}
+
+	@Override
+	public Stage.SessionFactory getReactiveSessionFactory() {
+		return delegate;
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+}
@@ -0,0 +1,177 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+import jakarta.persistence.metamodel.Attribute;
+
+import static org.hibernate.reactive.blocking.impl.BlockingExecutor.join;
+
+/**
+ * Implements the {@link Blocking.Session} API, delegating to a
+ * {@link Stage.Session}. Every operation is executed on the Vert.x
+ * context of the session.
+ */
+public class BlockingSessionImpl implements Blocking.Session {
+
+	private final Stage.Session delegate;
+	private final BlockingExecutor executor;
+	private final Runnable onClose;
+
+	BlockingSessionImpl(Stage.Session delegate, BlockingExecutor executor, Runnable onClose) {
+		this.delegate = delegate;
+		this.executor = executor;
+		this.onClose = onClose;
+	}
+
+	@Override
+	public <T> T find(Class<T> entityClass, Object id) {
+		return executor.await( () -> delegate.find( entityClass, id ) );
+	}
+
+	@Override
+	public <T> T find(Class<T> entityClass, Object id, LockMode lockMode) {
+		return executor.await( () -> delegate.find( entityClass, id, lockMode ) );
+	}
+
+	@Override
+	public <T> List<T> find(Class<T> entityClass, Object... ids) {
+		return executor.await( () -> delegate.find( entityClass, ids ) );
+	}
+
+	@Override
+	public <T> T getReference(Class<T> entityClass, Object id) {
+		return executor.call( () -> delegate.getReference( entityClass, id ) );
+	}
+
+	@Override
+	public void persist(Object entity) {
+		executor.await( () -> delegate.persist( entity ) );
+	}
+
+	@Override
+	public void persist(Object... entities) {
+		executor.await( () -> delegate.persist( entities ) );
+	}
+
+	@Override
+	public <T> T merge(T entity) {
+		return executor.await( () -> delegate.merge( entity ) );
+	}
+
+	@Override
+	public void remove(Object entity) {
+		executor.await( () -> delegate.remove( entity ) );
+	}
+
+	@Override
+	public void refresh(Object entity) {
+		executor.await( () -> delegate.refresh( entity ) );
+	}
+
+	@Override
+	public void lock(Object entity, LockMode lockMode) {
+		executor.await( () -> delegate.lock( entity, lockMode ) );
+	}
+
+	@Override
+	public <T> T fetch(T association) {
+		return executor.await( () -> delegate.fetch( association ) );
+	}
+
+	@Override
+	public <E, T> void fetchAll(Collection<E> entities, Attribute<E, T> field) {
+		executor.await( () -> delegate.fetchAll( entities, field ) );
+	}
+
+	@Override
+	public void flush() {
+		executor.await( delegate::flush );
+	}
+
+	@Override
+	public boolean contains(Object entity) {
+		return executor.call( () -> delegate.contains( entity ) );
+	}
+
+	@Override
+	public void detach(Object entity) {
+		executor.call( () -> delegate.detach( entity ) );
+	}
+
+	@Override
+	public void clear() {
+		executor.call( delegate::clear );
+	}
+
+	@Override
+	public <R> Blocking.SelectionQuery<R> createSelectionQuery(String queryString, Class<R> resultType) {
+		return new BlockingSelectionQueryImpl<>( executor.call( () -> delegate.createSelectionQuery( queryString, resultType ) ), executor );
+	}
+
+	@Override
+	public Blocking.MutationQuery createMutationQuery(String queryString) {
+		return new BlockingMutationQueryImpl( executor.call( () -> delegate.createMutationQuery( queryString ) ), executor );
+	}
+
+	@Override
+	public <R> Blocking.SelectionQuery<R> createNativeQuery(String queryString, Class<R> resultType) {
+		return new BlockingSelectionQueryImpl<>( executor.call( () -> delegate.createNativeQuery( queryString, resultType ) ), executor );
+	}
+
+	@Override
+	public <T> T withTransaction(Function<Stage.Transaction, T> work) {
+		final CompletableFuture<Stage.Transaction> begun = new CompletableFuture<>();
+		final CompletableFuture<T> outcome = new CompletableFuture<>();
+		final CompletableFuture<T> transaction = executor.submit( () -> delegate
+				.withTransaction( tx -> {
+					begun.complete( tx );
+					return outcome;
+				} ) );
+		// If the transaction can't be started, the work is never executed
+		transaction.whenComplete( (r, e) -> begun.complete( null ) );
+
+		final Stage.Transaction tx = join( begun );
+		if ( tx != null ) {
+			// The work is executed by the calling thread, but the outcome must be
+			// signalled on the Vert.x context, where the transaction completes
+			try {
+				final T result = work.apply( tx );
+				executor.execute( () -> outcome.complete( result ) );
+			}
+			catch (Throwable t) {
+				executor.execute( () -> outcome.completeExceptionally( t ) );
+			}
+		}
+		return join( transaction );
+	}
+
+	@Override
+	public Stage.Session getReactiveSession() {
+		return delegate;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
+	@Override
+	public void close() {
+		executor.await( () -> {
+			onClose.run();
+			return delegate.close();
+		} );
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * A blocking API for Hibernate Reactive, for use from threads which
+ * can wait cheaply, for example, virtual threads. The operations are
+ * still executed on the Vert.x event loop.
+ *
+ * @see org.hibernate.reactive.blocking.Blocking
+ */
+package org.hibernate.reactive.blocking;
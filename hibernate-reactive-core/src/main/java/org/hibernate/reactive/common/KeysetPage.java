@@ -0,0 +1,117 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.query.Order;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A page of query results for keyset (or "seek") pagination. Instead of
+ * skipping the results of the previous pages with an offset, the query
+ * is restricted to the results which come after the last result of the
+ * previous page, according to the {@linkplain #getKeyDefinition() key}.
+ * The cost of fetching a page does not depend on how deep it is.
+ * <p>
+ * The key is a list of {@linkplain Order orderings} by attributes of the
+ * entity returned by the query, and the combination of their values must
+ * be unique. Usually, the last ordering is by the identifier.
+ * <pre>{@code
+ * KeysetPage<Book> first = KeysetPage.first( 20, asc( Book_.title ), asc( Book_.isbn ) );
+ * session.createSelectionQuery( "from Book", Book.class )
+ *         .getKeysetResultList( first )
+ *         .chain( books -> ... books.getNextPage() ... )
+ * }</pre>
+ *
+ * @param <R> the entity type returned by the query
+ *
+ * @see KeysetResultList
+ */
+@Incubating
+public final class KeysetPage<R> {
+
+	private final List<Order<? super R>> keyDefinition;
+	private final int size;
+	private final List<?> key;
+
+	private KeysetPage(List<Order<? super R>> keyDefinition, int size, List<?> key) {
+		if ( size <= 0 ) {
+			throw new IllegalArgumentException( "Page size must be greater than zero" );
+		}
+		requireNonNull( keyDefinition, "Key definition must not be null" );
+		if ( keyDefinition.isEmpty() ) {
+			throw new IllegalArgumentException( "Key definition must not be empty" );
+		}
+		if ( key != null && key.size() != keyDefinition.size() ) {
+			throw new IllegalArgumentException( "Key has " + key.size() + " values, but the key definition has "
+					+ keyDefinition.size() + " orderings" );
+		}
+		this.keyDefinition = unmodifiableList( keyDefinition );
+		this.size = size;
+		this.key = key == null ? null : unmodifiableList( key );
+	}
+
+	/**
+	 * The first page of results of the given size, ordered by the given key.
+	 */
+	public static <R> KeysetPage<R> first(int size, List<Order<? super R>> keyDefinition) {
+		return new KeysetPage<>( List.copyOf( keyDefinition ), size, null );
+	}
+
+	/**
+	 * The first page of results of the given size, ordered by the given key.
+	 */
+	@SafeVarargs
+	public static <R> KeysetPage<R> first(int size, Order<? super R>... keyDefinition) {
+		return new KeysetPage<>( List.of( keyDefinition ), size, null );
+	}
+
+	/**
+	 * The page of results of the same size and key definition as this one,
+	 * which begins after the result with the given key values.
+	 *
+	 * @param key the values of the key of the last result of the previous
+	 *            page, in the same order as the {@link #getKeyDefinition()}
+	 */
+	public KeysetPage<R> after(List<?> key) {
+		return new KeysetPage<>( keyDefinition, size, requireNonNull( key, "Key must not be null" ) );
+	}
+
+	/**
+	 * The orderings which define the key.
+	 */
+	public List<Order<? super R>> getKeyDefinition() {
+		return keyDefinition;
+	}
+
+	/**
+	 * The maximum number of results in the page.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * The values of the key of the last result of the previous page,
+	 * or {@code null} if this is the first page.
+	 */
+	public List<?> getKey() {
+		return key;
+	}
+
+	public boolean isFirstPage() {
+		return key == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPage{" + "keyDefinition=" + keyDefinition + ", size=" + size + ", key=" + key + '}';
+	}
+}
@@ -0,0 +1,56 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a query for a {@link KeysetPage}, with the
+ * page which comes after it.
+ *
+ * @param <R> the entity type returned by the query
+ */
+@Incubating
+public final class KeysetResultList<R> {
+
+	private final List<R> resultList;
+	private final KeysetPage<R> page;
+	private final KeysetPage<R> nextPage;
+
+	public KeysetResultList(List<R> resultList, KeysetPage<R> page, KeysetPage<R> nextPage) {
+		this.resultList = resultList;
+		this.page = page;
+		this.nextPage = nextPage;
+	}
+
+	/**
+	 * The results in this page.
+	 */
+	public List<R> getResultList() {
+		return resultList;
+	}
+
+	/**
+	 * The page which was requested.
+	 */
+	public KeysetPage<R> getPage() {
+		return page;
+	}
+
+	/**
+	 * The page which comes after this one, or {@code null}
+	 * if this is the last page.
+	 */
+	public KeysetPage<R> getNextPage() {
+		return nextPage;
+	}
+
+	public boolean isLastPage() {
+		return nextPage == null;
+	}
+}
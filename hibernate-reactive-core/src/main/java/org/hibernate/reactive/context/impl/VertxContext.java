@@ -13,6 +13,7 @@
 import org.hibernate.reactive.context.Context;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -28,10 +29,12 @@ public class VertxContext implements Context, ServiceRegistryAwareService {
 	private static final boolean trace = LOG.isTraceEnabled();
 
 	private VertxInstance vertxInstance;
+	private ReactiveStatisticsImpl statistics;
 
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		vertxInstance = serviceRegistry.getService( VertxInstance.class );
+		statistics = ReactiveStatisticsImpl.of( serviceRegistry );
 	}
 
 	@Override
@@ -84,6 +87,7 @@ public void execute(Runnable runnable) {
 			ContextInternal newContextInternal = (ContextInternal) newContext;
 			final ContextInternal duplicate = newContextInternal.duplicate();
 			if ( trace ) LOG.tracef( "Using duplicated context from VertxInstance: %s", duplicate );
+			statistics.contextSwitched();
 			duplicate.runOnContext( x -> runnable.run() );
 		}
 		else {
@@ -8,22 +8,30 @@
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
-import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 
 /**
  * Add reactive methods to a {@link PersistenceContext}.
@@ -32,6 +40,8 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 
 	private HashMap<Serializable, Object[]> entitySnapshotsByKey;
 
+	private List<Object> addedEntities;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -44,19 +54,50 @@ public ReactivePersistenceContextAdapter(SharedSessionContractImplementor sessio
 	public CompletionStage<Void> reactiveInitializeNonLazyCollections() throws HibernateException {
 		final NonLazyCollectionInitializer initializer = new NonLazyCollectionInitializer();
 		initializeNonLazyCollections( initializer );
-		return initializer.stage;
+		return initializer.initialize();
 	}
 
+	/**
+	 * Collects the uninitialized non-lazy collections, and then initializes
+	 * them one after the other. When there are several collections of a role
+	 * which would otherwise be loaded by a select for each owner, as happens
+	 * with an EAGER {@code @ElementCollection} of the entities returned by a
+	 * query, the collections of that role are all loaded by a single batch
+	 * load instead.
+	 */
 	private class NonLazyCollectionInitializer implements Consumer<PersistentCollection<?>> {
-		CompletionStage<Void> stage = voidFuture();
+		private final List<PersistentCollection<?>> collections = new ArrayList<>();
+		private final Map<CollectionPersister, Set<Object>> keysByPersister = new HashMap<>();
 
 		@Override
 		public void accept(PersistentCollection<?> nonLazyCollection) {
 			if ( !nonLazyCollection.wasInitialized() ) {
-				stage = stage.thenCompose( v -> ( (ReactiveSession) getSession() )
-						.reactiveInitializeCollection( nonLazyCollection, false ) );
+				collections.add( nonLazyCollection );
+				final CollectionEntry entry = getCollectionEntry( nonLazyCollection );
+				if ( entry != null && entry.getLoadedPersister() instanceof ReactiveAbstractCollectionPersister ) {
+					keysByPersister.computeIfAbsent( entry.getLoadedPersister(), persister -> new LinkedHashSet<>() )
+							.add( entry.getLoadedKey() );
+				}
 			}
 		}
+
+		CompletionStage<Void> initialize() {
+			return loop( collections, collection -> !collection.wasInitialized(), collection -> {
+				final CollectionEntry entry = getCollectionEntry( collection );
+				final Set<Object> keys = entry == null ? null : keysByPersister.remove( entry.getLoadedPersister() );
+				if ( keys != null && keys.size() > 1 ) {
+					final ReactiveAbstractCollectionPersister persister =
+							(ReactiveAbstractCollectionPersister) entry.getLoadedPersister();
+					// collections which are batch or subselect fetched are already
+					// loaded together, and the initialization of cached collections
+					// must go through the second-level cache
+					if ( !persister.hasCache() && persister.isLoadedBySingleKey( entry.getLoadedKey(), getSession() ) ) {
+						return persister.reactiveInitialize( keys.toArray(), getSession() );
+					}
+				}
+				return ( (ReactiveSession) getSession() ).reactiveInitializeCollection( collection, false );
+			} );
+		}
 	}
 
 	/**
@@ -118,6 +159,26 @@ public void clear() {
 		entitySnapshotsByKey = null;
 	}
 
+	/**
+	 * Record every entity subsequently added to this persistence context
+	 * in the given list, or stop recording if the list is {@code null}.
+	 *
+	 * @return the list which was previously recording entities, if any
+	 */
+	public List<Object> recordAddedEntities(List<Object> entities) {
+		final List<Object> previous = addedEntities;
+		addedEntities = entities;
+		return previous;
+	}
+
+	@Override
+	public void addEntity(EntityKey key, Object entity) {
+		super.addEntity( key, entity );
+		if ( addedEntities != null ) {
+			addedEntities.add( entity );
+		}
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		Object result = super.removeEntity(key);
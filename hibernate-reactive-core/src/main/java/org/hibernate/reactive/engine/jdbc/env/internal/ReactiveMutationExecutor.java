@@ -191,7 +191,8 @@ default CompletionStage<Void> performReactiveNonBatchedMutation(
 		}
 
 		// If we get here the statement is needed - make sure it is resolved
-		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+		final int parameterCount = statementDetails.getMutationOperation().getParameterBinders().size();
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount, statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
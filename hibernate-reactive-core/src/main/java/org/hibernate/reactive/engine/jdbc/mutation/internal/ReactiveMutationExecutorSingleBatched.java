@@ -61,7 +61,8 @@ public CompletionStage<Void> performReactiveBatchedOperations(
 		}
 
 		// If we get here the statement is needed - make sure it is resolved
-		Object[] paramValues = PreparedStatementAdaptor.bind(statement -> {
+		final int parameterCount = statementDetails.getMutationOperation().getParameterBinders().size();
+		Object[] paramValues = PreparedStatementAdaptor.bind( parameterCount, statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
@@ -243,7 +243,8 @@ public CompletionStage<Void> performReactiveNonBatchedMutation(
 			);
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+		final int parameterCount = statementDetails.getMutationOperation().getParameterBinders().size();
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount, statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
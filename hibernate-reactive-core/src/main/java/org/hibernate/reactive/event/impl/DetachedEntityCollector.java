@@ -0,0 +1,188 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.event.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Collects the identifiers of the detached entities reachable from
+ * the instances passed to {@code merge()}, following the associations
+ * with {@link CascadingActions#MERGE cascade merge}, grouped by the
+ * root entity type. This allows all the entities which are going to
+ * be merged to be loaded with one multi-id load per entity type,
+ * before the merge itself, instead of one select for each entity.
+ * <p>
+ * Only the entities which are neither managed nor obviously transient
+ * are collected. Uninitialized proxies, collections, and lazy attributes
+ * are ignored, since the merge ignores them as well.
+ *
+ * @see DefaultReactiveMergeEventListener#entityIsDetached
+ */
+public final class DetachedEntityCollector {
+
+	private final EventSource source;
+	private final PersistenceContext persistenceContext;
+	private final Map<EntityPersister, Set<Object>> idsByPersister = new LinkedHashMap<>();
+	private final Set<Object> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+	private final Deque<Object> pending = new ArrayDeque<>();
+
+	private DetachedEntityCollector(EventSource source) {
+		this.source = source;
+		this.persistenceContext = source.getPersistenceContextInternal();
+	}
+
+	/**
+	 * @param source the session
+	 * @param entities the entities to be merged
+	 * @param minBatchSize the minimum number of detached entities of the same
+	 *                     type worth loading together
+	 *
+	 * @return the identifiers of the detached entities, for each root entity type
+	 * with at least {@code minBatchSize} of them
+	 */
+	public static Map<EntityPersister, List<Object>> collect(EventSource source, Object[] entities, int minBatchSize) {
+		if ( entities.length < minBatchSize && !cascadeMerge( source, entities ) ) {
+			// There can't be enough detached entities: don't traverse them
+			return Collections.emptyMap();
+		}
+		final DetachedEntityCollector collector = new DetachedEntityCollector( source );
+		for ( Object entity : entities ) {
+			collector.add( entity );
+		}
+		collector.collectAll();
+
+		final Map<EntityPersister, List<Object>> result = new LinkedHashMap<>();
+		for ( Map.Entry<EntityPersister, Set<Object>> entry : collector.idsByPersister.entrySet() ) {
+			if ( entry.getValue().size() >= minBatchSize ) {
+				result.put( entry.getKey(), new ArrayList<>( entry.getValue() ) );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return whether any of the given entities has an association with cascade merge
+	 */
+	private static boolean cascadeMerge(EventSource source, Object[] entities) {
+		for ( Object entity : entities ) {
+			if ( entity != null ) {
+				// don't initialize a proxy just to find its type
+				final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entity );
+				final EntityPersister persister = lazyInitializer == null
+						? source.getFactory().getMappingMetamodel().findEntityDescriptor( entity.getClass() )
+						: source.getFactory().getMappingMetamodel().findEntityDescriptor( lazyInitializer.getEntityName() );
+				if ( persister != null && persister.hasCascades() ) {
+					final Type[] types = persister.getPropertyTypes();
+					final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+					for ( int i = 0; i < types.length; i++ ) {
+						if ( types[i].isAssociationType() && cascadeStyles[i].doCascade( CascadingActions.MERGE ) ) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private void add(Object value) {
+		if ( value != null ) {
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( value );
+			if ( lazyInitializer == null ) {
+				if ( Hibernate.isInitialized( value ) ) {
+					pending.add( value );
+				}
+			}
+			else if ( !lazyInitializer.isUninitialized() ) {
+				pending.add( lazyInitializer.getImplementation() );
+			}
+		}
+	}
+
+	private void collectAll() {
+		Object entity;
+		while ( ( entity = pending.poll() ) != null ) {
+			if ( visited.add( entity ) ) {
+				// leave the reporting of anything unexpected to the merge itself
+				final EntityPersister persister = source.getFactory().getMappingMetamodel()
+						.findEntityDescriptor( entity.getClass() );
+				if ( persister != null ) {
+					if ( persistenceContext.getEntry( entity ) == null ) {
+						addIfDetached( entity, persister );
+					}
+					if ( persister.hasCascades() ) {
+						addCascadedValues( entity, persister );
+					}
+				}
+			}
+		}
+	}
+
+	private void addIfDetached(Object entity, EntityPersister persister) {
+		final Object id = persister.getIdentifier( entity, source );
+		if ( id != null
+				&& persistenceContext.getEntity( source.generateEntityKey( id, persister ) ) == null
+				&& !Boolean.TRUE.equals( persister.isTransient( entity, source ) ) ) {
+			// we must clone embedded composite identifiers, as in entityIsDetached()
+			final Object clonedId = persister.getIdentifierType().deepCopy( id, source.getFactory() );
+			idsByPersister
+					.computeIfAbsent( persister.getRootEntityDescriptor().getEntityPersister(), p -> new LinkedHashSet<>() )
+					.add( clonedId );
+		}
+	}
+
+	private void addCascadedValues(Object entity, EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		final Object[] values = persister.getValues( entity );
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value != null
+					&& value != LazyPropertyInitializer.UNFETCHED_PROPERTY
+					&& cascadeStyles[i].doCascade( CascadingActions.MERGE ) ) {
+				if ( types[i].isEntityType() ) {
+					add( value );
+				}
+				else if ( types[i].isCollectionType() ) {
+					addElements( value, (CollectionType) types[i] );
+				}
+			}
+		}
+	}
+
+	private void addElements(Object collection, CollectionType type) {
+		if ( collection != CollectionType.UNFETCHED_COLLECTION
+				&& Hibernate.isInitialized( collection )
+				&& type.getElementType( source.getFactory() ).isEntityType() ) {
+			final Iterator<?> elements = type.getElementsIterator( collection );
+			while ( elements.hasNext() ) {
+				add( elements.next() );
+			}
+		}
+	}
+}
@@ -10,8 +10,10 @@
 import io.vertx.core.net.impl.pool.CombinerExecutor;
 import io.vertx.core.net.impl.pool.Executor;
 import io.vertx.core.net.impl.pool.Task;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.util.Objects;
@@ -90,7 +92,7 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSuppl
 		//if it were to happen we should be better off with direct execution rather than using
 		//the co-operative executor:
 		if ( getBlockSize() <= 1 ) {
-			return nextHiValue( connectionSupplier )
+			return refill( connectionSupplier )
 					.thenApply( i -> next( i ) );
 		}
 
@@ -103,6 +105,7 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSuppl
 			//Need to be careful in resuming processing on the same context as the original
 			//request, potentially having to switch back if we're no longer executing on the same:
 			if ( newContext != context ) {
+				statistics( connectionSupplier ).contextSwitched();
 				if ( t != null ) {
 					context.runOnContext( ( v ) -> resultForThisEventLoop.completeExceptionally( t ) );
 				} else {
@@ -120,6 +123,20 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSuppl
 		return resultForThisEventLoop;
 	}
 
+	/**
+	 * Allocate a new block, recording it in the statistics
+	 */
+	private CompletionStage<Long> refill(ReactiveConnectionSupplier connectionSupplier) {
+		statistics( connectionSupplier ).identifierBlockRefilled();
+		return nextHiValue( connectionSupplier );
+	}
+
+	private static ReactiveStatisticsImpl statistics(ReactiveConnectionSupplier connectionSupplier) {
+		return connectionSupplier instanceof SharedSessionContractImplementor
+				? ReactiveStatisticsImpl.of( (SharedSessionContractImplementor) connectionSupplier )
+				: ReactiveStatisticsImpl.DISABLED;
+	}
+
 	private final class GenerateIdAction implements Executor.Action<GeneratorState> {
 
 		private final ReactiveConnectionSupplier connectionSupplier;
@@ -141,7 +158,7 @@ public Task execute(GeneratorState state) {
 						.whenComplete( this::acceptAsReturnValue );
 				return null;
 			} else {
-				nextHiValue( connectionSupplier )
+				refill( connectionSupplier )
 						.whenComplete( (newlyGeneratedHi, throwable) -> {
 							if ( throwable != null ) {
 								result.completeExceptionally( throwable );
@@ -122,6 +122,18 @@ public CompletionStage<PersistentCollection<?>> reactiveLoad(Object key, SharedS
 				} );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLoadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] keysToInitialize = (Object[]) Array.newInstance( arrayElementType, keys.length );
+		System.arraycopy( keys, 0, keysToInitialize, 0, keys.length );
+		return initializeKeys( keysToInitialize, session )
+				.thenAccept( v -> {
+					for ( int i = 0; i < keysToInitialize.length; i++ ) {
+						finishInitializingKey( keysToInitialize[i], session );
+					}
+				} );
+	}
+
 	private Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
 		final Object[] keysToInitialize = (Object[]) Array.newInstance( arrayElementType, getDomainBatchSize() );
 		session.getPersistenceContextInternal().getBatchFetchQueue().collectBatchLoadableCollectionKeys(
@@ -27,6 +27,7 @@
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * @see org.hibernate.loader.ast.internal.CollectionBatchLoaderInPredicate
@@ -127,6 +128,14 @@ public CompletionStage<PersistentCollection<?>> reactiveLoad(Object key, SharedS
 				} );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLoadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		if ( keys.length == 0 ) {
+			return voidFuture();
+		}
+		return initializeKeys( keys[0], keys, keys.length, session );
+	}
+
 	private void prepareSingleKeyLoaderIfNeeded() {
 		if ( singleKeyLoader == null ) {
 			singleKeyLoader = new ReactiveCollectionLoaderSingleKey( getLoadable(), getInfluencers(), getSessionFactory() );
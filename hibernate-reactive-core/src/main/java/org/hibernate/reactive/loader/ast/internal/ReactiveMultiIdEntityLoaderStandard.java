@@ -12,6 +12,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -40,11 +41,12 @@
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
+import org.hibernate.reactive.sql.results.internal.ReactiveDeferredResultSetAccess;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
-import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
@@ -53,7 +55,6 @@
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
-import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
  * @see org.hibernate.loader.ast.internal.MultiIdEntityLoaderStandard
@@ -103,6 +104,7 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 						getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled()
 				);
 
+		final List<List<Object>> batches = new ArrayList<>();
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
@@ -159,28 +161,24 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 			// load the entity state.
 			idsInBatch.add( id );
 
-			CompletionStage<Void> loopResult = voidFuture();
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				// we've hit the allotted max-batch-size, perform an "intermediate load"
-				loopResult = loadEntitiesById( idsInBatch, lockOptions, session )
-						.thenAccept( v -> idsInBatch.clear() );
-
+				// we've hit the allotted max-batch-size, the batch is loaded with the others below
+				batches.add( new ArrayList<>( idsInBatch ) );
+				idsInBatch.clear();
 			}
 
-			return loopResult.thenAccept( v -> {
-				// Save the EntityKey instance for use later!
-				// todo (6.0) : see below wrt why `elementPositionsLoadedByBatch` probably isn't needed
-				result.add( i, entityKey );
-				elementPositionsLoadedByBatch.add( i );
-			} );
+			// Save the EntityKey instance for use later!
+			// todo (6.0) : see below wrt why `elementPositionsLoadedByBatch` probably isn't needed
+			result.add( i, entityKey );
+			elementPositionsLoadedByBatch.add( i );
+			return voidFuture();
 		} ).thenCompose( v -> {
 			if ( !idsInBatch.isEmpty() ) {
-				// we still have ids to load from the processing above since the last max-batch-size trigger,
-				// perform a load for them
-				return loadEntitiesById( idsInBatch, lockOptions, session )
-						.thenCompose( CompletionStages::voidFuture );
+				// we still have ids to load from the processing above since the last max-batch-size trigger
+				batches.add( idsInBatch );
 			}
-			return voidFuture();
+			// the loaded entities are in the persistence context, we fetch them below
+			return loadEntitiesById( batches, lockOptions, session, loaded -> {} );
 		} ).thenApply( v -> {
 			// for each result where we set the EntityKey earlier, replace them
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -205,17 +203,94 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 		} );
 	}
 
-	private CompletionStage<List<T>> loadEntitiesById(
+	/**
+	 * Load the given batches of ids, in order. The queries for the batches
+	 * following the one being processed are sent to the database in advance,
+	 * up to {@link ReactiveMultiKeyLoadChunker#MAX_PIPELINED_CHUNKS} of them,
+	 * so that they are pipelined on the connection, when the database client
+	 * supports it, instead of paying a round trip for each batch.
+	 *
+	 * @param resultConsumer receives the entities loaded by each batch, in order
+	 */
+	private CompletionStage<Void> loadEntitiesById(
+			List<List<Object>> batches,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session,
+			Consumer<List<T>> resultConsumer) {
+		final List<BatchLoad> loads = new ArrayList<>( Collections.nCopies( batches.size(), null ) );
+		return loop( 0, batches.size(), i -> {
+			final int pipelined = Math.min( batches.size(), i + ReactiveMultiKeyLoadChunker.MAX_PIPELINED_CHUNKS );
+			for ( int j = i; j < pipelined; j++ ) {
+				if ( loads.get( j ) == null && batches.get( j ).size() > 1 ) {
+					loads.set( j, createBatchLoad( batches.get( j ), lockOptions, session ).prefetch() );
+				}
+			}
+			final CompletionStage<List<T>> loaded = loads.get( i ) == null
+					? performSingleMultiLoad( batches.get( i ).get( 0 ), lockOptions, session )
+					: loads.get( i ).list();
+			// Allow the results to be garbage collected
+			loads.set( i, null );
+			return loaded.thenAccept( resultConsumer );
+		} )
+				.whenComplete( (v, throwable) -> {
+					if ( throwable != null ) {
+						// The batches sent in advance are never going to be loaded
+						for ( BatchLoad load : loads ) {
+							if ( load != null ) {
+								load.discard();
+							}
+						}
+					}
+				} );
+	}
+
+	/**
+	 * The query loading a single batch of ids, sent to the database in advance
+	 */
+	private class BatchLoad {
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final ExecutionContext executionContext;
+		private ReactiveDeferredResultSetAccess prefetched;
+
+		private BatchLoad(
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext) {
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.executionContext = executionContext;
+		}
+
+		BatchLoad prefetch() {
+			prefetched = StandardReactiveSelectExecutor.INSTANCE
+					.prefetch( jdbcSelect, jdbcParameterBindings, executionContext );
+			return this;
+		}
+
+		void discard() {
+			prefetched.discard();
+		}
+
+		CompletionStage<List<T>> list() {
+			return StandardReactiveSelectExecutor.INSTANCE.list(
+					jdbcSelect,
+					prefetched,
+					executionContext,
+					RowTransformerStandardImpl.instance(),
+					ReactiveListResultsConsumer.UniqueSemantic.FILTER
+			);
+		}
+	}
+
+	private BatchLoad createBatchLoad(
 			List<Object> idsInBatch,
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
 		assert idsInBatch != null;
-		assert !idsInBatch.isEmpty();
+		assert idsInBatch.size() > 1;
 
 		final int numberOfIdsInBatch = idsInBatch.size();
-		if ( numberOfIdsInBatch == 1 ) {
-			return performSingleMultiLoad( idsInBatch.get( 0 ), lockOptions, session );
-		}
 
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", getEntityDescriptor().getEntityName(), numberOfIdsInBatch );
@@ -274,12 +349,10 @@ private CompletionStage<List<T>> loadEntitiesById(
 			subSelectFetchableKeysHandler = null;
 		}
 
-		return StandardReactiveSelectExecutor.INSTANCE.list(
+		return new BatchLoad(
 				jdbcSelect,
 				jdbcParameterBindings,
-				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
-				RowTransformerStandardImpl.instance(),
-				ReactiveListResultsConsumer.UniqueSemantic.FILTER
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler )
 		);
 	}
 
@@ -410,21 +483,13 @@ protected CompletionStage<List<T>> performUnorderedMultiLoad(
 						getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled()
 				);
 
-		int[] idPosition = { 0 };
-
-		return whileLoop( () -> numberOfIdsLeft[0] > 0, () -> {
-			final int batchSize = Math.min( numberOfIdsLeft[0], maxBatchSize );
-
-			final Object[] idsInBatch = new Object[batchSize];
-			System.arraycopy( identifiers, idPosition[0], idsInBatch, 0, batchSize );
+		final List<List<Object>> batches = new ArrayList<>();
+		for ( int idPosition = 0; idPosition < identifiers.length; idPosition += maxBatchSize ) {
+			final int batchSize = Math.min( identifiers.length - idPosition, maxBatchSize );
+			batches.add( Arrays.asList( identifiers ).subList( idPosition, idPosition + batchSize ) );
+		}
 
-			return loadEntitiesById( Arrays.asList( idsInBatch ), lockOptions, session )
-					.thenAccept( result::addAll )
-					.thenAccept( v -> {
-						numberOfIdsLeft[0] = numberOfIdsLeft[0] - batchSize;
-						idPosition[0] += batchSize;
-					} );
-		} )
+		return loadEntitiesById( batches, lockOptions, session, result::addAll )
 				.thenApply( v -> result );
 	}
 
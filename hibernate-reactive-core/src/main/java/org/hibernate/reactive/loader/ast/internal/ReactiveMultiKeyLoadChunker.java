@@ -5,11 +5,15 @@
  */
 package org.hibernate.reactive.loader.ast.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.Bindable;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
+import org.hibernate.reactive.sql.results.internal.ReactiveDeferredResultSetAccess;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
@@ -19,8 +23,8 @@
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
-import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
  * @see org.hibernate.loader.ast.internal.MultiKeyLoadChunker
@@ -48,6 +52,12 @@ interface ChunkBoundaryListener {
 		void chunkBoundaryNotification(int startIndex, int nonNullElementCount);
 	}
 
+	/**
+	 * The maximum number of chunk queries sent to the database before
+	 * the results of the first one are processed
+	 */
+	static final int MAX_PIPELINED_CHUNKS = 8;
+
 	private final int chunkSize;
 	private final int keyColumnCount;
 	private final Bindable bindable;
@@ -72,7 +82,12 @@ public ReactiveMultiKeyLoadChunker(
 	}
 
 	/**
-	 * Process the chunks
+	 * Process the chunks.
+	 * <p>
+	 * The queries for the chunks following the one being processed are sent
+	 * to the database in advance, up to {@link #MAX_PIPELINED_CHUNKS} of them,
+	 * so that they can be pipelined on the connection. The results are still
+	 * processed one chunk at a time, in order.
 	 *
 	 * @param keys The group of keys to be initialized
 	 * @param nonNullElementCount The number of non-null values in {@code keys}, which will be
@@ -89,35 +104,51 @@ public CompletionStage<Void> processChunks(
 			ReactiveMultiKeyLoadChunker.ChunkStartListener startListener,
 			ReactiveMultiKeyLoadChunker.ChunkBoundaryListener boundaryListener,
 			SharedSessionContractImplementor session) {
-		int[] numberOfKeysLeft = { nonNullElementCount };
-		int[] start = { 0 };
-		if ( numberOfKeysLeft[0] > 0 ) {
-			return whileLoop( () -> processChunk(
-									  keys,
-									  start[0],
-									  sqlExecutionContextCreator,
-									  keyCollector,
-									  startListener,
-									  boundaryListener,
-									  session
-							  )
-					.thenApply( unused -> {
-						start[0] += chunkSize;
-						numberOfKeysLeft[0] -= chunkSize;
-						return numberOfKeysLeft[0] > 0;
-					} )
-			);
+		if ( nonNullElementCount <= 0 ) {
+			return voidFuture();
 		}
-		return voidFuture();
+		final int chunkCount = ( nonNullElementCount + chunkSize - 1 ) / chunkSize;
+		final List<Chunk> chunks = new ArrayList<>( Collections.nCopies( chunkCount, null ) );
+		return loop( 0, chunkCount, i -> {
+			final int pipelined = Math.min( chunkCount, i + MAX_PIPELINED_CHUNKS );
+			for ( int j = i; j < pipelined; j++ ) {
+				if ( chunks.get( j ) == null ) {
+					chunks.set( j, startChunk(
+							keys,
+							j * chunkSize,
+							sqlExecutionContextCreator,
+							keyCollector,
+							startListener,
+							session
+					) );
+				}
+			}
+			final Chunk chunk = chunks.get( i );
+			// Allow the results to be garbage collected
+			chunks.set( i, null );
+			return chunk.process( boundaryListener );
+		} )
+				.whenComplete( (v, throwable) -> {
+					if ( throwable != null ) {
+						// The chunks sent in advance are never going to be processed
+						for ( Chunk chunk : chunks ) {
+							if ( chunk != null ) {
+								chunk.discard();
+							}
+						}
+					}
+				} );
 	}
 
-	private CompletionStage<Void> processChunk(
+	/**
+	 * Bind the keys of the chunk and send the query to the database
+	 */
+	private Chunk startChunk(
 			K[] keys,
 			int startIndex,
 			ReactiveMultiKeyLoadChunker.SqlExecutionContextCreator sqlExecutionContextCreator,
 			ReactiveMultiKeyLoadChunker.KeyCollector<K> keyCollector,
 			ReactiveMultiKeyLoadChunker.ChunkStartListener startListener,
-			ReactiveMultiKeyLoadChunker.ChunkBoundaryListener boundaryListener,
 			SharedSessionContractImplementor session) {
 		startListener.chunkStartNotification( startIndex );
 
@@ -144,17 +175,50 @@ private CompletionStage<Void> processChunk(
 
 		if ( nonNullCounter == 0 ) {
 			// there are no non-null keys in the chunk
-			return voidFuture();
+			return new Chunk( startIndex, 0, null, null );
 		}
 
-		final int finalNonNullCounter = nonNullCounter;
-		return StandardReactiveSelectExecutor.INSTANCE.list(
-				jdbcSelect,
-				jdbcParameterBindings,
-				sqlExecutionContextCreator.createContext( jdbcParameterBindings, session ),
-				RowTransformerStandardImpl.instance(),
-				ReactiveListResultsConsumer.UniqueSemantic.FILTER
-		)
-				.thenAccept( objects -> boundaryListener.chunkBoundaryNotification( startIndex, finalNonNullCounter ) );
+		final ExecutionContext executionContext = sqlExecutionContextCreator.createContext( jdbcParameterBindings, session );
+		final ReactiveDeferredResultSetAccess prefetched = StandardReactiveSelectExecutor.INSTANCE
+				.prefetch( jdbcSelect, jdbcParameterBindings, executionContext );
+		return new Chunk( startIndex, nonNullCounter, executionContext, prefetched );
+	}
+
+	private class Chunk {
+		private final int startIndex;
+		private final int nonNullCounter;
+		private final ExecutionContext executionContext;
+		private final ReactiveDeferredResultSetAccess prefetched;
+
+		private Chunk(
+				int startIndex,
+				int nonNullCounter,
+				ExecutionContext executionContext,
+				ReactiveDeferredResultSetAccess prefetched) {
+			this.startIndex = startIndex;
+			this.nonNullCounter = nonNullCounter;
+			this.executionContext = executionContext;
+			this.prefetched = prefetched;
+		}
+
+		void discard() {
+			if ( prefetched != null ) {
+				prefetched.discard();
+			}
+		}
+
+		CompletionStage<Void> process(ReactiveMultiKeyLoadChunker.ChunkBoundaryListener boundaryListener) {
+			if ( prefetched == null ) {
+				return voidFuture();
+			}
+			return StandardReactiveSelectExecutor.INSTANCE.list(
+					jdbcSelect,
+					prefetched,
+					executionContext,
+					RowTransformerStandardImpl.instance(),
+					ReactiveListResultsConsumer.UniqueSemantic.FILTER
+			)
+					.thenAccept( objects -> boundaryListener.chunkBoundaryNotification( startIndex, nonNullCounter ) );
+		}
 	}
 }
@@ -39,11 +39,20 @@ public ReactiveSingleIdEntityLoaderStandardImpl(
 	}
 
 	@Override
-	public CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+	public void prepareDatabaseSnapshot() {
 		if ( databaseSnapshotExecutor == null ) {
 			databaseSnapshotExecutor = new DatabaseSnapshotExecutor( getLoadable(), sessionFactory );
 		}
+	}
 
+	@Override
+	public boolean isDatabaseSnapshotPrepared() {
+		return databaseSnapshotExecutor != null;
+	}
+
+	@Override
+	public CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		prepareDatabaseSnapshot();
 		return databaseSnapshotExecutor.loadDatabaseSnapshot( id, session );
 	}
 
@@ -32,11 +32,20 @@ public EntityMappingType getLoadable() {
 	}
 
 	@Override
-	public CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+	public void prepareDatabaseSnapshot() {
 		if ( databaseSnapshotExecutor == null ) {
 			databaseSnapshotExecutor = new DatabaseSnapshotExecutor( entityDescriptor, sessionFactory );
 		}
+	}
 
+	@Override
+	public boolean isDatabaseSnapshotPrepared() {
+		return databaseSnapshotExecutor != null;
+	}
+
+	@Override
+	public CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		prepareDatabaseSnapshot();
 		return databaseSnapshotExecutor.loadDatabaseSnapshot( id, session );
 	}
 }
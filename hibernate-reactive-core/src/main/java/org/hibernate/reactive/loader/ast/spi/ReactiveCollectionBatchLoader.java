@@ -5,6 +5,9 @@
  */
 package org.hibernate.reactive.loader.ast.spi;
 
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.BatchLoader;
 import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
@@ -13,4 +16,14 @@
  * @see org.hibernate.loader.ast.spi.CollectionBatchLoader
  */
 public interface ReactiveCollectionBatchLoader extends CollectionBatchLoader, BatchLoader, ReactiveCollectionLoader {
+
+	/**
+	 * Initialize the collections with the given keys, instead of the keys
+	 * collected from the {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 * The collections must already be registered with the persistence
+	 * context of the session.
+	 *
+	 * @param keys the non-null keys of the collections to initialize
+	 */
+	CompletionStage<Void> reactiveLoadKeys(Object[] keys, SharedSessionContractImplementor session);
 }
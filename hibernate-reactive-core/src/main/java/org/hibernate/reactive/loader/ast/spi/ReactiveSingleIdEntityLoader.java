@@ -30,4 +30,19 @@ default Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplemento
 	}
 
 	CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session);
+
+	/**
+	 * Create the query used by {@link #reactiveLoadDatabaseSnapshot(Object, SharedSessionContractImplementor)},
+	 * which is otherwise created lazily on first use.
+	 */
+	default void prepareDatabaseSnapshot() {
+	}
+
+	/**
+	 * Whether the query used by {@link #reactiveLoadDatabaseSnapshot(Object, SharedSessionContractImplementor)}
+	 * has been created.
+	 */
+	default boolean isDatabaseSnapshotPrepared() {
+		return true;
+	}
 }
@@ -7,6 +7,7 @@
 
 
 
+import java.nio.file.Path;
 import java.sql.SQLWarning;
 
 import jakarta.persistence.PersistenceException;
@@ -102,6 +103,10 @@ public interface Log extends BasicLogger {
 	@Message(id = 29, value = "Connection pool cleaner period: %1$d ms")
 	void connectionPoolCleanerPeriod(Integer poolCleanerPeriod);
 
+	@LogMessage(level = INFO)
+	@Message(id = 30, value = "Connection pool event loop affinity enabled, connection pool size per event loop: %1$d")
+	void connectionPoolEventLoopAffinity(int poolSize);
+
 	@Message(id = 31, value = "More than one row with the given identifier was found: %1$s, for class: %2$s")
 	HibernateException moreThanOneRowWithTheGivenIdentifier(Object id, String entityName);
 
@@ -258,6 +263,53 @@ public interface Log extends BasicLogger {
 	@Message(id = 80, value = "No results were returned by the query (you can try running it with '.executeUpdate()'): %1$s")
 	HibernateException noResultException(String sql);
 
+	@LogMessage(level = INFO)
+	@Message(id = 81, value = "Using schema snapshot [%1$s]")
+	void usingSchemaSnapshot(Path file);
+
+	@LogMessage(level = INFO)
+	@Message(id = 82, value = "Schema snapshot [%1$s] is missing or out of date, extracting schema metadata from the database")
+	void schemaSnapshotOutOfDate(Path file);
+
+	@LogMessage(level = WARN)
+	@Message(id = 83, value = "Unable to read schema snapshot [%1$s]")
+	void unableToReadSchemaSnapshot(Path file, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = 84, value = "Unable to write schema snapshot [%1$s]")
+	void unableToWriteSchemaSnapshot(Path file, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = 85, value = "Schema snapshot disabled: %1$s")
+	void schemaSnapshotDisabled(String reason);
+
+	@Message(id = 86, value = "Blocking operations cannot be executed on a Vert.x event loop thread: use the Stage or Mutiny API instead")
+	IllegalStateException blockingOperationOnEventLoop();
+
+	@Message(id = 87, value = "Query returned more than the maximum of %1$s rows allowed by the result row limit: %2$s")
+	HibernateException resultRowLimitExceeded(int resultRowLimit, String sql);
+
+	@LogMessage(level = INFO)
+	@Message(id = 88, value = "Warming up the connection pool: opening up to %1$d connections on each of %2$d event loops and preparing %3$d statements")
+	void warmingUpConnectionPool(int connections, int eventLoops, int statements);
+
+	@LogMessage(level = INFO)
+	@Message(id = 89, value = "Connection pool warmed up in %1$d ms")
+	void connectionPoolWarmedUp(long millis);
+
+	@LogMessage(level = WARN)
+	@Message(id = 90, value = "Unable to warm up the connection pool")
+	void unableToWarmUpConnectionPool(@Cause Throwable cause);
+
+	@Message(id = 91, value = "Keyset pagination is only supported for HQL and criteria queries: %1$s")
+	UnsupportedOperationException keysetPaginationNotSupported(String query);
+
+	@Message(id = 92, value = "The batch size must be greater than 0: %1$d")
+	IllegalArgumentException batchSizeMustBePositive(int batchSize);
+
+	@Message(id = 93, value = "The result of a polymorphic query against several unrelated entities can't be passed to a results consumer, for example to write it as JSON")
+	UnsupportedOperationException resultsConsumerNotSupportedForPolymorphicQuery();
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
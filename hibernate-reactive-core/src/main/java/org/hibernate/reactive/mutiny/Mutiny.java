@@ -6,6 +6,7 @@
 package org.hibernate.reactive.mutiny;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -28,13 +29,18 @@
 import org.hibernate.query.Page;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.common.Identifier;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 import org.hibernate.stat.Statistics;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
@@ -206,6 +212,48 @@ interface AbstractQuery {
 		 */
 		Uni<List<R>> getResultList();
 
+		/**
+		 * Asynchronously execute this query, returning the given page of
+		 * results using keyset pagination, together with the page which
+		 * comes after it. The query must return a single entity, and the
+		 * results are ordered by the {@linkplain KeysetPage#getKeyDefinition()
+		 * key}, instead of any ordering specified by the query itself.
+		 *
+		 * @param page the page of results to return
+		 *
+		 * @see KeysetPage
+		 */
+		@Incubating
+		Uni<KeysetResultList<R>> getKeysetResultList(KeysetPage<R> page);
+
+		/**
+		 * Execute this query, returning the query results as a JSON array
+		 * of objects, one for each row, in a stream of {@link Buffer}s of
+		 * the given number of rows. The query must return a projection of
+		 * basic values, and the names of the properties of each object are
+		 * the aliases of the selected values, or the names of the selected
+		 * attributes.
+		 * <p>
+		 * The JSON is written directly from the values read from the
+		 * database, without instantiating the results of the query, and
+		 * before any {@link jakarta.persistence.AttributeConverter} is
+		 * applied. When a {@linkplain #setFetchSize(int) fetch size} is
+		 * set and the query is executed in a transaction, the result is
+		 * read and written in chunks, and so the memory used does not
+		 * grow with the size of the result.
+		 * <p>
+		 * The query is executed when the {@link Multi} is subscribed, and
+		 * the rows of the next buffer are only read when the subscriber
+		 * requests it. If the subscription is cancelled, the query stops
+		 * reading the result.
+		 *
+		 * @param rowsPerBuffer the number of rows written to each buffer
+		 *
+		 * @return the JSON array as a {@link Multi} of {@link Buffer}s
+		 */
+		@Incubating
+		Multi<Buffer> getResultJson(int rowsPerBuffer);
+
 		/**
 		 * Set the read-only/modifiable mode for entities and proxies
 		 * loaded by this Query. This setting overrides the default setting
@@ -390,6 +438,70 @@ default SelectionQuery<R> setLockMode(String alias, LockModeType lockModeType) {
 		 */
 		SelectionQuery<R> enableFetchProfile(String profileName);
 
+		/**
+		 * Limit the number of rows this query may return, overriding the
+		 * {@linkplain org.hibernate.reactive.provider.Settings#QUERY_RESULT_ROW_LIMIT
+		 * default limit}. If the query returns more rows, it fails as soon as
+		 * the first row over the limit is received from the database. The
+		 * limit only applies to the query itself, and not to the statements
+		 * loading the associations of its results.
+		 * <p>
+		 * Unlike {@link #setMaxResults(int)}, this does not affect the SQL
+		 * executed: it guards against queries which unexpectedly return
+		 * many more rows than intended.
+		 *
+		 * @param resultRowLimit the maximum number of rows, or {@code 0} if
+		 *                       the number of rows is not limited
+		 */
+		@Incubating
+		SelectionQuery<R> setResultRowLimit(int resultRowLimit);
+
+		/**
+		 * Specify whether the entities loaded by this query should be
+		 * evicted from the session after the query completes, as if by
+		 * {@link Session#detach(Object)}. The query is executed in
+		 * {@linkplain #setReadOnly(boolean) read-only mode}, so that no
+		 * snapshot of the state of the entities is taken.
+		 * <p>
+		 * The entities are still added to the persistence context while
+		 * the result of the query is processed, and are only evicted
+		 * before the result is returned. So this option doesn't reduce
+		 * the memory needed to execute the query, but the session doesn't
+		 * hold on to the entities afterward, and a session executing many
+		 * such queries doesn't grow.
+		 * <p>
+		 * Any lazy association must be fetched by the query itself, since
+		 * it can't be fetched after the entities are evicted. Entities
+		 * which were already associated with the session are not evicted,
+		 * and the eviction doesn't cascade to the associated entities.
+		 * <p>
+		 * Disabling this option restores the read-only mode the query had
+		 * before it was enabled.
+		 *
+		 * @param evictAfterQuery {@code true} if the entities should be evicted
+		 */
+		@Incubating
+		SelectionQuery<R> setEvictAfterQuery(boolean evictAfterQuery);
+
+		/**
+		 * Set the number of rows to read from the database at a time. When
+		 * the query is executed in a transaction, its result is read in
+		 * chunks of the given size using a database cursor, and the rows of
+		 * each chunk are processed before the next chunk is read, so that
+		 * the rows of the whole result are never held in memory at once.
+		 *
+		 * @param fetchSize the number of rows in each chunk
+		 */
+		@Incubating
+		SelectionQuery<R> setFetchSize(int fetchSize);
+
+		/**
+		 * @return the fetch size, or {@code null} if not set
+		 *
+		 * @see #setFetchSize(int)
+		 */
+		Integer getFetchSize();
+
 		@Override
 		SelectionQuery<R> setParameter(int parameter, Object argument);
 
@@ -502,6 +614,15 @@ default Query<R> setLockMode(String alias, LockModeType lockModeType) {
 
 		@Override
 		Query<R> enableFetchProfile(String profileName);
+
+		@Override
+		Query<R> setResultRowLimit(int resultRowLimit);
+
+		@Override
+		Query<R> setEvictAfterQuery(boolean evictAfterQuery);
+
+		@Override
+		Query<R> setFetchSize(int fetchSize);
 	}
 
 
@@ -880,6 +1001,29 @@ default Uni<Void> lock(Object entity, LockModeType lockModeType) {
 		 */
 		<E, T> Uni<T> fetch(E entity, Attribute<E, T> field);
 
+		/**
+		 * Fetch a lazy association or property of each of the given entities,
+		 * identified by a JPA {@link Attribute attribute metamodel}.
+		 * <p>
+		 * Uninitialized collections are fetched using a single query, or a
+		 * few queries, passing the keys of all the owning entities as an
+		 * array or in an {@code in} list, and uninitialized proxies are
+		 * fetched together by identifier, even if batch fetching is not
+		 * enabled for the association.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(authors, Author_.books).map(v -> authors.get(0).getBooks().size())}
+		 * </pre>
+		 *
+		 * @param entities managed entities
+		 * @param field the attribute to fetch
+		 *
+		 * @see #fetch(Object)
+		 * @see #fetch(Object, Attribute)
+		 */
+		@Incubating
+		<E, T> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, T> field);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading,
 		 * and unwrap the underlying entity implementation from any proxy.
@@ -1790,6 +1934,47 @@ default <T> Uni<T> get(Class<T> entityClass, Object id, LockModeType lockModeTyp
 		@Incubating
 		Uni<Void> upsert(String entityName, Object entity);
 
+		/**
+		 * Use a SQL {@code merge into} statement, or the equivalent
+		 * {@code insert ... on conflict} statement of the database,
+		 * to perform an upsert of multiple rows. The statements are
+		 * sent to the database in batches, when batching is enabled.
+		 *
+		 * @param entities detached entity instances
+		 *
+		 * @see org.hibernate.StatelessSession#upsert(Object)
+		 */
+		@Incubating
+		Uni<Void> upsertAll(Object... entities);
+
+		/**
+		 * Use a SQL {@code merge into} statement, or the equivalent
+		 * {@code insert ... on conflict} statement of the database,
+		 * to perform an upsert of multiple rows, using the specified
+		 * batch size.
+		 *
+		 * @param batchSize the batch size
+		 * @param entities detached entity instances
+		 *
+		 * @see org.hibernate.StatelessSession#upsert(Object)
+		 */
+		@Incubating
+		Uni<Void> upsertAll(int batchSize, Object... entities);
+
+		/**
+		 * Perform an upsert of every entity emitted by the given
+		 * {@link Multi}, using the specified batch size. The entities
+		 * are requested from the {@code Multi} one batch at a time,
+		 * so the stream doesn't have to fit in memory.
+		 *
+		 * @param batchSize the batch size, greater than 0
+		 * @param entities a stream of detached entity instances
+		 *
+		 * @see #upsertAll(int, Object...)
+		 */
+		@Incubating
+		Uni<Void> upsertAll(int batchSize, Multi<?> entities);
+
 		/**
 		 * Refresh the entity instance state from the database.
 		 *
@@ -2268,6 +2453,34 @@ default <T> Uni<T> withStatelessTransaction(Function<StatelessSession, Uni<T>> w
 		 */
 		Statistics getStatistics();
 
+		/**
+		 * Obtain the {@link ReactiveStatistics} object exposing metrics
+		 * specific to reactive database access, like the time spent
+		 * waiting for connections and for the database.
+		 */
+		@Incubating
+		ReactiveStatistics getReactiveStatistics();
+
+		/**
+		 * Obtain a {@link Uni} which completes when the connection pool is
+		 * ready to serve the first requests without delay, after it has
+		 * opened its initial connections. If they can't be opened, it
+		 * completes when a later attempt succeeds.
+		 *
+		 * @see org.hibernate.reactive.provider.Settings#POOL_WARM_UP_SIZE
+		 */
+		@Incubating
+		Uni<Void> whenReady();
+
+		/**
+		 * Determine if the connection pool is ready to serve the first
+		 * requests without delay, for a readiness check.
+		 *
+		 * @see #whenReady()
+		 */
+		@Incubating
+		boolean isReady();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
@@ -0,0 +1,122 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.mutiny.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.context.Context;
+
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * A {@link io.smallrye.mutiny.Uni} which subscribes to the
+ * {@link CompletionStage} obtained from a supplier on the given
+ * {@link Context}. It's equivalent to
+ * {@code Uni.createFrom().completionStage(supplier).runSubscriptionOn(context)},
+ * but it creates a single subscription object, and it emits the
+ * result of a stage which is already successfully completed without
+ * registering a callback. Cancelling the subscription cancels the
+ * stage, as {@code Uni.createFrom().completionStage()} does.
+ * <p>
+ * The {@link Context} itself already runs the subscription inline
+ * when we are on a Vert.x context.
+ */
+final class ContextualStageUni<T> extends AbstractUni<T> {
+
+	private final Supplier<? extends CompletionStage<? extends T>> stageSupplier;
+	private final Context context;
+
+	ContextualStageUni(Supplier<? extends CompletionStage<? extends T>> stageSupplier, Context context) {
+		this.stageSupplier = stageSupplier;
+		this.context = context;
+	}
+
+	@Override
+	public void subscribe(UniSubscriber<? super T> subscriber) {
+		final StageSubscription<T> subscription = new StageSubscription<>( subscriber );
+		context.execute( () -> subscription.run( stageSupplier ) );
+	}
+
+	private static final class StageSubscription<T> implements UniSubscription, BiConsumer<T, Throwable> {
+
+		private final UniSubscriber<? super T> downstream;
+		private volatile boolean cancelled;
+		private volatile CompletionStage<T> stage;
+
+		StageSubscription(UniSubscriber<? super T> downstream) {
+			this.downstream = downstream;
+		}
+
+		@SuppressWarnings("unchecked")
+		void run(Supplier<? extends CompletionStage<? extends T>> stageSupplier) {
+			downstream.onSubscribe( this );
+			if ( cancelled ) {
+				return;
+			}
+
+			final CompletionStage<T> stage;
+			try {
+				stage = (CompletionStage<T>) stageSupplier.get();
+				if ( stage == null ) {
+					throw new NullPointerException( "The supplier returned a null CompletionStage" );
+				}
+			}
+			catch (Throwable t) {
+				downstream.onFailure( t );
+				return;
+			}
+			this.stage = stage;
+			if ( cancelled ) {
+				// cancelled while the stage was being created
+				cancelStage( stage );
+				return;
+			}
+
+			if ( stage instanceof CompletableFuture ) {
+				final CompletableFuture<T> future = (CompletableFuture<T>) stage;
+				if ( future.isDone() && !future.isCompletedExceptionally() ) {
+					// the common case of a stage which completed synchronously
+					downstream.onItem( future.getNow( null ) );
+					return;
+				}
+			}
+			stage.whenComplete( this );
+		}
+
+		@Override
+		public void accept(T item, Throwable failure) {
+			if ( !cancelled ) {
+				if ( failure != null ) {
+					downstream.onFailure( failure instanceof CompletionException && failure.getCause() != null
+							? failure.getCause()
+							: failure );
+				}
+				else {
+					downstream.onItem( item );
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			final CompletionStage<T> current = stage;
+			if ( current != null ) {
+				cancelStage( current );
+			}
+		}
+
+		private static void cancelStage(CompletionStage<?> stage) {
+			stage.toCompletableFuture().cancel( false );
+		}
+	}
+}
@@ -0,0 +1,283 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.mutiny.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.DialectDelegateWrapper;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.context.impl.BaseKey;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Coalesces the units of work submitted concurrently to
+ * {@link Mutiny.SessionFactory#withStatelessTransaction(BiFunction)}
+ * on the same event loop into a single database transaction.
+ * <p>
+ * The first unit of work submitted on an event loop opens a group,
+ * which obtains a stateless session and starts a transaction. Every
+ * unit submitted on the same event loop before the group is complete
+ * is added to it. The units are executed one after the other, each
+ * one after a savepoint: a unit which fails, or is marked for rollback,
+ * is rolled back to its savepoint. When there is no more work to do,
+ * the transaction is committed, and only then the units complete.
+ * <p>
+ * Each unit of work runs on its own duplicate of the Vert.x context of
+ * the group, where it's bound, so that a nested call to
+ * {@code withStatelessTransaction()} joins its transaction, instead of
+ * waiting for a group which can only commit after the unit of work
+ * completes. The result of a unit of work is emitted on the Vert.x
+ * context of the caller which submitted it.
+ *
+ * @see org.hibernate.reactive.provider.Settings#STATELESS_GROUP_COMMIT_SIZE
+ */
+final class MutinyGroupCommit {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SAVEPOINT_NAME = "hr_group_commit";
+
+	private final MutinySessionFactoryImpl factory;
+	private final Context context;
+	private final Context.Key<Mutiny.Transaction> contextKeyForUnit;
+	private final int maxSize;
+	private final String savepoint;
+	private final String rollbackToSavepoint;
+	private final String releaseSavepoint;
+
+	/**
+	 * The group accepting new units of work, for each event loop thread.
+	 * Since a group is only ever used from its own event loop, the map is
+	 * the only state shared between threads.
+	 */
+	private final ConcurrentMap<Thread, Group> openGroups = new ConcurrentHashMap<>();
+
+	MutinyGroupCommit(MutinySessionFactoryImpl factory, Dialect dialect, int maxSize) {
+		this.factory = factory;
+		this.context = factory.getContext();
+		this.contextKeyForUnit = new BaseKey<>( Mutiny.Transaction.class, factory.getUuid() );
+		this.maxSize = maxSize;
+		//Allow for wrapped cases:
+		if ( dialect instanceof DialectDelegateWrapper ) {
+			dialect = ( (DialectDelegateWrapper) dialect ).getWrappedDialect();
+		}
+		if ( dialect instanceof SQLServerDialect ) {
+			savepoint = "save transaction " + SAVEPOINT_NAME;
+			rollbackToSavepoint = "rollback transaction " + SAVEPOINT_NAME;
+			releaseSavepoint = null;
+		}
+		else if ( dialect instanceof DB2Dialect ) {
+			savepoint = "savepoint " + SAVEPOINT_NAME + " on rollback retain cursors";
+			rollbackToSavepoint = "rollback to savepoint " + SAVEPOINT_NAME;
+			releaseSavepoint = "release savepoint " + SAVEPOINT_NAME;
+		}
+		else {
+			savepoint = "savepoint " + SAVEPOINT_NAME;
+			rollbackToSavepoint = "rollback to savepoint " + SAVEPOINT_NAME;
+			// Oracle doesn't release savepoints: a new one with the same name replaces the old one
+			releaseSavepoint = dialect instanceof OracleDialect ? null : "release savepoint " + SAVEPOINT_NAME;
+		}
+	}
+
+	<T> Uni<T> submit(BiFunction<Mutiny.StatelessSession, Mutiny.Transaction, Uni<T>> work) {
+		return Uni.createFrom().deferred( () -> {
+					final Unit<?> current = (Unit<?>) context.get( contextKeyForUnit );
+					if ( current != null ) {
+						// Nested in a unit of work of a group, which can't commit before
+						// this work completes: join the transaction of the unit of work
+						return work.apply( current.session, current );
+					}
+					if ( !io.vertx.core.Context.isOnEventLoopThread() ) {
+						// We can only coalesce the work running on the same event loop
+						return factory.withStatelessSession( s -> s.withTransaction( t -> work.apply( s, t ) ) );
+					}
+					final Unit<T> unit = new Unit<>( work );
+					final Thread thread = Thread.currentThread();
+					final ContextInternal caller = (ContextInternal) Vertx.currentContext();
+					Group group = openGroups.get( thread );
+					if ( group == null ) {
+						group = new Group( thread, caller );
+						openGroups.put( thread, group );
+						group.add( unit );
+						group.start();
+					}
+					else {
+						group.add( unit );
+					}
+					// The group completes the units of work on its own context
+					return Uni.createFrom().completionStage( unit.result )
+							.emitOn( command -> caller.runOnContext( v -> command.run() ) );
+				} )
+				.runSubscriptionOn( factory.getContext() );
+	}
+
+	private final class Group {
+		private final Thread owner;
+		private final ContextInternal vertxContext;
+		private final Deque<Unit<?>> pending = new ArrayDeque<>();
+		private final List<Unit<?>> executed = new ArrayList<>();
+		private int size;
+
+		private Group(Thread owner, ContextInternal vertxContext) {
+			this.owner = owner;
+			this.vertxContext = vertxContext;
+		}
+
+		private void add(Unit<?> unit) {
+			pending.add( unit );
+			if ( ++size >= maxSize ) {
+				// The group is full, the next unit of work starts a new one
+				openGroups.remove( owner, this );
+			}
+		}
+
+		private void start() {
+			factory.openStatelessSession()
+					.chain( session -> begin( session )
+							.chain( () -> executeAll( session ) )
+							.chain( () -> commit( session ) )
+							.onFailure().call( () -> rollback( session ) )
+							.eventually( session::close )
+					)
+					.subscribe().with( v -> complete( null ), this::complete );
+		}
+
+		private Uni<Void> begin(Mutiny.StatelessSession session) {
+			return Uni.createFrom().completionStage( connection( session ).beginTransaction() );
+		}
+
+		/**
+		 * Execute the pending units of work until there are none left, and close
+		 * the group, so that units of work submitted later start a new group.
+		 */
+		private Uni<Void> executeAll(Mutiny.StatelessSession session) {
+			final Unit<?> unit = pending.poll();
+			if ( unit == null ) {
+				openGroups.remove( owner, this );
+				return Uni.createFrom().voidItem();
+			}
+			executed.add( unit );
+			return unit.execute( session, connection( session ), vertxContext.duplicate() )
+					.chain( () -> executeAll( session ) );
+		}
+
+		private Uni<Void> commit(Mutiny.StatelessSession session) {
+			return Uni.createFrom().completionStage( connection( session ).commitTransaction() );
+		}
+
+		private Uni<Void> rollback(Mutiny.StatelessSession session) {
+			return Uni.createFrom().completionStage( connection( session ).rollbackTransaction() )
+					.onFailure().recoverWithNull();
+		}
+
+		/**
+		 * Complete every unit of work once the transaction is over.
+		 *
+		 * @param failure the reason the whole transaction failed, or null if it was committed
+		 */
+		private void complete(Throwable failure) {
+			openGroups.remove( owner, this );
+			if ( failure != null ) {
+				LOG.debugf( failure, "Group commit of %s units of work failed", size );
+				// Units never executed because the group failed before reaching them
+				executed.addAll( pending );
+				pending.clear();
+			}
+			for ( Unit<?> unit : executed ) {
+				unit.complete( failure );
+			}
+		}
+	}
+
+	private final class Unit<T> implements Mutiny.Transaction {
+		private final BiFunction<Mutiny.StatelessSession, Mutiny.Transaction, Uni<T>> work;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private Mutiny.StatelessSession session;
+		private boolean rollback;
+		private T item;
+		private Throwable failure;
+
+		private Unit(BiFunction<Mutiny.StatelessSession, Mutiny.Transaction, Uni<T>> work) {
+			this.work = work;
+		}
+
+		/**
+		 * Execute the work after a savepoint, and roll back to the savepoint
+		 * if it fails. The failure is only reported to the caller, and doesn't
+		 * affect the shared transaction.
+		 *
+		 * @param unitContext the Vert.x context the work runs on, used by no other unit
+		 */
+		private Uni<Void> execute(Mutiny.StatelessSession session, ReactiveConnection connection, ContextInternal unitContext) {
+			return Uni.createFrom().completionStage( () -> connection.executeUnprepared( savepoint ) )
+					.chain( () -> Uni.createFrom().<T>emitter( emitter -> unitContext.runOnContext( v -> {
+						this.session = session;
+						context.put( contextKeyForUnit, this );
+						Uni.createFrom().deferred( () -> work.apply( session, this ) )
+								.eventually( () -> unitContext.removeLocal( contextKeyForUnit ) )
+								.subscribe().with( emitter::complete, emitter::fail );
+					} ) ) )
+					.call( () -> Uni.createFrom().completionStage( connection::executeBatch ) )
+					.onItem().invoke( i -> item = i )
+					.onFailure().invoke( e -> failure = e )
+					.onItemOrFailure()
+					.transformToUni( (i, e) -> rollback || e != null
+							? Uni.createFrom().completionStage( () -> connection.executeUnprepared( rollbackToSavepoint ) )
+							: release( connection ) );
+		}
+
+		private Uni<Void> release(ReactiveConnection connection) {
+			return releaseSavepoint == null
+					? Uni.createFrom().voidItem()
+					: Uni.createFrom().completionStage( () -> connection.executeUnprepared( releaseSavepoint ) );
+		}
+
+		private void complete(Throwable transactionFailure) {
+			if ( failure != null ) {
+				result.completeExceptionally( failure );
+			}
+			else if ( transactionFailure != null ) {
+				result.completeExceptionally( transactionFailure );
+			}
+			else {
+				result.complete( item );
+			}
+		}
+
+		@Override
+		public void markForRollback() {
+			rollback = true;
+		}
+
+		@Override
+		public boolean isMarkedForRollback() {
+			return rollback;
+		}
+	}
+
+	private static ReactiveConnection connection(Mutiny.StatelessSession session) {
+		return ( (MutinyStatelessSessionImpl) session ).getReactiveConnection();
+	}
+}
@@ -0,0 +1,157 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.mutiny.impl;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Turns the JSON buffers written by
+ * {@link org.hibernate.reactive.query.ReactiveSelectionQuery#reactiveResultJson(int, Function)}
+ * into a {@link Multi} which honors the demand of its subscriber.
+ * <p>
+ * The query is executed when the first buffer is requested. Each time
+ * the query has written a buffer, it waits until the subscriber requests
+ * the next one before reading more rows, so that at most one buffer is
+ * held in memory. If the subscriber cancels its subscription, the query
+ * stops reading rows, and fails with a {@link CancellationException}.
+ * <p>
+ * The termination of the {@code Multi} waits for the query to complete,
+ * so that the session isn't closed while the query is still using it. A
+ * subscriber which cancels its subscription from the thread it received
+ * the buffer on, which is the thread of the query, stops the query before
+ * the cancellation returns.
+ */
+final class MutinyJsonResult {
+
+	/**
+	 * Signals the end of the result, it's never emitted
+	 */
+	private static final Buffer END = Buffer.buffer();
+
+	private final Function<Function<Buffer, CompletionStage<Void>>, Uni<Long>> query;
+
+	/**
+	 * The next buffer, completed by the query
+	 */
+	private volatile CompletableFuture<Buffer> next;
+
+	/**
+	 * The request for more rows, completed when the subscriber
+	 * requests the next buffer, or cancels its subscription
+	 */
+	private volatile CompletableFuture<Void> request;
+
+	/**
+	 * The Vert.x context of the query, where it must resume
+	 */
+	private volatile Context context;
+
+	private volatile boolean cancelled;
+
+	/**
+	 * Completed when the query completes, whether it succeeds or fails
+	 */
+	private volatile CompletableFuture<Void> done = CompletableFuture.completedFuture( null );
+
+	private MutinyJsonResult(Function<Function<Buffer, CompletionStage<Void>>, Uni<Long>> query) {
+		this.query = query;
+	}
+
+	/**
+	 * @param query executes the query, writing the buffers to the given consumer
+	 */
+	static Multi<Buffer> multi(Function<Function<Buffer, CompletionStage<Void>>, Uni<Long>> query) {
+		return Multi.createFrom().deferred( () -> {
+			final MutinyJsonResult result = new MutinyJsonResult( query );
+			return Multi.createBy().repeating()
+					.completionStage( result::requestNext )
+					.until( buffer -> buffer == END )
+					.onTermination().call( result::cancel );
+		} );
+	}
+
+	private CompletionStage<Buffer> requestNext() {
+		final CompletableFuture<Buffer> buffer = new CompletableFuture<>();
+		next = buffer;
+		final CompletableFuture<Void> current = request;
+		if ( current == null ) {
+			final CompletableFuture<Void> completion = new CompletableFuture<>();
+			done = completion;
+			query.apply( this::write )
+					.subscribe().with(
+							rows -> {
+								completion.complete( null );
+								next.complete( END );
+							},
+							failure -> {
+								completion.complete( null );
+								next.completeExceptionally( failure );
+							}
+					);
+		}
+		else {
+			resume( () -> current.complete( null ) );
+		}
+		return buffer;
+	}
+
+	private CompletionStage<Void> write(Buffer buffer) {
+		context = Vertx.currentContext();
+		// the request must be ready before the subscriber receives the buffer
+		final CompletableFuture<Void> requested = new CompletableFuture<>();
+		request = requested;
+		if ( cancelled ) {
+			requested.completeExceptionally( cancellation() );
+		}
+		else {
+			next.complete( buffer );
+		}
+		return requested;
+	}
+
+	/**
+	 * Stop the query, if it's still running.
+	 *
+	 * @return a {@link Uni} completing when the query completes
+	 */
+	private Uni<Void> cancel() {
+		cancelled = true;
+		final CompletableFuture<Void> current = request;
+		if ( current != null && !current.isDone() ) {
+			if ( context == Vertx.currentContext() ) {
+				// stop the query right away, before the subscriber goes on
+				current.completeExceptionally( cancellation() );
+			}
+			else {
+				resume( () -> current.completeExceptionally( cancellation() ) );
+			}
+		}
+		return Uni.createFrom().completionStage( done );
+	}
+
+	private static CancellationException cancellation() {
+		return new CancellationException( "The subscriber cancelled its subscription" );
+	}
+
+	private void resume(Runnable action) {
+		final Context queryContext = context;
+		if ( queryContext == null ) {
+			action.run();
+		}
+		else {
+			queryContext.runOnContext( v -> action.run() );
+		}
+	}
+}
@@ -16,11 +16,15 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Order;
 import org.hibernate.query.Page;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.Mutiny.Query;
 import org.hibernate.reactive.query.ReactiveQuery;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
@@ -52,6 +56,16 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Uni<KeysetResultList<R>> getKeysetResultList(KeysetPage<R> page) {
+		return uni( () -> delegate.reactiveKeysetResultList( page ) );
+	}
+
+	@Override
+	public Multi<Buffer> getResultJson(int rowsPerBuffer) {
+		return MutinyJsonResult.multi( consumer -> uni( () -> delegate.reactiveResultJson( rowsPerBuffer, consumer ) ) );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -93,6 +107,29 @@ public Query<R> enableFetchProfile(String profileName) {
 		return this;
 	}
 
+	@Override
+	public Query<R> setResultRowLimit(int resultRowLimit) {
+		delegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public Query<R> setEvictAfterQuery(boolean evictAfterQuery) {
+		delegate.setEvictAfterQuery( evictAfterQuery );
+		return this;
+	}
+
+	@Override
+	public Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
+	@Override
+	public Integer getFetchSize() {
+		return delegate.getFetchSize();
+	}
+
 	@Override
 	public Uni<R> getSingleResult() {
 		return uni( delegate::getReactiveSingleResult );
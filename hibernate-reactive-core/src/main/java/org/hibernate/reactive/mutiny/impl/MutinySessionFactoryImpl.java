@@ -13,6 +13,8 @@
 import java.util.function.Supplier;
 
 import org.hibernate.Cache;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.common.spi.Implementor;
@@ -24,12 +26,15 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.Statistics;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.metamodel.Metamodel;
 
@@ -57,6 +62,11 @@ public class MutinySessionFactoryImpl implements Mutiny.SessionFactory, Implemen
 	private final BaseKey<Mutiny.Session> contextKeyForSession;
 	private final BaseKey<Mutiny.StatelessSession> contextKeyForStatelessSession;
 
+	/**
+	 * Null unless {@link Settings#STATELESS_GROUP_COMMIT_SIZE} is set
+	 */
+	private final MutinyGroupCommit groupCommit;
+
 	public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		Objects.requireNonNull( delegate );
 		this.delegate = delegate;
@@ -64,10 +74,15 @@ public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
 		contextKeyForSession = new BaseKey<>( Mutiny.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Mutiny.StatelessSession.class, delegate.getUuid() );
+		int groupCommitSize = delegate.getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( Settings.STATELESS_GROUP_COMMIT_SIZE, StandardConverters.INTEGER, 0 );
+		groupCommit = groupCommitSize > 1
+				? new MutinyGroupCommit( this, delegate.getJdbcServices().getDialect(), groupCommitSize )
+				: null;
 	}
 
 	<T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
-		return Uni.createFrom().completionStage( stageSupplier ).runSubscriptionOn( context );
+		return Infrastructure.onUniCreation( new ContextualStageUni<>( stageSupplier, context ) );
 	}
 
 	@Override
@@ -229,6 +244,9 @@ public <T> Uni<T> withTransaction(BiFunction<Mutiny.Session, Mutiny.Transaction,
 	@Override
 	public <T> Uni<T> withStatelessTransaction(BiFunction<Mutiny.StatelessSession, Mutiny.Transaction, Uni<T>> work) {
 		Objects.requireNonNull( work, "parameter 'work' is required" );
+		if ( groupCommit != null && context.get( contextKeyForStatelessSession ) == null ) {
+			return groupCommit.submit( work );
+		}
 		return withStatelessSession( s -> s.withTransaction( t -> work.apply(s, t) ) );
 	}
 
@@ -264,6 +282,21 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public ReactiveStatistics getReactiveStatistics() {
+		return delegate.getServiceRegistry().getService( ReactiveStatistics.class );
+	}
+
+	@Override
+	public Uni<Void> whenReady() {
+		return Uni.createFrom().completionStage( connectionPool::getReadyFuture );
+	}
+
+	@Override
+	public boolean isReady() {
+		return connectionPool.isReady();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
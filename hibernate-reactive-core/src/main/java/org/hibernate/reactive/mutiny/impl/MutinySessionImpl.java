@@ -38,6 +38,7 @@
 import org.hibernate.reactive.session.ReactiveSession;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -83,6 +84,11 @@ public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
 		return uni( () -> delegate.reactiveFetch( entity, field ) );
 	}
 
+	@Override
+	public <E, T> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, T> field) {
+		return uni( () -> delegate.reactiveFetchAll( entities, field ) );
+	}
+
 	@Override
 	public <T> Uni<T> unproxy(T association) {
 		return uni( () -> delegate.reactiveFetch( association, true ) );
@@ -258,7 +264,7 @@ public <T> Uni<T> merge(T entity) {
 
 	@Override
 	public final Uni<Void> mergeAll(Object... entity) {
-		return uni( () -> applyToAll( delegate::reactiveMerge, entity ) );
+		return uni( () -> delegate.reactiveMergeAll( entity ) );
 	}
 
 	@Override
@@ -5,18 +5,22 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.criteria.CriteriaQuery;
 import org.hibernate.LockMode;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.Mutiny.Query;
 import org.hibernate.reactive.mutiny.Mutiny.SelectionQuery;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -30,6 +34,8 @@
  */
 public class MutinyStatelessSessionImpl implements Mutiny.StatelessSession {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ReactiveStatelessSession delegate;
 	private final MutinySessionFactoryImpl factory;
 
@@ -173,6 +179,27 @@ public Uni<Void> upsert(String entityName, Object entity) {
 		return uni( () -> delegate.reactiveUpsert( entityName, entity ) );
 	}
 
+	@Override
+	public Uni<Void> upsertAll(Object... entities) {
+		return uni( () -> delegate.reactiveUpsertAll( entities ) );
+	}
+
+	@Override
+	public Uni<Void> upsertAll(int batchSize, Object... entities) {
+		return uni( () -> delegate.reactiveUpsertAll( batchSize, entities ) );
+	}
+
+	@Override
+	public Uni<Void> upsertAll(int batchSize, Multi<?> entities) {
+		if ( batchSize <= 0 ) {
+			return Uni.createFrom().failure( LOG.batchSizeMustBePositive( batchSize ) );
+		}
+		return entities
+				.group().intoLists().of( batchSize )
+				.onItem().transformToUniAndConcatenate( batch -> upsertAll( batchSize, batch.toArray() ) )
+				.onItem().ignoreAsUni();
+	}
+
 	@Override
 	public Uni<Void> refreshAll(Object... entities) {
 		return uni( () -> delegate.reactiveRefreshAll( entities ) );
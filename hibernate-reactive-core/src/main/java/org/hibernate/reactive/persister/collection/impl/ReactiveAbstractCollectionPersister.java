@@ -5,19 +5,23 @@
  */
 package org.hibernate.reactive.persister.collection.impl;
 
+import java.util.Arrays;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderNamedQuery;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSingleKey;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 
 /**
  * Reactive version of {@link org.hibernate.persister.collection.AbstractCollectionPersister}
@@ -42,6 +46,59 @@ default CollectionLoader createSingleKeyCollectionLoader(LoadQueryInfluencers lo
         return new ReactiveCollectionLoaderSingleKey( getAttributeMapping(), loadQueryInfluencers, getFactory() );
     }
 
+    /**
+     * @return {@code true} if the collection with the given key would be
+     *         loaded by a select for this owner alone, that is, if it isn't
+     *         batch or subselect fetched, and has no custom loader
+     */
+    boolean isLoadedBySingleKey(Object key, SharedSessionContractImplementor session);
+
+    /**
+     * The maximum number of collection keys loaded by each select of
+     * {@link #reactiveInitialize(Object[], SharedSessionContractImplementor)}.
+     */
+    int MULTI_KEY_BATCH_SIZE = 64;
+
+    /**
+     * Initialize the collections with the given keys with batch loads of
+     * {@value #MULTI_KEY_BATCH_SIZE} keys, even if batch fetching isn't
+     * enabled for this collection.
+     */
+    default CompletionStage<Void> reactiveInitialize(Object[] keys, SharedSessionContractImplementor session) {
+        final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+        // the shared loader ignores the filters, fetch profiles and entity graph of the session
+        final ReactiveCollectionBatchLoader loader = isAffectedByEnabledFilters( session )
+                || isAffectedByEnabledFetchProfiles( influencers )
+                || isAffectedByEntityGraph( influencers )
+                ? createMultiKeyLoader( influencers )
+                : getMultiKeyLoader();
+        if ( keys.length <= MULTI_KEY_BATCH_SIZE ) {
+            return loader.reactiveLoadKeys( keys, session );
+        }
+        final int batches = ( keys.length + MULTI_KEY_BATCH_SIZE - 1 ) / MULTI_KEY_BATCH_SIZE;
+        return loop( 0, batches, batch -> {
+            final int start = batch * MULTI_KEY_BATCH_SIZE;
+            final int end = Math.min( start + MULTI_KEY_BATCH_SIZE, keys.length );
+            return loader.reactiveLoadKeys( Arrays.copyOfRange( keys, start, end ), session );
+        } );
+    }
+
+    /**
+     * @return the loader of {@link #reactiveInitialize(Object[], SharedSessionContractImplementor)}
+     *         for the sessions with the default {@link LoadQueryInfluencers}, created on first use
+     *         and then shared by all the sessions
+     */
+    ReactiveCollectionBatchLoader getMultiKeyLoader();
+
+    /**
+     * Create a loader of {@value #MULTI_KEY_BATCH_SIZE} collection keys
+     */
+    default ReactiveCollectionBatchLoader createMultiKeyLoader(LoadQueryInfluencers influencers) {
+        return (ReactiveCollectionBatchLoader) getFactory().getServiceRegistry()
+                .getService( BatchLoaderFactory.class )
+                .createCollectionBatchLoader( MULTI_KEY_BATCH_SIZE, influencers, getAttributeMapping(), getFactory() );
+    }
+
     /**
      * @see org.hibernate.persister.collection.AbstractCollectionPersister#recreate(PersistentCollection, Object, SharedSessionContractImplementor)
      */
@@ -70,6 +127,18 @@ default CollectionLoader createSingleKeyCollectionLoader(LoadQueryInfluencers lo
     @Override
     CompletionStage<Void> reactiveUpdateRows(PersistentCollection<?> collection, Object id, SharedSessionContractImplementor session);
 
+    /**
+     * Create the mutation operations of the coordinators of this persister,
+     * which are otherwise created lazily on first use.
+     */
+    void prepareMutationOperations();
+
+    /**
+     * Whether the mutation operations of the coordinators of this persister
+     * have been created.
+     */
+    boolean isMutationOperationsPrepared();
+
     boolean isRowDeleteEnabled();
     boolean isRowInsertEnabled();
 }
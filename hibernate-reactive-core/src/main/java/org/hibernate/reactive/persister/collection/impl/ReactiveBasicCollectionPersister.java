@@ -22,7 +22,9 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
+import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSingleKey;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorNoOp;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorStandard;
@@ -49,6 +51,8 @@ public class ReactiveBasicCollectionPersister extends BasicCollectionPersister i
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
 
+	private ReactiveCollectionBatchLoader multiKeyLoader;
+
 	public ReactiveBasicCollectionPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -71,6 +75,22 @@ public CollectionLoader createSingleKeyCollectionLoader(LoadQueryInfluencers loa
 		return ReactiveAbstractCollectionPersister.super.createSingleKeyCollectionLoader( loadQueryInfluencers );
 	}
 
+	@Override
+	public void prepareMutationOperations() {
+		insertRowsCoordinator.prepareOperationGroup();
+		updateRowsCoordinator.prepareOperationGroup();
+		deleteRowsCoordinator.prepareOperationGroup();
+		removeCoordinator.prepareOperationGroup();
+	}
+
+	@Override
+	public boolean isMutationOperationsPrepared() {
+		return insertRowsCoordinator.isOperationGroupPrepared()
+				&& updateRowsCoordinator.isOperationGroupPrepared()
+				&& deleteRowsCoordinator.isOperationGroupPrepared()
+				&& removeCoordinator.isOperationGroupPrepared();
+	}
+
 	private ReactiveUpdateRowsCoordinator buildUpdateRowCoordinator() {
 		final boolean performUpdates = getCollectionSemantics().getCollectionClassification().isRowUpdatePossible()
 				&& ArrayHelper.isAnyTrue( elementColumnIsSettable )
@@ -140,6 +160,19 @@ public CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContrac
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	@Override
+	public ReactiveCollectionBatchLoader getMultiKeyLoader() {
+		if ( multiKeyLoader == null ) {
+			multiKeyLoader = createMultiKeyLoader( new LoadQueryInfluencers( getFactory() ) );
+		}
+		return multiKeyLoader;
+	}
+
+	@Override
+	public boolean isLoadedBySingleKey(Object key, SharedSessionContractImplementor session) {
+		return determineLoaderToUse( key, session ) instanceof ReactiveCollectionLoaderSingleKey;
+	}
+
 	/**
 	 * @see org.hibernate.persister.collection.BasicCollectionPersister#remove(Object, SharedSessionContractImplementor)
 	 */
@@ -30,7 +30,9 @@
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.engine.jdbc.env.internal.ReactiveMutationExecutor;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
+import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSingleKey;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorNoOp;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorStandard;
@@ -63,6 +65,8 @@ public class ReactiveOneToManyPersister extends OneToManyPersister
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
 
+	private ReactiveCollectionBatchLoader multiKeyLoader;
+
 	public ReactiveOneToManyPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -86,6 +90,22 @@ public CollectionLoader createSingleKeyCollectionLoader(LoadQueryInfluencers loa
 		return ReactiveAbstractCollectionPersister.super.createSingleKeyCollectionLoader( loadQueryInfluencers );
 	}
 
+	@Override
+	public void prepareMutationOperations() {
+		insertRowsCoordinator.prepareOperationGroup();
+		updateRowsCoordinator.prepareOperationGroup();
+		deleteRowsCoordinator.prepareOperationGroup();
+		removeCoordinator.prepareOperationGroup();
+	}
+
+	@Override
+	public boolean isMutationOperationsPrepared() {
+		return insertRowsCoordinator.isOperationGroupPrepared()
+				&& updateRowsCoordinator.isOperationGroupPrepared()
+				&& deleteRowsCoordinator.isOperationGroupPrepared()
+				&& removeCoordinator.isOperationGroupPrepared();
+	}
+
 	@Override
 	public ReactiveInsertRowsCoordinator getInsertRowsCoordinator() {
 		return insertRowsCoordinator;
@@ -168,6 +188,19 @@ public CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContrac
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	@Override
+	public ReactiveCollectionBatchLoader getMultiKeyLoader() {
+		if ( multiKeyLoader == null ) {
+			multiKeyLoader = createMultiKeyLoader( new LoadQueryInfluencers( getFactory() ) );
+		}
+		return multiKeyLoader;
+	}
+
+	@Override
+	public boolean isLoadedBySingleKey(Object key, SharedSessionContractImplementor session) {
+		return determineLoaderToUse( key, session ) instanceof ReactiveCollectionLoaderSingleKey;
+	}
+
 	@Override
 	public boolean isRowDeleteEnabled() {
 		return super.isRowDeleteEnabled();
@@ -48,9 +48,7 @@ public ReactiveDeleteRowsCoordinatorStandard(
 
 	@Override
 	public CompletionStage<Void> reactiveDeleteRows(PersistentCollection<?> collection, Object key, SharedSessionContractImplementor session) {
-		if ( operationGroup == null ) {
-			operationGroup = createOperationGroup();
-		}
+		prepareOperationGroup();
 
 		if ( MODEL_MUTATION_LOGGER.isDebugEnabled() ) {
 			MODEL_MUTATION_LOGGER
@@ -101,6 +99,18 @@ private ReactiveMutationExecutor reactiveMutationExecutor(SharedSessionContractI
 				.createExecutor( this::getBatchKey, operationGroup, session );
 	}
 
+	@Override
+	public void prepareOperationGroup() {
+		if ( operationGroup == null ) {
+			operationGroup = createOperationGroup();
+		}
+	}
+
+	@Override
+	public boolean isOperationGroupPrepared() {
+		return operationGroup != null;
+	}
+
 	private MutationOperationGroup createOperationGroup() {
 		assert getMutationTarget().getTargetPart() != null;
 		assert getMutationTarget().getTargetPart().getKeyDescriptor() != null;
@@ -18,4 +18,18 @@ CompletionStage<Void> reactiveInsertRows(
 			Object id,
 			EntryFilter entryChecker,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Create the mutation operations used by this coordinator, which are
+	 * otherwise created lazily on first use.
+	 */
+	default void prepareOperationGroup() {
+	}
+
+	/**
+	 * Whether the mutation operations used by this coordinator have been created.
+	 */
+	default boolean isOperationGroupPrepared() {
+		return true;
+	}
 }
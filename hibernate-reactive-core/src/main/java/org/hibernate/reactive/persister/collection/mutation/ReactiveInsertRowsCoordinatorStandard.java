@@ -66,9 +66,7 @@ public void insertRows(PersistentCollection<?> collection, Object id, EntryFilte
 	 */
 	@Override
 	public CompletionStage<Void> reactiveInsertRows(PersistentCollection<?> collection, Object id, EntryFilter entryChecker, SharedSessionContractImplementor session) {
-		if ( operationGroup == null ) {
-			operationGroup = createOperationGroup();
-		}
+		prepareOperationGroup();
 
 		if ( MODEL_MUTATION_LOGGER.isDebugEnabled() ) {
 			MODEL_MUTATION_LOGGER
@@ -107,6 +105,18 @@ public CompletionStage<Void> reactiveInsertRows(PersistentCollection<?> collecti
 				.whenComplete( (unused, throwable) -> mutationExecutor.release() );
 	}
 
+	@Override
+	public void prepareOperationGroup() {
+		if ( operationGroup == null ) {
+			operationGroup = createOperationGroup();
+		}
+	}
+
+	@Override
+	public boolean isOperationGroupPrepared() {
+		return operationGroup != null;
+	}
+
 	private BasicBatchKey getBatchKey() {
 		return batchKey;
 	}
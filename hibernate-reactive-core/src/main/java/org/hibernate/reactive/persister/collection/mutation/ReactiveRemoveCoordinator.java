@@ -12,4 +12,18 @@
 
 public interface ReactiveRemoveCoordinator extends RemoveCoordinator {
 	CompletionStage<Void> reactiveDeleteAllRows(Object key, SharedSessionContractImplementor session);
+
+	/**
+	 * Create the mutation operations used by this coordinator, which are
+	 * otherwise created lazily on first use.
+	 */
+	default void prepareOperationGroup() {
+	}
+
+	/**
+	 * Whether the mutation operations used by this coordinator have been created.
+	 */
+	default boolean isOperationGroupPrepared() {
+		return true;
+	}
 }
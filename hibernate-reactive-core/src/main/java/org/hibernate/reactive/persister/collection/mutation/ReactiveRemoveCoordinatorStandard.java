@@ -43,6 +43,19 @@ public ReactiveRemoveCoordinatorStandard(
 		this.batchKey = new BasicBatchKey( mutationTarget.getRolePath() + "#REMOVE" );
 	}
 
+	@Override
+	public void prepareOperationGroup() {
+		if ( operationGroup == null ) {
+			// delayed creation of the operation-group
+			operationGroup = buildOperationGroup();
+		}
+	}
+
+	@Override
+	public boolean isOperationGroupPrepared() {
+		return operationGroup != null;
+	}
+
 	private BasicBatchKey getBatchKey() {
 		return batchKey;
 	}
@@ -54,10 +67,7 @@ public CompletionStage<Void> reactiveDeleteAllRows(Object key, SharedSessionCont
 					.debugf( "Deleting collection - %s : %s", getMutationTarget().getRolePath(), key );
 		}
 
-		if ( operationGroup == null ) {
-			// delayed creation of the operation-group
-			operationGroup = buildOperationGroup();
-		}
+		prepareOperationGroup();
 
 		final ReactiveMutationExecutor mutationExecutor = reactiveMutationExecutor( session, operationGroup );
 
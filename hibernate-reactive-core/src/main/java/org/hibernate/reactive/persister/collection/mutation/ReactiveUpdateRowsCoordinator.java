@@ -16,4 +16,17 @@ public interface ReactiveUpdateRowsCoordinator extends UpdateRowsCoordinator {
 
 	CompletionStage<Void> reactiveUpdateRows(Object key, PersistentCollection<?> collection, SharedSessionContractImplementor session);
 
+	/**
+	 * Create the mutation operations used by this coordinator, which are
+	 * otherwise created lazily on first use.
+	 */
+	default void prepareOperationGroup() {
+	}
+
+	/**
+	 * Whether the mutation operations used by this coordinator have been created.
+	 */
+	default boolean isOperationGroupPrepared() {
+		return true;
+	}
 }
@@ -157,6 +157,22 @@ private ReactiveMutationExecutor reactiveMutationExecutor(SharedSessionContractI
 				.createExecutor( batchKeySupplier, operationGroup, session );
 	}
 
+	@Override
+	public void prepareOperationGroup() {
+		if ( rowMutationOperations.hasDeleteRow() ) {
+			resolveDeleteGroup();
+		}
+		if ( rowMutationOperations.hasInsertRow() ) {
+			resolveInsertGroup();
+		}
+	}
+
+	@Override
+	public boolean isOperationGroupPrepared() {
+		return ( deleteOperationGroup != null || !rowMutationOperations.hasDeleteRow() )
+				&& ( insertOperationGroup != null || !rowMutationOperations.hasInsertRow() );
+	}
+
 	//FIXME: Duplicated form ORM
 	private MutationOperationGroup resolveDeleteGroup() {
 		if ( deleteOperationGroup == null ) {
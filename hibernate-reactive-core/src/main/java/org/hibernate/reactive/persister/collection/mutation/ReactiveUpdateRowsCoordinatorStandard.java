@@ -40,6 +40,7 @@ public class ReactiveUpdateRowsCoordinatorStandard extends UpdateRowsCoordinator
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final RowMutationOperations rowMutationOperations;
+	private boolean operationGroupPrepared;
 
 	public ReactiveUpdateRowsCoordinatorStandard(CollectionMutationTarget mutationTarget, RowMutationOperations rowMutationOperations, SessionFactoryImplementor sessionFactory) {
 		super( mutationTarget, rowMutationOperations, sessionFactory );
@@ -62,6 +63,7 @@ public CompletionStage<Void> reactiveUpdateRows(Object key, PersistentCollection
 	}
 
 	private CompletionStage<Integer> doReactiveUpdate(Object key, PersistentCollection<?> collection, SharedSessionContractImplementor session) {
+		prepareOperationGroup();
 		final ReactiveMutationExecutor mutationExecutor = reactiveMutationExecutor( session, getOperationGroup() );
 		return completedFuture( mutationExecutor )
 				.thenCompose( ignore -> {
@@ -139,6 +141,20 @@ private static CompletionStage<Boolean> alwaysTrue(Object ignore) {
 		return CompletionStages.trueFuture();
 	}
 
+	@Override
+	public void prepareOperationGroup() {
+		if ( !operationGroupPrepared ) {
+			// The operation group is created lazily by the superclass
+			getOperationGroup();
+			operationGroupPrepared = true;
+		}
+	}
+
+	@Override
+	public boolean isOperationGroupPrepared() {
+		return operationGroupPrepared;
+	}
+
 	private ReactiveMutationExecutor reactiveMutationExecutor(
 			SharedSessionContractImplementor session,
 			MutationOperationGroup operationGroup) {
@@ -8,16 +8,36 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorStandard;
+import org.hibernate.reactive.persister.entity.mutation.DynamicMutationGroupCache;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveScopedUpdateCoordinator;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinator;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinatorStandard;
 
 final class ReactiveUpdateCoordinatorStandardScopeFactory extends UpdateCoordinatorStandard implements ReactiveUpdateCoordinator {
 
+	private final DynamicMutationGroupCache dynamicUpdateGroups;
+
 	public ReactiveUpdateCoordinatorStandardScopeFactory(
 			AbstractEntityPersister entityPersister,
 			SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
+		this.dynamicUpdateGroups = isDynamicUpdateCacheable( entityPersister )
+				? new DynamicMutationGroupCache()
+				: null;
+	}
+
+	/**
+	 * The SQL of a dynamic update also depends on the old values of the attributes,
+	 * when they are used for optimistic locking, and the updates of optional tables
+	 * depend on the values being written: we don't cache these updates.
+	 */
+	private static boolean isDynamicUpdateCacheable(AbstractEntityPersister entityPersister) {
+		if ( entityPersister.optimisticLockStyle().isAllOrDirty() ) {
+			return false;
+		}
+		final boolean[] hasOptionalTables = { false };
+		entityPersister.forEachMutableTable( tableMapping -> hasOptionalTables[0] |= tableMapping.isOptional() );
+		return !hasOptionalTables[0];
 	}
 
 	@Override
@@ -28,7 +48,8 @@ public ReactiveScopedUpdateCoordinator makeScopedCoordinator() {
 				this.getStaticMutationOperationGroup(),
 				this.getBatchKey(),
 				this.getVersionUpdateGroup(),
-				this.getVersionUpdateBatchkey()
+				this.getVersionUpdateBatchkey(),
+				dynamicUpdateGroups
 		);
 	}
 
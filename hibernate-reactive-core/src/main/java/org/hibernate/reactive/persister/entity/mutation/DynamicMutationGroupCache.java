@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.mutation;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.hibernate.sql.model.MutationOperationGroup;
+
+/**
+ * A bounded cache of the {@link MutationOperationGroup}s generated for
+ * the dynamic inserts or updates of an entity. Each group is identified
+ * by a {@link BitSet}, with a bit for each of the choices which affect
+ * the generated SQL: the attributes being written, the tables being
+ * updated, and so on.
+ * <p>
+ * The number of different combinations used in practice is usually small.
+ * When the cache is full, new combinations are generated every time they
+ * are needed, as they would be without the cache, instead of evicting the
+ * combinations already cached.
+ */
+public final class DynamicMutationGroupCache {
+
+	/**
+	 * The maximum number of groups cached for each entity and kind of mutation
+	 */
+	public static final int MAX_SIZE = 128;
+
+	private final ConcurrentMap<BitSet, MutationOperationGroup> groups = new ConcurrentHashMap<>();
+
+	/**
+	 * Return the group for the given combination, generating it if it's not cached.
+	 *
+	 * @param key identifies the combination, it must not be modified after this call
+	 * @param generator generates the group when it's not in the cache
+	 */
+	public MutationOperationGroup get(BitSet key, Supplier<MutationOperationGroup> generator) {
+		final MutationOperationGroup cached = groups.get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final MutationOperationGroup group = generator.get();
+		if ( groups.size() < MAX_SIZE ) {
+			groups.putIfAbsent( key, group );
+		}
+		return group;
+	}
+
+	/**
+	 * @return the number of groups in the cache
+	 */
+	public int size() {
+		return groups.size();
+	}
+}
@@ -6,6 +6,7 @@
 package org.hibernate.reactive.persister.entity.mutation;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.Internal;
@@ -58,6 +59,7 @@ public class ReactiveInsertCoordinatorStandard extends AbstractMutationCoordinat
 		InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	private final DynamicMutationGroupCache dynamicInsertGroups = new DynamicMutationGroupCache();
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -210,8 +212,8 @@ protected CompletionStage<GeneratedValues> doDynamicInserts(
 			SharedSessionContractImplementor session,
 			boolean forceIdentifierBinding,
 			boolean isIdentityInsert) {
-		final boolean[] insertability = getPropertiesToInsert( values );
-		final MutationOperationGroup insertGroup = generateDynamicInsertSqlGroup( insertability, object, session, forceIdentifierBinding );
+		final boolean[] insertability = includeValuesGeneratedInMemory( getPropertiesToInsert( values ), object, session );
+		final MutationOperationGroup insertGroup = dynamicInsertSqlGroup( insertability, object, session, forceIdentifierBinding );
 		final ReactiveMutationExecutor mutationExecutor = getReactiveMutationExecutor( session, insertGroup, true );
 
 		final InsertValuesAnalysis insertValuesAnalysis = new InsertValuesAnalysis( entityPersister(), values );
@@ -335,6 +337,62 @@ public boolean[] getPropertiesToInsert(Object[] fields) {
 		return notNull;
 	}
 
+	/**
+	 * Include the attributes with values generated in memory now, instead of in
+	 * applyTableInsertDetails(), so that the key of the dynamic insert accounts
+	 * for them, and the same attributes are decomposed.
+	 *
+	 * @return a copy of the given array, with the generated attributes included
+	 */
+	private boolean[] includeValuesGeneratedInMemory(
+			boolean[] insertable,
+			Object object,
+			SharedSessionContractImplementor session) {
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		final boolean[] included = insertable.clone();
+		for ( int i = 0; i < included.length; i++ ) {
+			if ( !included[i] ) {
+				final Generator generator = attributeMappings.get( i ).getGenerator();
+				if ( isValueGenerated( generator ) && !generator.generatedOnExecution( object, session ) ) {
+					included[i] = true;
+				}
+			}
+		}
+		return included;
+	}
+
+	/**
+	 * The dynamic insert of the given attributes, generated only the first time
+	 * the same attributes are inserted.
+	 */
+	private MutationOperationGroup dynamicInsertSqlGroup(
+			boolean[] insertable,
+			Object object,
+			SharedSessionContractImplementor session,
+			boolean forceIdentifierBinding) {
+		final BitSet key = new BitSet();
+		for ( int i = 0; i < insertable.length; i++ ) {
+			if ( insertable[i] ) {
+				key.set( i );
+			}
+		}
+		if ( forceIdentifierBinding ) {
+			key.set( insertable.length );
+		}
+		return dynamicInsertGroups.get(
+				key,
+				// the generation must not change the array decomposed by the caller
+				() -> generateDynamicInsertSqlGroup( insertable.clone(), object, session, forceIdentifierBinding )
+		);
+	}
+
+	/**
+	 * @return the cache of the dynamic inserts of the entity
+	 */
+	public DynamicMutationGroupCache getDynamicInsertGroups() {
+		return dynamicInsertGroups;
+	}
+
 	protected MutationOperationGroup generateDynamicInsertSqlGroup(
 			boolean[] insertable,
 			Object object,
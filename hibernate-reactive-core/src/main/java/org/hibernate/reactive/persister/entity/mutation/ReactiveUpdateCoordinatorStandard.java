@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.persister.entity.mutation;
 
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -20,6 +21,8 @@
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.Generator;
 import org.hibernate.generator.values.GeneratedValues;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.EntityVersionMapping;
 import org.hibernate.metamodel.mapping.SingularAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
@@ -46,6 +49,8 @@ public class ReactiveUpdateCoordinatorStandard extends UpdateCoordinatorStandard
 
 	private CompletableFuture<GeneratedValues> updateResultStage;
 
+	private final DynamicMutationGroupCache dynamicUpdateGroups;
+
 	public ReactiveUpdateCoordinatorStandard(
 			AbstractEntityPersister entityPersister,
 			SessionFactoryImplementor factory,
@@ -53,7 +58,23 @@ public ReactiveUpdateCoordinatorStandard(
 			BatchKey batchKey,
 			MutationOperationGroup versionUpdateGroup,
 			BatchKey versionUpdateBatchkey) {
+		this( entityPersister, factory, staticUpdateGroup, batchKey, versionUpdateGroup, versionUpdateBatchkey, null );
+	}
+
+	/**
+	 * @param dynamicUpdateGroups the cache of the dynamic updates, shared by all the update
+	 * operations of the entity, or {@code null} if they must be generated every time
+	 */
+	public ReactiveUpdateCoordinatorStandard(
+			AbstractEntityPersister entityPersister,
+			SessionFactoryImplementor factory,
+			MutationOperationGroup staticUpdateGroup,
+			BatchKey batchKey,
+			MutationOperationGroup versionUpdateGroup,
+			BatchKey versionUpdateBatchkey,
+			DynamicMutationGroupCache dynamicUpdateGroups) {
 		super( entityPersister, factory, staticUpdateGroup, batchKey, versionUpdateGroup, versionUpdateBatchkey );
+		this.dynamicUpdateGroups = dynamicUpdateGroups;
 	}
 
 	// Utility method to use method reference
@@ -298,14 +319,12 @@ protected GeneratedValues doDynamicUpdate(
 			SharedSessionContractImplementor session) {
 		this.updateResultStage = new CompletableFuture<>();
 		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
-				entity,
-				id,
-				rowId,
-				oldValues,
-				valuesAnalysis,
-				session
-		);
+		final MutationOperationGroup dynamicUpdateGroup = dynamicUpdateGroups == null
+				? generateDynamicUpdateGroup( entity, id, rowId, oldValues, valuesAnalysis, session )
+				: dynamicUpdateGroups.get(
+						dynamicUpdateKey( entity, rowId, dirtinessChecker, valuesAnalysis, session ),
+						() -> generateDynamicUpdateGroup( entity, id, rowId, oldValues, valuesAnalysis, session )
+				);
 
 		final ReactiveMutationExecutor mutationExecutor = mutationExecutor( session, dynamicUpdateGroup );
 
@@ -357,6 +376,54 @@ protected GeneratedValues doDynamicUpdate(
 		return null;
 	}
 
+	/**
+	 * @return the cache of the dynamic updates of the entity, shared by all the
+	 *         update coordinators of the entity, or null if they aren't cached
+	 */
+	public DynamicMutationGroupCache getDynamicUpdateGroups() {
+		return dynamicUpdateGroups;
+	}
+
+	/**
+	 * The choices which determine the SQL of a dynamic update, when it doesn't
+	 * depend on the old values: the attributes included in the update, the
+	 * attributes generated on execution, the use of the row id, and the tables
+	 * to update.
+	 */
+	private BitSet dynamicUpdateKey(
+			Object entity,
+			Object rowId,
+			UpdateCoordinatorStandard.InclusionChecker dirtinessChecker,
+			UpdateCoordinatorStandard.UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		final int size = attributeMappings.size();
+		final BitSet key = new BitSet();
+		for ( int i = 0; i < size; i++ ) {
+			final AttributeMapping attribute = attributeMappings.get( i );
+			if ( attribute instanceof SingularAttributeMapping ) {
+				if ( dirtinessChecker.include( i, (SingularAttributeMapping) attribute ) ) {
+					key.set( i );
+				}
+				final Generator generator = attribute.getGenerator();
+				if ( generator != null && generator.generatedOnExecution( entity, session ) ) {
+					key.set( size + i );
+				}
+			}
+		}
+		if ( rowId != null ) {
+			key.set( 2 * size );
+		}
+		final int[] position = { 2 * size + 1 };
+		entityPersister().forEachMutableTable( tableMapping -> {
+			if ( valuesAnalysis.getTablesNeedingUpdate().contains( tableMapping ) ) {
+				key.set( position[0] );
+			}
+			position[0]++;
+		} );
+		return key;
+	}
+
 	@Override
 	protected GeneratedValues doStaticUpdate(
 			Object entity,
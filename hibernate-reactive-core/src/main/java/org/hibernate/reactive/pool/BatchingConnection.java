@@ -61,6 +61,25 @@ public ReactiveConnection withBatchSize(int batchSize) {
 		}
 	}
 
+	/**
+	 * @return the maximum number of statements of a batch, or 0 if the
+	 *         statements aren't batched
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Change the maximum number of statements of the next batches, without
+	 * executing the current batch.
+	 *
+	 * @param batchSize the maximum number of statements of a batch, or 0
+	 *                  to stop batching the statements
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = Math.max( 0, batchSize );
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
 		if ( !hasBatch() ) {
@@ -70,9 +89,7 @@ public CompletionStage<Void> executeBatch() {
 			String sql = batchedSql;
 			Expectation expectation = batchedExpectation;
 			List<Object[]> paramValues = batchParamValues;
-			batchedSql = null;
-			batchParamValues = null;
-			batchedExpectation = null;
+			clearBatch();
 
 			if ( paramValues.size() == 1 ) {
 				return update( sql, paramValues.get( 0 ) )
@@ -114,6 +131,15 @@ public CompletionStage<Void> update(
 		}
 	}
 
+	/**
+	 * Discard the statements of the current batch, without executing them.
+	 */
+	public void clearBatch() {
+		batchedSql = null;
+		batchParamValues = null;
+		batchedExpectation = null;
+	}
+
 	private void newBatch(String sql, Object[] paramValues, Expectation expectation) {
 		batchedSql = sql;
 		batchedExpectation = expectation;
@@ -194,6 +220,32 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 				: delegate.selectJdbc( sql, paramValues );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int resultRowLimit) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.selectJdbc( sql, paramValues, resultRowLimit ) )
+				: delegate.selectJdbc( sql, paramValues, resultRowLimit );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.selectJdbcWithCursor( sql, paramValues, fetchSize ) )
+				: delegate.selectJdbcWithCursor( sql, paramValues, fetchSize );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize, int resultRowLimit) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.selectJdbcWithCursor( sql, paramValues, fetchSize, resultRowLimit ) )
+				: delegate.selectJdbcWithCursor( sql, paramValues, fetchSize, resultRowLimit );
+	}
+
+	@Override
+	public int getResultRowLimit() {
+		return delegate.getResultRowLimit();
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return delegate.selectJdbcOutsideTransaction( sql, paramValues );
@@ -60,6 +60,67 @@ interface Expectation {
 
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 
+	/**
+	 * Run a query which may return at most the given number of rows,
+	 * instead of the {@linkplain #getResultRowLimit() default limit}.
+	 * The limit only applies to this query. A query which exceeds the
+	 * limit fails, without keeping the rows over the limit in memory.
+	 * <p>
+	 * By default, the limit is ignored.
+	 *
+	 * @param resultRowLimit the maximum number of rows, or {@code 0}
+	 *                       if the number of rows is not limited
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#QUERY_RESULT_ROW_LIMIT
+	 */
+	default CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int resultRowLimit) {
+		return selectJdbc( sql, paramValues );
+	}
+
+	/**
+	 * Run a query, reading its result in chunks of the given size via a
+	 * database cursor, when possible. Only the current chunk is held in
+	 * memory: the next one is read when the rows of the current chunk
+	 * have been consumed.
+	 * <p>
+	 * Implementations which can't use a cursor, for example outside a
+	 * transaction, read the whole result, like
+	 * {@link #selectJdbc(String, Object[])}, which is what the default
+	 * implementation does.
+	 *
+	 * @param fetchSize the number of rows to read in each chunk
+	 *
+	 * @see org.hibernate.reactive.adaptor.impl.CursorResultSetAdaptor
+	 */
+	default CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize) {
+		return selectJdbc( sql, paramValues );
+	}
+
+	/**
+	 * Like {@link #selectJdbcWithCursor(String, Object[], int)}, but the
+	 * query may return at most the given number of rows, instead of the
+	 * {@linkplain #getResultRowLimit() default limit}.
+	 * <p>
+	 * By default, the whole result is read, ignoring the limit.
+	 *
+	 * @param fetchSize the number of rows to read in each chunk
+	 * @param resultRowLimit the maximum number of rows, or {@code 0}
+	 *                       if the number of rows is not limited
+	 */
+	default CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize, int resultRowLimit) {
+		return selectJdbc( sql, paramValues );
+	}
+
+	/**
+	 * @return the default maximum number of rows that a query may return,
+	 *         or {@code 0} if the number of rows is not limited
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#QUERY_RESULT_ROW_LIMIT
+	 */
+	default int getResultRowLimit() {
+		return 0;
+	}
+
 	/**
 	 * This method is intended to be used only for queries returning
 	 * a ResultSet that must be executed outside of any "current"
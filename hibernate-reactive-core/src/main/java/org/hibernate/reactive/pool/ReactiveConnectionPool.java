@@ -8,6 +8,7 @@
 import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.service.Service;
 
 import java.util.concurrent.CompletionStage;
@@ -71,4 +72,27 @@ public interface ReactiveConnectionPool extends Service {
 	 * instance from this getter.
 	 */
 	CompletionStage<Void> getCloseFuture();
+
+	/**
+	 * A {@link CompletionStage} which completes when the pool is ready
+	 * to serve the first requests without delay, for example, after it
+	 * has opened its initial connections. It doesn't fail when an attempt
+	 * to open them fails, but completes when a later attempt succeeds.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#POOL_WARM_UP_SIZE
+	 */
+	default CompletionStage<Void> getReadyFuture() {
+		return CompletionStages.voidFuture();
+	}
+
+	/**
+	 * Whether the pool is ready to serve the first requests without delay,
+	 * that is, whether {@link #getReadyFuture()} has completed. This may be
+	 * used by a readiness check.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#POOL_WARM_UP_SIZE
+	 */
+	default boolean isReady() {
+		return true;
+	}
 }
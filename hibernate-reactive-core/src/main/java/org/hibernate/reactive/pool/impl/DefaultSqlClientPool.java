@@ -13,6 +13,7 @@
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -21,7 +22,9 @@
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
@@ -38,6 +41,7 @@
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * A pool of reactive connections backed by a Vert.x {@link Pool}.
@@ -55,6 +59,14 @@
  * destroyed. For cases where the underlying {@code Pool} lifecycle
  * is managed externally to Hibernate, use
  * {@link org.hibernate.reactive.pool.impl.ExternalSqlClientPool}.
+ * <p>
+ * If {@link Settings#POOL_EVENT_LOOP_AFFINITY} is enabled, there is
+ * a {@code Pool} for each event loop, and connections are obtained
+ * from the pool of the event loop of the caller whenever possible.
+ * <p>
+ * If {@link Settings#POOL_WARM_UP_SIZE} is set, connections are opened
+ * when the pool starts, and {@link #getReadyFuture()} completes when
+ * they are open.
  *
  * @see SqlClientPoolConfiguration
  */
@@ -110,8 +122,16 @@ public static VertxDriver findByClassName(String className) {
 	}
 
 	private Pool pools;
+	private EventLoopAffinityPools eventLoopPools;
+	private boolean eventLoopAffinity;
+	private int resultRowLimit;
+	private int warmUpSize;
+	private List<String> warmUpStatements;
+	private PoolWarmUp warmUp;
+	private final AtomicInteger poolConnectionsInUse = new AtomicInteger();
 	private SqlStatementLogger sqlStatementLogger;
 	private SqlExceptionHelper sqlExceptionHelper;
+	private ReactiveStatisticsImpl statistics;
 	private URI uri;
 	private ServiceRegistryImplementor serviceRegistry;
 
@@ -130,23 +150,116 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		eventLoopAffinity = ConfigurationHelper.getBoolean( Settings.POOL_EVENT_LOOP_AFFINITY, configuration, false );
+		resultRowLimit = ConfigurationHelper.getInt( Settings.QUERY_RESULT_ROW_LIMIT, configuration, 0 );
+		warmUpSize = ConfigurationHelper.getInt( Settings.POOL_WARM_UP_SIZE, configuration, 0 );
+		warmUpStatements = warmUpStatements( ConfigurationHelper.getString( Settings.POOL_WARM_UP_STATEMENTS, configuration ) );
+	}
+
+	private static List<String> warmUpStatements(String statements) {
+		final List<String> list = new ArrayList<>();
+		if ( statements != null ) {
+			for ( String statement : statements.split( ";" ) ) {
+				if ( !statement.isBlank() ) {
+					list.add( statement.trim() );
+				}
+			}
+		}
+		return list;
 	}
 
 	@Override
 	public void start() {
-		if ( pools == null ) {
-			pools = createPool( uri );
+		if ( pools == null && eventLoopPools == null ) {
+			if ( eventLoopAffinity ) {
+				eventLoopPools = createEventLoopPools( uri );
+			}
+			else {
+				pools = createPool( uri );
+			}
+			if ( warmUpSize > 0 ) {
+				warmUp();
+			}
 		}
 	}
 
+	/**
+	 * Open the initial connections of the pool, in the background.
+	 *
+	 * @see Settings#POOL_WARM_UP_SIZE
+	 */
+	private void warmUp() {
+		final SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		final PoolOptions poolOptions = configuration.poolOptions();
+		warmUp = new PoolWarmUp(
+				serviceRegistry.getService( VertxInstance.class ).getVertx(),
+				this::getPool,
+				this::connectionsInUse,
+				warmUpSize,
+				eventLoopPools == null ? poolOptions.getMaxSize() : eventLoopPools.eventLoopPoolSize(),
+				eventLoopPools != null,
+				warmUpStatements,
+				configuration.connectOptions( uri ).getCachePreparedStatements(),
+				poolOptions.getIdleTimeoutUnit().toMillis( poolOptions.getIdleTimeout() )
+		);
+		warmUp.start();
+	}
+
+	/**
+	 * @return the number of connections of the given pool which are in use,
+	 *         or which have been requested
+	 */
+	private int connectionsInUse(Pool pool) {
+		return eventLoopPools == null
+				? poolConnectionsInUse.get()
+				: eventLoopPools.connectionsInUse( pool );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return getConnection( getSqlExceptionHelper() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(SqlExceptionHelper sqlExceptionHelper) {
+		return eventLoopPools == null
+				? getPoolConnection( sqlExceptionHelper )
+				: getEventLoopConnection( sqlExceptionHelper );
+	}
+
+	private CompletionStage<ReactiveConnection> getPoolConnection(SqlExceptionHelper sqlExceptionHelper) {
+		poolConnectionsInUse.incrementAndGet();
+		return getConnectionFromPool( getPool(), sqlExceptionHelper, poolConnectionsInUse::decrementAndGet );
+	}
+
+	private CompletionStage<ReactiveConnection> getEventLoopConnection(SqlExceptionHelper sqlExceptionHelper) {
+		final EventLoopAffinityPools.EventLoopPool eventLoopPool = eventLoopPools.reserve();
+		return getConnectionFromPool( eventLoopPool.pool(), sqlExceptionHelper, eventLoopPool::release );
+	}
+
 	@Override
 	public CompletionStage<Void> getCloseFuture() {
 		return closeFuture.toCompletionStage();
 	}
 
+	@Override
+	public CompletionStage<Void> getReadyFuture() {
+		return warmUp == null ? voidFuture() : warmUp.getReadyFuture();
+	}
+
+	@Override
+	public boolean isReady() {
+		return warmUp == null || warmUp.isReady();
+	}
+
 	@Override
 	protected Pool getPool() {
-		return pools;
+		return eventLoopPools == null ? pools : eventLoopPools.currentPool();
+	}
+
+	@Override
+	protected int getResultRowLimit() {
+		return resultRowLimit;
 	}
 
 	@Override
@@ -163,6 +276,14 @@ public SqlExceptionHelper getSqlExceptionHelper() {
 		return sqlExceptionHelper;
 	}
 
+	@Override
+	protected ReactiveStatisticsImpl getStatistics() {
+		if ( statistics == null ) {
+			statistics = ReactiveStatisticsImpl.of( serviceRegistry );
+		}
+		return statistics;
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
@@ -179,6 +300,28 @@ protected Pool createPool(URI uri) {
 		return createPool( uri, configuration.connectOptions( uri ), configuration.poolOptions(), vertx.getVertx() );
 	}
 
+	/**
+	 * Create a {@link Pool} for each event loop, splitting the configured
+	 * maximum size of the connection pool between them.
+	 *
+	 * @param uri JDBC URL or database URI
+	 *
+	 * @return the new {@link EventLoopAffinityPools}
+	 */
+	private EventLoopAffinityPools createEventLoopPools(URI uri) {
+		final SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		final Vertx vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		final SqlConnectOptions connectOptions = configuration.connectOptions( uri );
+		final PoolOptions poolOptions = configuration.poolOptions();
+		final EventLoopAffinityPools eventLoopAffinityPools = new EventLoopAffinityPools(
+				poolOptions.getMaxSize(),
+				vertx,
+				size -> createPool( uri, connectOptions, new PoolOptions( poolOptions ).setMaxSize( size ), vertx )
+		);
+		LOG.connectionPoolEventLoopAffinity( eventLoopAffinityPools.eventLoopPoolSize() );
+		return eventLoopAffinityPools;
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * connection pool options, and the given instance of {@link Vertx}.
@@ -267,9 +410,15 @@ private boolean matchesScheme(String driverName, String scheme) {
 
 	@Override
 	public void stop() {
+		if ( warmUp != null ) {
+			warmUp.stop();
+		}
 		if ( pools != null ) {
 			this.closeFuture = pools.close();
 		}
+		if ( eventLoopPools != null ) {
+			this.closeFuture = eventLoopPools.close();
+		}
 	}
 
 	public static URI parse(String url) {
@@ -0,0 +1,195 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+
+/**
+ * A set of Vert.x {@link Pool}s, one for each event loop, so that the
+ * connections used by a session are created on, and keep running on,
+ * the event loop of the session.
+ * <p>
+ * When every connection of the pool of the current event loop is in
+ * use, a connection is borrowed from the pool of another event loop
+ * with available connections, if any. Otherwise, the request waits
+ * in the queue of the pool of the current event loop.
+ * <p>
+ * The maximum number of connections is split between the pools of
+ * the event loops and the pool used by the other threads, so that the
+ * total number of connections never exceeds it. If it's smaller than
+ * the number of pools, some of them are shared.
+ *
+ * @see org.hibernate.reactive.provider.Settings#POOL_EVENT_LOOP_AFFINITY
+ */
+final class EventLoopAffinityPools {
+
+	/**
+	 * The key of the pool used by threads which aren't Vert.x event loops
+	 */
+	private static final Object OFF_LOOP = new Object();
+
+	private final ConcurrentMap<Object, EventLoopPool> pools = new ConcurrentHashMap<>();
+	private final List<EventLoopPool> createdPools = new ArrayList<>();
+	private final IntFunction<Pool> poolFactory;
+	private final int poolSize;
+	private final int slots;
+	private int poolCount;
+
+	/**
+	 * @param poolSize the maximum number of connections, across all event loops
+	 * @param vertx the {@link Vertx} instance
+	 * @param poolFactory a function creating a new {@link Pool} of the given size
+	 */
+	EventLoopAffinityPools(int poolSize, Vertx vertx, IntFunction<Pool> poolFactory) {
+		this.poolFactory = poolFactory;
+		this.poolSize = Math.max( 1, poolSize );
+		int eventLoops = 0;
+		for ( Object ignored : vertx.nettyEventLoopGroup() ) {
+			eventLoops++;
+		}
+		// One pool for each event loop, and one for the other threads
+		this.slots = eventLoops + 1;
+	}
+
+	/**
+	 * @return the minimum number of connections of the pool of each event loop
+	 */
+	int eventLoopPoolSize() {
+		return Math.max( 1, poolSize / slots );
+	}
+
+	/**
+	 * The maximum number of connections of the i-th pool created: the
+	 * remainder of the division is spread over the first pools.
+	 */
+	private int poolSize(int i) {
+		return i < slots
+				? poolSize / slots + ( i < poolSize % slots ? 1 : 0 )
+				: 0;
+	}
+
+	/**
+	 * @return the pool of the current event loop
+	 */
+	Pool currentPool() {
+		return currentEventLoopPool().pool;
+	}
+
+	/**
+	 * Reserve a connection from the pool of the current event loop or,
+	 * if it has no available connections, from the pool of another event
+	 * loop. The caller must call {@link EventLoopPool#release()} when the
+	 * connection is closed, or if it could not be obtained.
+	 */
+	EventLoopPool reserve() {
+		final EventLoopPool current = currentEventLoopPool();
+		if ( current.tryReserve() ) {
+			return current;
+		}
+		for ( EventLoopPool other : pools.values() ) {
+			if ( other != current && other.tryReserve() ) {
+				return other;
+			}
+		}
+		// All the pools are busy, wait in the queue of the current one
+		current.reserve();
+		return current;
+	}
+
+	/**
+	 * @return the number of connections of the given pool which are in
+	 *         use, or which have been reserved
+	 */
+	synchronized int connectionsInUse(Pool pool) {
+		for ( EventLoopPool eventLoopPool : createdPools ) {
+			if ( eventLoopPool.pool == pool ) {
+				return eventLoopPool.inUse.get();
+			}
+		}
+		return 0;
+	}
+
+	private EventLoopPool currentEventLoopPool() {
+		final Context context = Vertx.currentContext();
+		final Object key = context != null && context.isEventLoopContext() && Context.isOnEventLoopThread()
+				? Thread.currentThread()
+				: OFF_LOOP;
+		return pools.computeIfAbsent( key, k -> createPool() );
+	}
+
+	/**
+	 * Create the pool of a new event loop, or share an existing pool if
+	 * the maximum number of connections has already been allocated.
+	 */
+	private synchronized EventLoopPool createPool() {
+		final int index = poolCount++;
+		final int size = poolSize( index );
+		if ( size == 0 ) {
+			return createdPools.get( index % createdPools.size() );
+		}
+		final EventLoopPool pool = new EventLoopPool( poolFactory.apply( size ), size );
+		createdPools.add( pool );
+		return pool;
+	}
+
+	@SuppressWarnings("rawtypes")
+	synchronized Future<Void> close() {
+		final List<Future> closing = new ArrayList<>();
+		for ( EventLoopPool eventLoopPool : createdPools ) {
+			closing.add( eventLoopPool.pool.close() );
+		}
+		pools.clear();
+		createdPools.clear();
+		poolCount = 0;
+		return CompositeFuture.all( closing ).mapEmpty();
+	}
+
+	static final class EventLoopPool {
+		private final Pool pool;
+		private final int maxSize;
+		private final AtomicInteger inUse = new AtomicInteger();
+
+		private EventLoopPool(Pool pool, int maxSize) {
+			this.pool = pool;
+			this.maxSize = maxSize;
+		}
+
+		Pool pool() {
+			return pool;
+		}
+
+		private boolean tryReserve() {
+			int count;
+			do {
+				count = inUse.get();
+				if ( count >= maxSize ) {
+					return false;
+				}
+			}
+			while ( !inUse.compareAndSet( count, count + 1 ) );
+			return true;
+		}
+
+		private void reserve() {
+			inUse.incrementAndGet();
+		}
+
+		void release() {
+			inUse.decrementAndGet();
+		}
+	}
+}
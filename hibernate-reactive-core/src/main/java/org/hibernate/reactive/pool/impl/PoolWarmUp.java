@@ -0,0 +1,281 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * Opens connections of a {@link DefaultSqlClientPool} when it starts, so
+ * that the first requests don't pay for the connection handshakes, and
+ * keeps them open.
+ * <p>
+ * The connections are opened from a Vert.x context on each event loop,
+ * so that, when {@link org.hibernate.reactive.provider.Settings#POOL_EVENT_LOOP_AFFINITY}
+ * is enabled, the pool of every event loop is warmed up. Each connection
+ * prepares the given statements, which are then in its prepared statement
+ * cache, and which are validated by the database. The connections are
+ * held at the same time, so that they are distinct physical connections,
+ * and then released to the pool.
+ * <p>
+ * If the warm-up fails, it's retried after a delay, until it succeeds,
+ * and the pool is only ready once it has succeeded.
+ * <p>
+ * When the pool closes idle connections, the idle connections are
+ * periodically topped up, once the warm-up has succeeded, opening new
+ * connections whenever the pool has fewer idle connections than the
+ * minimum.
+ *
+ * @see org.hibernate.reactive.provider.Settings#POOL_WARM_UP_SIZE
+ */
+final class PoolWarmUp {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The delay before a failed warm-up is retried, in milliseconds
+	 */
+	private static final long RETRY_DELAY = 30_000;
+
+	private final Vertx vertx;
+	private final Supplier<Pool> currentPool;
+	private final ToIntFunction<Pool> connectionsInUse;
+	private final int connectionsPerEventLoop;
+	private final int poolSize;
+	private final int poolTarget;
+	private final boolean eventLoopAffinity;
+	private final List<String> statements;
+	private final boolean cachePreparedStatements;
+	private final long maintenancePeriod;
+	private final List<Long> timers = new CopyOnWriteArrayList<>();
+	private final CompletableFuture<Void> ready = new CompletableFuture<>();
+	private volatile boolean stopped;
+
+	/**
+	 * @param vertx the {@link Vertx} instance
+	 * @param currentPool the pool of the current event loop
+	 * @param connectionsInUse the number of connections of a pool which are in use
+	 * @param connections the number of connections to open for each event loop
+	 * @param poolSize the maximum number of connections of each pool
+	 * @param eventLoopAffinity whether there's a pool for each event loop
+	 * @param statements the statements to prepare on each connection
+	 * @param cachePreparedStatements whether the connections cache their prepared statements
+	 * @param idleTimeout the time after which the pool closes idle connections, in
+	 *                    milliseconds, or zero if they're never closed
+	 */
+	PoolWarmUp(
+			Vertx vertx,
+			Supplier<Pool> currentPool,
+			ToIntFunction<Pool> connectionsInUse,
+			int connections,
+			int poolSize,
+			boolean eventLoopAffinity,
+			List<String> statements,
+			boolean cachePreparedStatements,
+			long idleTimeout) {
+		this.vertx = vertx;
+		this.currentPool = currentPool;
+		this.connectionsInUse = connectionsInUse;
+		this.connectionsPerEventLoop = Math.min( connections, poolSize );
+		this.poolSize = poolSize;
+		this.poolTarget = eventLoopAffinity
+				? connectionsPerEventLoop
+				: Math.min( connections * eventLoops( vertx ), poolSize );
+		this.eventLoopAffinity = eventLoopAffinity;
+		this.statements = statements;
+		this.cachePreparedStatements = cachePreparedStatements;
+		this.maintenancePeriod = idleTimeout / 2;
+	}
+
+	/**
+	 * Start opening the connections, without waiting for them to be open.
+	 */
+	void start() {
+		warmUp( true );
+	}
+
+	/**
+	 * @return a {@link CompletionStage} which completes when all the
+	 *         connections are open and the statements prepared, after
+	 *         as many attempts as necessary
+	 */
+	CompletionStage<Void> getReadyFuture() {
+		return ready.minimalCompletionStage();
+	}
+
+	/**
+	 * @return {@code true} if an attempt to open the connections has succeeded
+	 */
+	boolean isReady() {
+		return ready.isDone();
+	}
+
+	private void warmUp(boolean first) {
+		final long startTime = System.nanoTime();
+		final List<Context> contexts = eventLoopContexts();
+		LOG.warmingUpConnectionPool( connectionsPerEventLoop, contexts.size(), statements.size() );
+		final CompletableFuture<?>[] warmUps = new CompletableFuture<?>[contexts.size()];
+		for ( int i = 0; i < warmUps.length; i++ ) {
+			// When there's a single pool, one of the event loops maintains it
+			final boolean maintain = first && maintenancePeriod > 0 && ( eventLoopAffinity || i == 0 );
+			warmUps[i] = warmUp( contexts.get( i ), connections( i, warmUps.length ), maintain )
+					.toCompletableFuture();
+		}
+		CompletableFuture.allOf( warmUps )
+				.whenComplete( (v, throwable) -> {
+					if ( throwable == null ) {
+						LOG.connectionPoolWarmedUp( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime ) );
+						ready.complete( null );
+					}
+					else {
+						// The pool stays unready until a retry succeeds
+						LOG.unableToWarmUpConnectionPool( throwable );
+						retry();
+					}
+				} );
+	}
+
+	private void retry() {
+		if ( !stopped ) {
+			final long timer = vertx.setTimer( RETRY_DELAY, id -> {
+				timers.remove( id );
+				warmUp( false );
+			} );
+			timers.add( timer );
+		}
+	}
+
+	/**
+	 * Stop maintaining the minimum number of connections.
+	 */
+	void stop() {
+		stopped = true;
+		timers.forEach( vertx::cancelTimer );
+		timers.clear();
+	}
+
+	/**
+	 * @return a new context on each event loop
+	 */
+	private List<Context> eventLoopContexts() {
+		final VertxInternal vertxInternal = (VertxInternal) vertx;
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		final List<Context> contexts = new ArrayList<>();
+		for ( EventExecutor eventLoop : vertx.nettyEventLoopGroup() ) {
+			contexts.add( vertxInternal.createEventLoopContext( (EventLoop) eventLoop, null, classLoader ) );
+		}
+		return contexts;
+	}
+
+	/**
+	 * The number of connections opened from the i-th event loop. When
+	 * there's a single pool, the event loops don't open more than its
+	 * maximum size in total, otherwise each could hold some connections
+	 * while waiting for the others to release theirs.
+	 */
+	private int connections(int i, int eventLoops) {
+		return eventLoopAffinity
+				? connectionsPerEventLoop
+				: poolTarget / eventLoops + ( i < poolTarget % eventLoops ? 1 : 0 );
+	}
+
+	private CompletionStage<Void> warmUp(Context context, int connections, boolean maintain) {
+		final Promise<Void> promise = Promise.promise();
+		context.runOnContext( v -> {
+			final Pool pool = currentPool.get();
+			openConnections( pool, connections ).onComplete( promise );
+			if ( maintain && !stopped ) {
+				timers.add( vertx.setPeriodic( maintenancePeriod, id -> maintain( pool ) ) );
+			}
+		} );
+		return promise.future().toCompletionStage();
+	}
+
+	private void maintain(Pool pool) {
+		// The warm-up, or its retry, opens the connections until it succeeds
+		if ( isReady() ) {
+			// The size of the pool includes the connections in use
+			final int inUse = connectionsInUse.applyAsInt( pool );
+			final int idle = Math.max( 0, pool.size() - inUse );
+			// The pool opens a new connection only when none is idle, so the
+			// idle connections are held while the missing ones are opened,
+			// and no more than the ones the pool may still open are requested
+			final int connections = Math.min( poolTarget, poolSize - inUse );
+			if ( idle < poolTarget && connections > idle ) {
+				openConnections( pool, connections )
+						.onFailure( LOG::unableToWarmUpConnectionPool );
+			}
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private Future<Void> openConnections(Pool pool, int count) {
+		final List<Future> opening = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			opening.add( pool.getConnection().compose( this::prepareStatements ) );
+		}
+		// Wait for every connection, even when one fails, so that none is
+		// released while the others are being opened
+		return CompositeFuture.join( opening )
+				.transform( result -> {
+					for ( Future connection : opening ) {
+						if ( connection.succeeded() ) {
+							( (SqlConnection) connection.result() ).close();
+						}
+					}
+					return result.succeeded()
+							? Future.<Void>succeededFuture()
+							: Future.<Void>failedFuture( result.cause() );
+				} );
+	}
+
+	private Future<SqlConnection> prepareStatements(SqlConnection connection) {
+		Future<Void> prepared = Future.succeededFuture();
+		for ( String sql : statements ) {
+			prepared = prepared.compose( v -> connection.prepare( sql ).compose( this::release ) );
+		}
+		return prepared
+				.map( connection )
+				.onFailure( throwable -> connection.close() );
+	}
+
+	private Future<Void> release(PreparedStatement statement) {
+		// A cached statement stays in the cache of the connection
+		return cachePreparedStatements
+				? Future.succeededFuture()
+				: statement.close();
+	}
+
+	private static int eventLoops(Vertx vertx) {
+		int eventLoops = 0;
+		for ( Object ignored : vertx.nettyEventLoopGroup() ) {
+			eventLoops++;
+		}
+		return Math.max( 1, eventLoops );
+	}
+}
@@ -12,23 +12,28 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collector;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.adaptor.impl.CursorResultSetAdaptor;
 import org.hibernate.reactive.adaptor.impl.JdbcNull;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Cursor;
 import io.vertx.sqlclient.DatabaseException;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
@@ -59,13 +64,32 @@ public class SqlClientConnection implements ReactiveConnection {
 
 	private final Pool pool;
 	private final SqlConnection connection;
+	private final Runnable onResultRowLimitExceeded;
+	private final ReactiveStatisticsImpl statistics;
+	private final int resultRowLimit;
 	private Transaction transaction;
+	private Runnable closeAction;
 
-	SqlClientConnection(SqlConnection connection, Pool pool, SqlStatementLogger sqlStatementLogger, SqlExceptionHelper sqlExceptionHelper) {
+	/**
+	 * @param resultRowLimit the default maximum number of rows returned by a query
+	 * @param onResultRowLimitExceeded invoked each time a query fails because it exceeded the limit
+	 * @param statistics records the time spent executing statements
+	 */
+	SqlClientConnection(
+			SqlConnection connection,
+			Pool pool,
+			SqlStatementLogger sqlStatementLogger,
+			SqlExceptionHelper sqlExceptionHelper,
+			int resultRowLimit,
+			Runnable onResultRowLimitExceeded,
+			ReactiveStatisticsImpl statistics) {
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
 		this.connection = connection;
 		this.sqlExceptionHelper = sqlExceptionHelper;
+		this.resultRowLimit = resultRowLimit;
+		this.onResultRowLimitExceeded = onResultRowLimitExceeded;
+		this.statistics = statistics;
 		LOG.tracef( "Connection created: %s", connection );
 	}
 
@@ -123,11 +147,90 @@ public CompletionStage<Result> select(String sql, Object[] paramValues) {
 
 	@Override
 	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return selectJdbc( sql, paramValues, resultRowLimit );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int resultRowLimit) {
+		if ( resultRowLimit > 0 ) {
+			return selectJdbcWithinLimit( sql, paramValues, resultRowLimit );
+		}
 		translateNulls( paramValues );
 		return preparedQuery( sql, Tuple.wrap( paramValues ) )
 				.thenApply( ResultSetAdaptor::new );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize) {
+		return selectJdbcWithCursor( sql, paramValues, fetchSize, resultRowLimit );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize, int resultRowLimit) {
+		if ( transaction == null ) {
+			// Some databases, like PostgreSQL, only support cursors inside a transaction
+			return selectJdbc( sql, paramValues, resultRowLimit );
+		}
+		translateNulls( paramValues );
+		feedback( sql );
+		return client().prepare( sql ).toCompletionStage()
+				.thenCompose( statement -> {
+					final CursorReader reader = new CursorReader( sql, statement, paramValues, fetchSize, resultRowLimit );
+					return reader.read()
+							.whenComplete( (rows, throwable) -> {
+								if ( throwable != null ) {
+									reader.close();
+								}
+							} )
+							.thenApply( rows -> new CursorResultSetAdaptor( rows, reader::read, reader::hasMore, reader::close ) );
+				} )
+				.handle( (resultSet, throwable) -> convertException( resultSet, sql, throwable ) );
+	}
+
+	/**
+	 * Execute a query with a row limit as a regular prepared query, collecting
+	 * at most one row more than the limit as the rows of the result are
+	 * received: the rows over the limit are discarded instead of being kept in
+	 * memory, and the query fails when its result is complete.
+	 */
+	private CompletionStage<ResultSet> selectJdbcWithinLimit(String sql, Object[] paramValues, int resultRowLimit) {
+		translateNulls( paramValues );
+		final long startTime = feedback( sql );
+		return client().preparedQuery( sql )
+				.collecting( rowsWithinLimit( resultRowLimit ) )
+				.execute( Tuple.wrap( paramValues ) ).toCompletionStage()
+				.whenComplete( (result, throwable) -> statistics.statementExecuted( startTime ) )
+				.handle( (result, throwable) -> convertException( result, sql, throwable ) )
+				.thenApply( result -> {
+					final List<Row> rows = result.value();
+					if ( rows.size() > resultRowLimit ) {
+						onResultRowLimitExceeded.run();
+						throw LOG.resultRowLimitExceeded( resultRowLimit, sql );
+					}
+					return new ResultSetAdaptor( rows, result.columnsNames(), result.columnDescriptors() );
+				} );
+	}
+
+	private static Collector<Row, ?, List<Row>> rowsWithinLimit(int resultRowLimit) {
+		return Collector.of(
+				ArrayList::new,
+				(rows, row) -> {
+					if ( rows.size() <= resultRowLimit ) {
+						rows.add( row );
+					}
+				},
+				(rows, others) -> {
+					rows.addAll( others );
+					return rows;
+				}
+		);
+	}
+
+	@Override
+	public int getResultRowLimit() {
+		return resultRowLimit;
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return preparedQueryOutsideTransaction( sql, Tuple.wrap( paramValues ) )
@@ -142,8 +245,9 @@ public CompletionStage<Void> execute(String sql) {
 
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return client().query( sql ).execute().toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.statementExecuted( startTime ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
 				.thenCompose( CompletionStages::voidFuture );
 	}
@@ -249,48 +353,60 @@ public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Tuple parame
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.statementExecuted( startTime ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, PrepareOptions options) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.statementExecuted( startTime ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.batchExecuted( startTime, parameters.size() ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return client().preparedQuery( sql ).execute().toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.statementExecuted( startTime ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return pool.preparedQuery( sql ).execute().toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.statementExecuted( startTime ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql, Tuple parameters) {
-		feedback( sql );
+		final long startTime = feedback( sql );
 		return pool.preparedQuery( sql ).execute( parameters ).toCompletionStage()
+				.whenComplete( (rows, throwable) -> statistics.statementExecuted( startTime ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
-	private void feedback(String sql) {
+	/**
+	 * Log the statement.
+	 *
+	 * @return the start time of the execution, for the statistics
+	 */
+	private long feedback(String sql) {
 		Objects.requireNonNull( sql, "SQL query cannot be null" );
 		// DDL already gets formatted by the client, so don't reformat it
 		FormatStyle formatStyle = sqlStatementLogger.isFormat() && !sql.contains( System.lineSeparator() )
 				? FormatStyle.BASIC
 				: FormatStyle.NONE;
 		sqlStatementLogger.logStatement( sql, formatStyle.getFormatter() );
+		return statistics.startTime();
 	}
 
 	private SqlConnection client() {
@@ -321,13 +437,30 @@ public CompletionStage<Void> rollbackTransaction() {
 				.whenComplete( this::clearTransaction );
 	}
 
+	/**
+	 * Run the given action once, when this connection is closed.
+	 */
+	SqlClientConnection onClose(Runnable action) {
+		this.closeAction = action;
+		return this;
+	}
+
 	@Override
 	public CompletionStage<Void> close() {
 		return connection.close()
 				.onSuccess( event -> LOG.tracef( "Connection closed: %s", connection ) )
+				.onComplete( event -> runCloseAction() )
 				.toCompletionStage();
 	}
 
+	private void runCloseAction() {
+		final Runnable action = closeAction;
+		closeAction = null;
+		if ( action != null ) {
+			action.run();
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getLastInsertedId(RowSet<Row> rows, Class<T> idClass, String idColumnName) {
 		final Long mySqlId = rows.property( MYSQL_LAST_INSERTED_ID );
@@ -373,6 +506,56 @@ private void clearTransaction(Void v, Throwable x) {
 		transaction = null;
 	}
 
+	/**
+	 * Reads the rows of a query from a {@link Cursor}, one chunk at a time,
+	 * enforcing the result row limit over the whole result.
+	 */
+	private class CursorReader {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final Cursor cursor;
+		private final int fetchSize;
+		private final int resultRowLimit;
+		private int rowCount;
+		private boolean closed;
+
+		CursorReader(String sql, PreparedStatement statement, Object[] paramValues, int fetchSize, int resultRowLimit) {
+			this.sql = sql;
+			this.statement = statement;
+			this.cursor = statement.cursor( Tuple.wrap( paramValues ) );
+			this.fetchSize = fetchSize;
+			this.resultRowLimit = resultRowLimit;
+		}
+
+		CompletionStage<RowSet<Row>> read() {
+			statistics.cursorRead();
+			return cursor.read( fetchSize ).toCompletionStage()
+					.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
+					.thenApply( this::countRows );
+		}
+
+		private RowSet<Row> countRows(RowSet<Row> rows) {
+			rowCount += rows.size();
+			if ( resultRowLimit > 0 && rowCount > resultRowLimit ) {
+				onResultRowLimitExceeded.run();
+				close();
+				throw LOG.resultRowLimitExceeded( resultRowLimit, sql );
+			}
+			return rows;
+		}
+
+		boolean hasMore() {
+			return cursor.hasMore();
+		}
+
+		void close() {
+			if ( !closed ) {
+				closed = true;
+				cursor.close().onComplete( ar -> statement.close() );
+			}
+		}
+	}
+
 	private static class RowSetResult implements Result {
 		private final RowSet<Row> rowset;
 		private final RowIterator<Row> it;
@@ -7,12 +7,14 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 
 import io.vertx.core.Future;
 import io.vertx.sqlclient.Pool;
@@ -37,6 +39,8 @@
  */
 public abstract class SqlClientPool implements ReactiveConnectionPool {
 
+	private final LongAdder resultRowLimitExceededCount = new LongAdder();
+
 	/**
 	 * @return the underlying Vert.x {@link Pool} for the current context.
 	 */
@@ -54,6 +58,34 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 */
 	protected abstract SqlExceptionHelper getSqlExceptionHelper();
 
+	/**
+	 * @return the default maximum number of rows that a query executed
+	 * by a connection from this pool may return, or {@code 0} if the
+	 * number of rows is not limited
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#QUERY_RESULT_ROW_LIMIT
+	 */
+	protected int getResultRowLimit() {
+		return 0;
+	}
+
+	/**
+	 * @return the {@link ReactiveStatisticsImpl} which records the time
+	 * spent acquiring connections and executing statements
+	 */
+	protected ReactiveStatisticsImpl getStatistics() {
+		return ReactiveStatisticsImpl.DISABLED;
+	}
+
+	/**
+	 * @return the number of queries which failed because they returned
+	 * more rows than allowed by the {@linkplain ReactiveConnection#getResultRowLimit()
+	 * result row limit}
+	 */
+	public long getResultRowLimitExceededCount() {
+		return resultRowLimitExceededCount.sum();
+	}
+
 	/**
 	 * Get a {@link Pool} for the specified tenant.
 	 * <p>
@@ -89,16 +121,43 @@ public CompletionStage<ReactiveConnection> getConnection(String tenantId, SqlExc
 	}
 
 	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
-		return completionStage( pool.getConnection().map( this::newConnection ), ReactiveConnection::close );
+		return completionStage(
+				acquireConnection( pool ).map( sqlConnection -> newConnection( sqlConnection, pool ) ),
+				ReactiveConnection::close
+		);
 	}
 
 	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, SqlExceptionHelper sqlExceptionHelper) {
 		return completionStage(
-				pool.getConnection().map( sqlConnection -> newConnection( sqlConnection, sqlExceptionHelper ) ),
+				acquireConnection( pool ).map( sqlConnection -> newConnection( sqlConnection, pool, sqlExceptionHelper ) ),
+				ReactiveConnection::close
+		);
+	}
+
+	/**
+	 * Obtain a reactive connection from the given {@link Pool}, running the
+	 * given action when the connection is closed, or if it could not be
+	 * obtained.
+	 */
+	protected CompletionStage<ReactiveConnection> getConnectionFromPool(
+			Pool pool,
+			SqlExceptionHelper sqlExceptionHelper,
+			Runnable onRelease) {
+		return completionStage(
+				acquireConnection( pool )
+						.onFailure( throwable -> onRelease.run() )
+						.map( sqlConnection -> newConnection( sqlConnection, pool, sqlExceptionHelper ).onClose( onRelease ) ),
 				ReactiveConnection::close
 		);
 	}
 
+	private Future<SqlConnection> acquireConnection(Pool pool) {
+		final ReactiveStatisticsImpl statistics = getStatistics();
+		final long startTime = statistics.startTime();
+		return pool.getConnection()
+				.onSuccess( sqlConnection -> statistics.connectionAcquired( startTime ) );
+	}
+
 	/**
 	 * @param onCancellation invoke when converted {@link java.util.concurrent.CompletionStage} cancellation.
 	 */
@@ -118,11 +177,22 @@ private <T> CompletionStage<T> completionStage(Future<T> future, Consumer<T> onC
 		return completableFuture;
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return newConnection( connection, getSqlExceptionHelper() );
+	private SqlClientConnection newConnection(SqlConnection connection, Pool pool) {
+		return newConnection( connection, pool, getSqlExceptionHelper() );
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection, SqlExceptionHelper sqlExceptionHelper) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), sqlExceptionHelper );
+	/**
+	 * @param pool the pool the connection was obtained from
+	 */
+	private SqlClientConnection newConnection(SqlConnection connection, Pool pool, SqlExceptionHelper sqlExceptionHelper) {
+		return new SqlClientConnection(
+				connection,
+				pool,
+				getSqlStatementLogger(),
+				sqlExceptionHelper,
+				getResultRowLimit(),
+				resultRowLimitExceededCount::increment,
+				getStatistics()
+		);
 	}
 }
@@ -57,6 +57,52 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_CLEANER_PERIOD = "hibernate.vertx.pool.cleaner_period";
 
+	/**
+	 * When enabled, the default connection pool is split into one Vert.x
+	 * pool for each event loop, and a session obtains its connection from
+	 * the pool of its own event loop, borrowing from the pool of another
+	 * event loop only when all the connections of its own are in use.
+	 * This avoids moving work between event loop threads.
+	 * <p>
+	 * The maximum size of the pool, {@link #POOL_SIZE}, is divided between
+	 * the event loops. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.DefaultSqlClientPool
+	 */
+	String POOL_EVENT_LOOP_AFFINITY = "hibernate.vertx.pool.event_loop_affinity";
+
+	/**
+	 * The number of connections the default connection pool opens from each
+	 * event loop when it starts, instead of opening them when the first
+	 * requests need them, so that the first requests don't wait for the
+	 * connection handshakes. The total is never more than the maximum size
+	 * of the pool, {@link #POOL_SIZE}.
+	 * <p>
+	 * When {@link #POOL_IDLE_TIMEOUT} is set, the pool periodically opens new
+	 * connections whenever it has fewer idle connections than this number
+	 * for each event loop.
+	 * {@link org.hibernate.reactive.mutiny.Mutiny.SessionFactory#whenReady()}
+	 * completes when the initial connections are open. If they can't be
+	 * opened, the warm-up is retried until it succeeds, and the factory
+	 * isn't {@linkplain org.hibernate.reactive.mutiny.Mutiny.SessionFactory#isReady()
+	 * ready} until then.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see #POOL_WARM_UP_STATEMENTS
+	 */
+	String POOL_WARM_UP_SIZE = "hibernate.vertx.pool.warm_up_size";
+
+	/**
+	 * SQL statements, separated by semicolons, which each connection opened
+	 * by the warm-up of the default connection pool prepares, so that they
+	 * are in the prepared statement cache of the connection, and so that an
+	 * invalid statement is reported when the pool starts.
+	 *
+	 * @see #POOL_WARM_UP_SIZE
+	 */
+	String POOL_WARM_UP_STATEMENTS = "hibernate.vertx.pool.warm_up_statements";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
@@ -66,4 +112,91 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.ReactiveConnectionPool} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * Specifies the path of a file in which a snapshot of the schema
+	 * metadata extracted from the database catalog is stored. When set,
+	 * schema validation and migration compute a checksum of the catalog
+	 * using a single query, and reuse the stored snapshot instead of
+	 * extracting the metadata again if the checksum has not changed.
+	 * <p>
+	 * The file should only be writable by the application.
+	 *
+	 * @see org.hibernate.reactive.provider.service.ReactiveSchemaSnapshot
+	 */
+	String SCHEMA_SNAPSHOT_FILE = "hibernate.reactive.schema_snapshot.file";
+
+	/**
+	 * When enabled, the loaders and mutation operations of the reactive
+	 * persisters which are normally created lazily, the first time they're
+	 * needed, are created when the {@code SessionFactory} starts.
+	 * This trades a slightly longer startup for the absence of latency spikes
+	 * on the first requests.
+	 * <p>
+	 * Disabled by default.
+	 */
+	String PREPARE_PERSISTERS = "hibernate.reactive.prepare_persisters";
+
+	/**
+	 * When set to a value greater than one, enables group commit for
+	 * {@link org.hibernate.reactive.mutiny.Mutiny.SessionFactory#withStatelessTransaction(java.util.function.BiFunction)}:
+	 * the units of work submitted concurrently on the same event loop are
+	 * executed, one after the other, in a single database transaction, each
+	 * one isolated by a savepoint, and are committed together. The value is
+	 * the maximum number of units of work sharing a transaction.
+	 * <p>
+	 * Each unit of work completes only after the shared commit, and a unit
+	 * which fails is rolled back to its savepoint without affecting the others.
+	 * <p>
+	 * Disabled by default.
+	 */
+	String STATELESS_GROUP_COMMIT_SIZE = "hibernate.reactive.stateless.group_commit_size";
+
+	/**
+	 * The maximum number of rows that a query may return. A query which
+	 * exceeds the limit fails with an exception, without keeping the rows
+	 * over the limit in memory: the rows are collected as they're received
+	 * from the database, and those after the first row over the limit are
+	 * discarded. The query is executed like any other query, without a
+	 * cursor or any additional round trip to the database.
+	 * <p>
+	 * The limit may be overridden for a single query using
+	 * {@link org.hibernate.reactive.mutiny.Mutiny.SelectionQuery#setResultRowLimit(int)}.
+	 * <p>
+	 * By default, the number of rows is not limited.
+	 */
+	String QUERY_RESULT_ROW_LIMIT = "hibernate.reactive.query.result_row_limit";
+
+	/**
+	 * When enabled, and the query cache is enabled, a cacheable query
+	 * which misses the cache while an identical query is being executed
+	 * by another session doesn't hit the database: it waits for the
+	 * query already being executed, and reads the same rows. This avoids
+	 * a burst of identical queries when a popular entry of the query
+	 * cache expires or is invalidated.
+	 * <p>
+	 * The rows are only shared if none of the tables the query reads
+	 * have been updated since the query started, according to the
+	 * timestamps cache used to invalidate the query cache.
+	 * <p>
+	 * Enabled by default.
+	 */
+	String QUERY_CACHE_SHARE_IN_FLIGHT = "hibernate.reactive.query_cache.share_in_flight";
+
+	/**
+	 * When set to a positive value, each event loop thread keeps the plans
+	 * of the select queries and the interpretations of the HQL queries it
+	 * used most recently in a cache which only that thread accesses, in
+	 * front of the query plan cache shared by all the threads. The value
+	 * is the maximum number of entries in the cache of each event loop.
+	 * <p>
+	 * This avoids contention between the event loops on the shared cache
+	 * when there are many of them executing the same queries. The hits and
+	 * misses of the caches are reported by
+	 * {@link org.hibernate.reactive.stat.ReactiveStatistics}.
+	 * <p>
+	 * Disabled by default, and always disabled when the query plan cache
+	 * is disabled.
+	 */
+	String QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE = "hibernate.reactive.query_plan_cache.event_loop_max_size";
 }
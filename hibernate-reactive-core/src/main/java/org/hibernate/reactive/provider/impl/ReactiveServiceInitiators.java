@@ -41,6 +41,7 @@
 import org.hibernate.reactive.provider.service.ReactiveSessionFactoryBuilderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveSqmMultiTableMutationStrategyProviderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveValuesMappingProducerProviderInitiator;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -184,6 +185,9 @@ private static List<StandardServiceInitiator<?>> buildInitialServiceInitiatorLis
 		// ReactiveConnectionPool - Exclusive to Hibernate Reactive:
 		serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
 
+		// ReactiveStatistics - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( ReactiveStatisticsInitiator.INSTANCE );
+
 		// --- end of custom services.
 
 		serviceInitiators.trimToSize();
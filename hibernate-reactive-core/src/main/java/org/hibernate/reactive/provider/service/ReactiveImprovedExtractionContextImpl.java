@@ -7,8 +7,11 @@
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -38,10 +41,15 @@
 import java.util.concurrent.Executor;
 
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.schema.internal.exec.ImprovedExtractionContextImpl;
@@ -52,7 +60,12 @@
 
 public class ReactiveImprovedExtractionContextImpl extends ImprovedExtractionContextImpl {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ReactiveConnectionPool service;
+	private final String url;
+	private Path snapshotFile;
+	private ReactiveSchemaSnapshot snapshot;
 
 	public ReactiveImprovedExtractionContextImpl(
 			ServiceRegistry registry,
@@ -66,6 +79,10 @@ public ReactiveImprovedExtractionContextImpl(
 				databaseObjectAccess
 		);
 		service = registry.getService( ReactiveConnectionPool.class );
+		final Map<String, Object> settings = registry.getService( ConfigurationService.class ).getSettings();
+		url = ConfigurationHelper.getString( Settings.URL, settings );
+		final String snapshotPath = ConfigurationHelper.getString( Settings.SCHEMA_SNAPSHOT_FILE, settings );
+		snapshotFile = snapshotPath == null || snapshotPath.isBlank() ? null : Paths.get( snapshotPath );
 	}
 
 	@Override
@@ -74,6 +91,71 @@ public <T> T getQueryResults(
 			Object[] positionalParameters,
 			ResultSetProcessor<T> resultSetProcessor) throws SQLException {
 
+		final ReactiveSchemaSnapshot snapshot = snapshot();
+		if ( snapshot == null ) {
+			return executeQuery( queryString, positionalParameters, resultSetProcessor );
+		}
+
+		final String key = ReactiveSchemaSnapshot.key( queryString, positionalParameters );
+		final ResultSet cached = snapshot.find( key );
+		if ( cached != null ) {
+			try ( cached ) {
+				return resultSetProcessor.process( cached );
+			}
+		}
+
+		final ResultSet recorded = executeQuery(
+				queryString,
+				positionalParameters,
+				resultSet -> snapshot.record( key, resultSet )
+		);
+		try ( recorded ) {
+			return resultSetProcessor.process( recorded );
+		}
+	}
+
+	/**
+	 * The {@link ReactiveSchemaSnapshot} matching the current fingerprint of the
+	 * database catalog, if {@link Settings#SCHEMA_SNAPSHOT_FILE} is set.
+	 */
+	private ReactiveSchemaSnapshot snapshot() throws SQLException {
+		if ( snapshot == null && snapshotFile != null ) {
+			final String fingerprintQuery = ReactiveSchemaSnapshot
+					.fingerprintQuery( getJdbcEnvironment().getDialect() );
+			if ( fingerprintQuery == null ) {
+				disableSnapshot( "no checksum query for Dialect [" + getJdbcEnvironment().getDialect() + "]" );
+			}
+			else {
+				final String fingerprint = executeQuery(
+						fingerprintQuery,
+						null,
+						resultSet -> ReactiveSchemaSnapshot.fingerprint( url, resultSet )
+				);
+				snapshot = ReactiveSchemaSnapshot.load( snapshotFile, fingerprint );
+			}
+		}
+		return snapshot;
+	}
+
+	private void disableSnapshot(String reason) {
+		LOG.schemaSnapshotDisabled( reason );
+		snapshotFile = null;
+		snapshot = null;
+	}
+
+	@Override
+	public void cleanup() {
+		super.cleanup();
+		if ( snapshot != null ) {
+			snapshot.save();
+		}
+	}
+
+	private <T> T executeQuery(
+			String queryString,
+			Object[] positionalParameters,
+			ResultSetProcessor<T> resultSetProcessor) throws SQLException {
+
 		final CompletionStage<ReactiveConnection> connectionStage = service.getConnection();
 
 		try (final ResultSet resultSet = getQueryResultSet( queryString, positionalParameters, connectionStage )) {
@@ -0,0 +1,380 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.DialectDelegateWrapper;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A snapshot of the results of the queries executed against the database
+ * catalog during schema metadata extraction, stored in a local file so that
+ * it can be reused across restarts.
+ * <p>
+ * The snapshot is identified by a fingerprint: a hash of the connection URL
+ * and of the result of a single, dialect-specific, checksum query over the
+ * catalog. If the fingerprint stored in the file doesn't match the current
+ * one, the snapshot is discarded and the metadata is extracted again.
+ * <p>
+ * The file is a JSON document, holding the column metadata and the rows
+ * of each result. Only values of the basic types returned by the catalog
+ * queries are read back, so reading the file never instantiates arbitrary
+ * classes: any other value is stored as a string.
+ *
+ * @see org.hibernate.reactive.provider.Settings#SCHEMA_SNAPSHOT_FILE
+ */
+public class ReactiveSchemaSnapshot {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String POSTGRESQL_FINGERPRINT_QUERY = "select "
+			+ "(select count(*) from information_schema.columns), "
+			+ "(select md5(string_agg(table_schema || '.' || table_name || '.' || column_name || ':' || data_type || ':' || is_nullable || ':' || coalesce(character_maximum_length, -1) || ':' || coalesce(numeric_precision, -1) || ':' || coalesce(numeric_scale, -1), ',' order by table_schema, table_name, column_name)) from information_schema.columns), "
+			+ "(select md5(string_agg(constraint_schema || '.' || table_name || '.' || constraint_name || ':' || constraint_type, ',' order by constraint_schema, table_name, constraint_name)) from information_schema.table_constraints), "
+			+ "(select md5(string_agg(schemaname || '.' || tablename || '.' || indexname || ':' || indexdef, ',' order by schemaname, tablename, indexname)) from pg_catalog.pg_indexes), "
+			+ "(select md5(string_agg(sequence_schema || '.' || sequence_name, ',' order by sequence_schema, sequence_name)) from information_schema.sequences)";
+
+	private static final String MYSQL_FINGERPRINT_QUERY = "select "
+			+ "(select count(*) from information_schema.columns), "
+			+ "(select sum(crc32(concat_ws('.', table_schema, table_name, column_name, column_type, is_nullable))) from information_schema.columns), "
+			+ "(select sum(crc32(concat_ws('.', constraint_schema, table_name, constraint_name, constraint_type))) from information_schema.table_constraints), "
+			+ "(select sum(crc32(concat_ws('.', table_schema, table_name, index_name, seq_in_index, column_name, non_unique))) from information_schema.statistics)";
+
+	private static final String SQLSERVER_FINGERPRINT_QUERY = "select "
+			+ "(select count(*) from information_schema.columns), "
+			+ "(select checksum_agg(checksum(table_catalog, table_schema, table_name, column_name, data_type, is_nullable, character_maximum_length, numeric_precision, numeric_scale)) from information_schema.columns), "
+			+ "(select checksum_agg(checksum(constraint_schema, table_name, constraint_name, constraint_type)) from information_schema.table_constraints), "
+			+ "(select checksum_agg(checksum(object_id, name, index_id, type, is_unique)) from sys.indexes), "
+			+ "(select checksum_agg(checksum(schema_id, name)) from sys.sequences)";
+
+	private static final String ORACLE_FINGERPRINT_QUERY = "select "
+			+ "(select count(*) from all_tab_columns where owner in (select username from all_users where oracle_maintained = 'N')), "
+			+ "(select sum(ora_hash(owner || '.' || table_name || '.' || column_name || ':' || data_type || ':' || data_length || ':' || data_precision || ':' || data_scale || ':' || nullable)) from all_tab_columns where owner in (select username from all_users where oracle_maintained = 'N')), "
+			+ "(select sum(ora_hash(owner || '.' || table_name || '.' || constraint_name || ':' || constraint_type)) from all_constraints where owner in (select username from all_users where oracle_maintained = 'N')), "
+			+ "(select sum(ora_hash(owner || '.' || table_name || '.' || index_name || ':' || uniqueness)) from all_indexes where owner in (select username from all_users where oracle_maintained = 'N')), "
+			+ "(select sum(ora_hash(sequence_owner || '.' || sequence_name)) from all_sequences where sequence_owner in (select username from all_users where oracle_maintained = 'N')) "
+			+ "from dual";
+
+	/**
+	 * The types of the values which are read back from the file, by the
+	 * name stored with each value
+	 */
+	private static final Map<String, Function<String, Object>> VALUE_TYPES = Map.of(
+			"string", value -> value,
+			"boolean", Boolean::valueOf,
+			"byte", Byte::valueOf,
+			"short", Short::valueOf,
+			"int", Integer::valueOf,
+			"long", Long::valueOf,
+			"float", Float::valueOf,
+			"double", Double::valueOf,
+			"biginteger", BigInteger::new,
+			"bigdecimal", BigDecimal::new
+	);
+
+	private final Path file;
+	private final String fingerprint;
+	private final Map<String, CachedRowSet> results;
+	private boolean modified;
+
+	private ReactiveSchemaSnapshot(Path file, String fingerprint, Map<String, CachedRowSet> results) {
+		this.file = file;
+		this.fingerprint = fingerprint;
+		this.results = results;
+	}
+
+	/**
+	 * The query computing the checksum of the catalog for the given dialect.
+	 *
+	 * @return the query, or null if the dialect isn't supported
+	 */
+	public static String fingerprintQuery(Dialect dialect) {
+		//Allow for wrapped cases:
+		if ( dialect instanceof DialectDelegateWrapper ) {
+			dialect = ( (DialectDelegateWrapper) dialect ).getWrappedDialect();
+		}
+		if ( dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect ) {
+			return POSTGRESQL_FINGERPRINT_QUERY;
+		}
+		if ( dialect instanceof MySQLDialect || dialect instanceof MariaDBDialect ) {
+			return MYSQL_FINGERPRINT_QUERY;
+		}
+		if ( dialect instanceof SQLServerDialect ) {
+			return SQLSERVER_FINGERPRINT_QUERY;
+		}
+		if ( dialect instanceof OracleDialect ) {
+			return ORACLE_FINGERPRINT_QUERY;
+		}
+		return null;
+	}
+
+	/**
+	 * Compute the fingerprint of the catalog from the connection URL and
+	 * the result of the {@linkplain #fingerprintQuery(Dialect) checksum query}.
+	 */
+	public static String fingerprint(String url, ResultSet checksum) throws SQLException {
+		final MessageDigest digest = sha256();
+		digest.update( String.valueOf( url ).getBytes( StandardCharsets.UTF_8 ) );
+		final int columnCount = checksum.getMetaData().getColumnCount();
+		while ( checksum.next() ) {
+			for ( int i = 1; i <= columnCount; i++ ) {
+				digest.update( (byte) '|' );
+				digest.update( String.valueOf( checksum.getObject( i ) ).getBytes( StandardCharsets.UTF_8 ) );
+			}
+		}
+		final StringBuilder hex = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			hex.append( String.format( "%02x", b ) );
+		}
+		return hex.toString();
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	/**
+	 * Read the snapshot stored in the given file, if it matches the given
+	 * fingerprint, or return an empty snapshot otherwise.
+	 */
+	public static ReactiveSchemaSnapshot load(Path file, String fingerprint) {
+		if ( Files.isReadable( file ) ) {
+			try {
+				final JsonObject json = new JsonObject( Files.readString( file, StandardCharsets.UTF_8 ) );
+				if ( fingerprint.equals( json.getString( "fingerprint" ) ) ) {
+					final Map<String, CachedRowSet> results = new HashMap<>();
+					final JsonObject stored = json.getJsonObject( "results" );
+					for ( String key : stored.fieldNames() ) {
+						results.put( key, toRowSet( stored.getJsonObject( key ) ) );
+					}
+					LOG.usingSchemaSnapshot( file );
+					return new ReactiveSchemaSnapshot( file, fingerprint, results );
+				}
+			}
+			catch (IOException | SQLException | DecodeException | ClassCastException | IllegalArgumentException e) {
+				LOG.unableToReadSchemaSnapshot( file, e );
+			}
+		}
+		LOG.schemaSnapshotOutOfDate( file );
+		return new ReactiveSchemaSnapshot( file, fingerprint, new HashMap<>() );
+	}
+
+	/**
+	 * The key identifying the results of a query in the snapshot.
+	 */
+	public static String key(String query, Object[] parameters) {
+		return parameters == null || parameters.length == 0
+				? query
+				: query + Arrays.deepToString( parameters );
+	}
+
+	/**
+	 * @return a copy of the results stored for the given key, or null if
+	 * the snapshot doesn't contain them
+	 */
+	public ResultSet find(String key) throws SQLException {
+		final CachedRowSet rowSet = results.get( key );
+		return rowSet == null ? null : rowSet.createCopy();
+	}
+
+	/**
+	 * Add the rows of the given {@link ResultSet} to the snapshot.
+	 *
+	 * @return a copy of the recorded results
+	 */
+	public ResultSet record(String key, ResultSet resultSet) throws SQLException {
+		final CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+		rowSet.populate( resultSet );
+		results.put( key, rowSet );
+		modified = true;
+		return rowSet.createCopy();
+	}
+
+	/**
+	 * Write the snapshot to its file, if new results have been recorded.
+	 */
+	public void save() {
+		if ( modified ) {
+			try {
+				final Path directory = file.toAbsolutePath().getParent();
+				Files.createDirectories( directory );
+				// Write to a temporary file first, so that a concurrent reader never sees a partial snapshot
+				final Path temp = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+				try ( Writer out = Files.newBufferedWriter( temp, StandardCharsets.UTF_8 ) ) {
+					out.write( toJson().encode() );
+				}
+				catch (IOException | SQLException e) {
+					Files.deleteIfExists( temp );
+					throw e;
+				}
+				Files.move( temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				modified = false;
+			}
+			catch (IOException | SQLException e) {
+				LOG.unableToWriteSchemaSnapshot( file, e );
+			}
+		}
+	}
+
+	private JsonObject toJson() throws SQLException {
+		final JsonObject stored = new JsonObject();
+		for ( Map.Entry<String, CachedRowSet> entry : results.entrySet() ) {
+			stored.put( entry.getKey(), toJson( entry.getValue() ) );
+		}
+		return new JsonObject()
+				.put( "fingerprint", fingerprint )
+				.put( "results", stored );
+	}
+
+	private static JsonObject toJson(CachedRowSet results) throws SQLException {
+		try ( CachedRowSet rowSet = results.createCopy() ) {
+			final ResultSetMetaData metaData = rowSet.getMetaData();
+			final int columnCount = metaData.getColumnCount();
+			final JsonArray columns = new JsonArray();
+			for ( int i = 1; i <= columnCount; i++ ) {
+				columns.add( new JsonObject()
+						.put( "name", metaData.getColumnName( i ) )
+						.put( "label", metaData.getColumnLabel( i ) )
+						.put( "type", metaData.getColumnType( i ) ) );
+			}
+			final JsonArray rows = new JsonArray();
+			rowSet.beforeFirst();
+			while ( rowSet.next() ) {
+				final JsonArray row = new JsonArray();
+				for ( int i = 1; i <= columnCount; i++ ) {
+					row.add( toJson( rowSet.getObject( i ) ) );
+				}
+				rows.add( row );
+			}
+			return new JsonObject()
+					.put( "columns", columns )
+					.put( "rows", rows );
+		}
+	}
+
+	/**
+	 * A value is stored as the name of its type and its string representation
+	 */
+	private static JsonArray toJson(Object value) {
+		if ( value == null ) {
+			return null;
+		}
+		final String type = valueType( value );
+		return new JsonArray().add( type ).add( value.toString() );
+	}
+
+	private static String valueType(Object value) {
+		if ( value instanceof Boolean ) {
+			return "boolean";
+		}
+		if ( value instanceof Byte ) {
+			return "byte";
+		}
+		if ( value instanceof Short ) {
+			return "short";
+		}
+		if ( value instanceof Integer ) {
+			return "int";
+		}
+		if ( value instanceof Long ) {
+			return "long";
+		}
+		if ( value instanceof Float ) {
+			return "float";
+		}
+		if ( value instanceof Double ) {
+			return "double";
+		}
+		if ( value instanceof BigInteger ) {
+			return "biginteger";
+		}
+		if ( value instanceof BigDecimal ) {
+			return "bigdecimal";
+		}
+		return "string";
+	}
+
+	private static CachedRowSet toRowSet(JsonObject json) throws SQLException {
+		final JsonArray columns = json.getJsonArray( "columns" );
+		final RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+		metaData.setColumnCount( columns.size() );
+		for ( int i = 1; i <= columns.size(); i++ ) {
+			final JsonObject column = columns.getJsonObject( i - 1 );
+			metaData.setColumnName( i, column.getString( "name" ) );
+			metaData.setColumnLabel( i, column.getString( "label" ) );
+			metaData.setColumnType( i, column.getInteger( "type" ) );
+			metaData.setNullable( i, ResultSetMetaData.columnNullable );
+		}
+		final CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+		rowSet.setMetaData( metaData );
+		for ( Object stored : json.getJsonArray( "rows" ) ) {
+			final JsonArray row = (JsonArray) stored;
+			// Rows are inserted before the current row, unless it's the last one
+			rowSet.last();
+			rowSet.moveToInsertRow();
+			for ( int i = 1; i <= columns.size(); i++ ) {
+				final JsonArray value = row.getJsonArray( i - 1 );
+				if ( value == null ) {
+					rowSet.updateNull( i );
+				}
+				else {
+					rowSet.updateObject( i, fromJson( value ) );
+				}
+			}
+			rowSet.insertRow();
+			rowSet.moveToCurrentRow();
+		}
+		rowSet.beforeFirst();
+		return rowSet;
+	}
+
+	private static Object fromJson(JsonArray value) {
+		final Function<String, Object> type = VALUE_TYPES.get( value.getString( 0 ) );
+		if ( type == null ) {
+			throw new IllegalArgumentException( "Unexpected type of value: " + value.getString( 0 ) );
+		}
+		return type.apply( value.getString( 1 ) );
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -24,7 +25,10 @@
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.Order;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.FlushModeType;
@@ -45,6 +49,27 @@ default CompletionStage<List<R>> getReactiveResultList() {
 
 	CompletionStage<List<R>> reactiveList();
 
+	/**
+	 * Execute the query for a page of results using keyset pagination.
+	 *
+	 * @see KeysetPage
+	 */
+	CompletionStage<KeysetResultList<R>> reactiveKeysetResultList(KeysetPage<R> page);
+
+	/**
+	 * Execute the query, writing the rows of its result directly as a
+	 * JSON array of objects, without materializing the results.
+	 *
+	 * @param rowsPerBuffer the number of rows written to each buffer
+	 * @param consumer the consumer of the buffers: the next rows are only
+	 *                 read when the stage it returns completes
+	 *
+	 * @return the number of rows
+	 *
+	 * @see org.hibernate.reactive.sql.results.internal.ReactiveJsonResultsConsumer
+	 */
+	CompletionStage<Long> reactiveResultJson(int rowsPerBuffer, Function<Buffer, CompletionStage<Void>> consumer);
+
 	CompletionStage<R> getReactiveSingleResult();
 
 	CompletionStage<R> getReactiveSingleResultOrNull();
@@ -130,6 +155,10 @@ default CompletionStage<List<R>> getReactiveResultList() {
 
 	ReactiveSelectionQuery<R> enableFetchProfile(String profileName);
 
+	ReactiveSelectionQuery<R> setResultRowLimit(int resultRowLimit);
+
+	ReactiveSelectionQuery<R> setEvictAfterQuery(boolean evictAfterQuery);
+
 	@Override
 	ReactiveSelectionQuery<R> setParameter(String name, Object value);
 
@@ -0,0 +1,356 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.internal;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.reactive.session.impl.ReactiveSessionFactoryImpl;
+
+import io.vertx.core.Context;
+
+/**
+ * A cache of the plans of select queries and of the interpretations of
+ * HQL queries which is confined to each event loop thread, and reads
+ * through to the {@link QueryInterpretationCache} of the factory, which
+ * is shared by all the threads.
+ * <p>
+ * Each event loop keeps the plans it has used most recently in a map
+ * that only that thread reads and writes, so that a query which is
+ * executed over and over doesn't contend with the other event loops on
+ * the concurrent map of the shared cache. The plans are the same objects
+ * as in the shared cache: a miss of the local cache is resolved by the
+ * shared cache, which creates the plan only if it doesn't have it yet.
+ * Threads other than the event loops always use the shared cache.
+ * <p>
+ * Each event loop also counts the hits and misses of its own cache,
+ * and the counts are only added up when the statistics are read.
+ *
+ * @see org.hibernate.reactive.provider.Settings#QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE
+ */
+public class EventLoopQueryPlanCache {
+
+	private final int maxSize;
+	private final ThreadLocal<LocalCache> localCache = new ThreadLocal<>();
+	private final Set<LocalCache> localCaches = ConcurrentHashMap.newKeySet();
+	private volatile boolean closed;
+
+	/**
+	 * @param maxSize the maximum number of plans and interpretations cached by each event loop
+	 */
+	public EventLoopQueryPlanCache(int maxSize) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "The maximum size of the cache must be positive" );
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Return the plan of the select query with the given key, from the cache
+	 * of the current event loop if the factory has one, or else from the
+	 * shared cache, creating it if necessary.
+	 *
+	 * @param factory the session factory
+	 * @param key the key of the plan in the {@link QueryInterpretationCache}
+	 * @param creator creates the plan when it's not cached
+	 */
+	public static <R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			SessionFactoryImplementor factory,
+			QueryInterpretationCache.Key key,
+			Supplier<SelectQueryPlan<R>> creator) {
+		final QueryInterpretationCache sharedCache = factory.getQueryEngine().getInterpretationCache();
+		final EventLoopQueryPlanCache eventLoopCache = of( factory );
+		return eventLoopCache == null
+				? sharedCache.resolveSelectQueryPlan( key, creator )
+				: eventLoopCache.localSelectQueryPlan( key, () -> sharedCache.resolveSelectQueryPlan( key, creator ) );
+	}
+
+	/**
+	 * Return the interpretation of the given HQL query, from the cache of the
+	 * current event loop if the factory has one, or else from the shared cache.
+	 *
+	 * @param factory the session factory
+	 * @param hql the HQL query
+	 * @param resultType the expected type of the result, or {@code null}
+	 * @param sharedResolver resolves the interpretation using the shared cache
+	 */
+	public static HqlInterpretation resolveHqlInterpretation(
+			SessionFactoryImplementor factory,
+			String hql,
+			Class<?> resultType,
+			Supplier<HqlInterpretation> sharedResolver) {
+		final EventLoopQueryPlanCache eventLoopCache = of( factory );
+		return eventLoopCache == null
+				? sharedResolver.get()
+				: eventLoopCache.localHqlInterpretation( hql, resultType, sharedResolver );
+	}
+
+	private static EventLoopQueryPlanCache of(SessionFactoryImplementor factory) {
+		return factory instanceof ReactiveSessionFactoryImpl
+				? ( (ReactiveSessionFactoryImpl) factory ).getEventLoopQueryPlanCache()
+				: null;
+	}
+
+	/**
+	 * Return the plan of the select query with the given key, from the cache
+	 * of the current event loop, or else from the shared cache.
+	 *
+	 * @param key the key of the plan in the {@link QueryInterpretationCache}
+	 * @param sharedResolver resolves the plan using the shared cache
+	 */
+	@SuppressWarnings("unchecked")
+	private <R> SelectQueryPlan<R> localSelectQueryPlan(
+			QueryInterpretationCache.Key key,
+			Supplier<SelectQueryPlan<R>> sharedResolver) {
+		final LocalCache cache = currentLocalCache();
+		if ( cache == null ) {
+			return sharedResolver.get();
+		}
+		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) cache.get( key );
+		if ( cached != null ) {
+			cache.hit();
+			return cached;
+		}
+		cache.miss();
+		final SelectQueryPlan<R> plan = sharedResolver.get();
+		// The key might refer to the mutable state of the query
+		cache.put( key.prepareForStore(), plan );
+		return plan;
+	}
+
+	/**
+	 * Return the interpretation of the given HQL query, from the cache of
+	 * the current event loop, or else from the shared cache.
+	 *
+	 * @param hql the HQL query
+	 * @param resultType the expected type of the result, or {@code null}
+	 * @param sharedResolver resolves the interpretation using the shared cache
+	 */
+	private HqlInterpretation localHqlInterpretation(
+			String hql,
+			Class<?> resultType,
+			Supplier<HqlInterpretation> sharedResolver) {
+		final LocalCache cache = currentLocalCache();
+		if ( cache == null ) {
+			return sharedResolver.get();
+		}
+		final HqlKey key = new HqlKey( hql, resultType );
+		final HqlInterpretation cached = (HqlInterpretation) cache.get( key );
+		if ( cached != null ) {
+			cache.hit();
+			return cached;
+		}
+		cache.miss();
+		final HqlInterpretation interpretation = sharedResolver.get();
+		cache.put( key, interpretation );
+		return interpretation;
+	}
+
+	/**
+	 * Stop caching when the factory is closed. Each event loop empties
+	 * its own cache the next time it looks up a plan, since the map of
+	 * an event loop may only be accessed by its thread.
+	 */
+	public void clear() {
+		closed = true;
+	}
+
+	/**
+	 * @return the number of lookups found in the caches of all the event loops
+	 */
+	public long getHitCount() {
+		return sum( LocalCache::hitCount, null );
+	}
+
+	/**
+	 * @return the number of lookups found in the cache of the event loop
+	 *         with the given thread name
+	 */
+	public long getHitCount(String threadName) {
+		return sum( LocalCache::hitCount, threadName );
+	}
+
+	/**
+	 * @return the number of lookups not found in the caches of all the event loops
+	 */
+	public long getMissCount() {
+		return sum( LocalCache::missCount, null );
+	}
+
+	/**
+	 * @return the number of lookups not found in the cache of the event
+	 *         loop with the given thread name
+	 */
+	public long getMissCount(String threadName) {
+		return sum( LocalCache::missCount, threadName );
+	}
+
+	/**
+	 * @return the names of the event loop threads which have a cache
+	 */
+	public Set<String> getThreadNames() {
+		final Set<String> names = new HashSet<>();
+		localCaches.forEach( cache -> names.add( cache.threadName ) );
+		return names;
+	}
+
+	/**
+	 * Reset the hit and miss counts of the event loop with the given
+	 * thread name, or of all the event loops if it's {@code null}.
+	 * Each event loop resets its own counts the next time it updates them.
+	 */
+	public void resetCounts(String threadName) {
+		for ( LocalCache cache : localCaches ) {
+			if ( threadName == null || threadName.equals( cache.threadName ) ) {
+				cache.requestReset();
+			}
+		}
+	}
+
+	private long sum(ToLongFunction<LocalCache> count, String threadName) {
+		long sum = 0;
+		for ( LocalCache cache : localCaches ) {
+			if ( threadName == null || threadName.equals( cache.threadName ) ) {
+				sum += count.applyAsLong( cache );
+			}
+		}
+		return sum;
+	}
+
+	private LocalCache currentLocalCache() {
+		if ( !Context.isOnEventLoopThread() ) {
+			return null;
+		}
+		final LocalCache cache = localCache.get();
+		if ( closed ) {
+			if ( cache != null ) {
+				localCache.remove();
+				localCaches.remove( cache );
+				cache.clear();
+			}
+			return null;
+		}
+		return cache == null ? createLocalCache() : cache;
+	}
+
+	private LocalCache createLocalCache() {
+		final LocalCache cache = new LocalCache( maxSize, Thread.currentThread().getName() );
+		localCache.set( cache );
+		localCaches.add( cache );
+		return cache;
+	}
+
+	/**
+	 * A map which evicts the entry used least recently, only accessed by
+	 * the thread which owns it. The counts of hits and misses are only
+	 * written by that thread, and may be read by any thread.
+	 */
+	private static final class LocalCache extends LinkedHashMap<Object, Object> {
+		private static final AtomicIntegerFieldUpdater<LocalCache> RESET_REQUESTS =
+				AtomicIntegerFieldUpdater.newUpdater( LocalCache.class, "resetRequests" );
+
+		private final int maxSize;
+		private final String threadName;
+		private volatile long hits;
+		private volatile long misses;
+		// The counts are current when the owner has done every reset requested
+		private volatile int resetRequests;
+		private volatile int resets;
+
+		LocalCache(int maxSize, String threadName) {
+			super( 16, 0.75f, true );
+			this.maxSize = maxSize;
+			this.threadName = threadName;
+		}
+
+		void hit() {
+			resetIfRequested();
+			hits++;
+		}
+
+		void miss() {
+			resetIfRequested();
+			misses++;
+		}
+
+		private void resetIfRequested() {
+			final int requested = resetRequests;
+			if ( resets != requested ) {
+				hits = 0;
+				misses = 0;
+				resets = requested;
+			}
+		}
+
+		void requestReset() {
+			RESET_REQUESTS.incrementAndGet( this );
+		}
+
+		long hitCount() {
+			final long count = hits;
+			return resets == resetRequests ? count : 0;
+		}
+
+		long missCount() {
+			final long count = misses;
+			return resets == resetRequests ? count : 0;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+			return size() > maxSize;
+		}
+
+		// Kept in a set while its entries change, so it must not be compared by content
+		@Override
+		public boolean equals(Object o) {
+			return this == o;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+
+	private static final class HqlKey {
+		private final String hql;
+		private final Class<?> resultType;
+
+		private HqlKey(String hql, Class<?> resultType) {
+			this.hql = hql;
+			this.resultType = resultType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof HqlKey ) ) {
+				return false;
+			}
+			final HqlKey that = (HqlKey) o;
+			return hql.equals( that.hql ) && Objects.equals( resultType, that.resultType );
+		}
+
+		@Override
+		public int hashCode() {
+			return hql.hashCode() * 31 + Objects.hashCode( resultType );
+		}
+	}
+}
@@ -5,18 +5,34 @@
  */
 package org.hibernate.reactive.query.internal;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.reactive.query.sqm.spi.ReactiveNativeQueryInterpreter;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
 
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_CACHE_ENABLED;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE;
+
 public class ReactiveNativeQueryInterpreterInitiator implements SessionFactoryServiceInitiator<NativeQueryInterpreter> {
 
 	public static ReactiveNativeQueryInterpreterInitiator INSTANCE = new ReactiveNativeQueryInterpreterInitiator();
 
+	/**
+	 * The default maximum size of the query plan cache in Hibernate ORM
+	 */
+	private static final int DEFAULT_MAX_PLANS = 2048;
+
 	@Override
 	public NativeQueryInterpreter initiateService(SessionFactoryServiceInitiatorContext context) {
-		return ReactiveNativeQueryInterpreter.INSTANCE;
+		final ConfigurationService configurationService =
+				context.getServiceRegistry().getService( ConfigurationService.class );
+		final int maxPlans = configurationService
+				.getSetting( QUERY_PLAN_CACHE_ENABLED, StandardConverters.BOOLEAN, true )
+				? configurationService.getSetting( QUERY_PLAN_CACHE_MAX_SIZE, StandardConverters.INTEGER, DEFAULT_MAX_PLANS )
+				: 0;
+		return new ReactiveNativeQueryInterpreter( maxPlans );
 	}
 
 	@Override
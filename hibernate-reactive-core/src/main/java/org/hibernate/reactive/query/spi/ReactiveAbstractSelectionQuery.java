@@ -17,10 +17,18 @@
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.hql.internal.QuerySplitter;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
@@ -28,8 +36,10 @@
 import org.hibernate.query.sqm.internal.SqmInterpretationsKey.InterpretationsKeySource;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
 import org.hibernate.reactive.query.sqm.internal.AggregatedSelectReactiveQueryPlan;
 import org.hibernate.reactive.query.sqm.internal.ConcreteSqmSelectReactiveQueryPlan;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
@@ -67,6 +77,11 @@
 
 	private Set<String> fetchProfiles;
 
+	private Integer resultRowLimit;
+
+	private boolean evictAfterQuery;
+	private Boolean readOnlyBeforeEvictAfterQuery;
+
 	private final Runnable beforeQuery;
 
 	private final Consumer<Boolean> afterQuery;
@@ -180,6 +195,8 @@ private LockOptions getLockOptions() {
 
 	public CompletionStage<List<R>> reactiveList() {
 		final Set<String> profiles = applyProfiles();
+		final List<Object> loadedEntities = evictAfterQuery ? new ArrayList<>() : null;
+		final List<Object> previousLoadedEntities = recordLoadedEntities( loadedEntities );
 		beforeQuery.run();
 		return doReactiveList()
 				.handle( (list, error) -> {
@@ -189,9 +206,82 @@ public CompletionStage<List<R>> reactiveList() {
 				.whenComplete( (rs, throwable) -> {
 					afterQuery.accept( throwable == null );
 					unapplyProfiles( profiles );
+					if ( loadedEntities != null ) {
+						recordLoadedEntities( previousLoadedEntities );
+						evictLoadedEntities( loadedEntities );
+					}
+				} );
+	}
+
+	/**
+	 * Execute the query with the given function, instead of as a list,
+	 * applying the same options and exception handling as {@link #reactiveList()}.
+	 */
+	public <T> CompletionStage<T> reactiveExecute(Supplier<CompletionStage<T>> execute) {
+		final Set<String> profiles = applyProfiles();
+		beforeQuery.run();
+		return execute.get()
+				.handle( (result, error) -> {
+					handleException( error );
+					return result;
+				} )
+				.whenComplete( (result, throwable) -> {
+					afterQuery.accept( throwable == null );
+					unapplyProfiles( profiles );
 				} );
 	}
 
+	private List<Object> recordLoadedEntities(List<Object> loadedEntities) {
+		return loadedEntities == null || !( session instanceof SessionImplementor )
+				? null
+				: ( (ReactivePersistenceContextAdapter) session.getPersistenceContextInternal() )
+						.recordAddedEntities( loadedEntities );
+	}
+
+	private void evictLoadedEntities(List<Object> loadedEntities) {
+		if ( session instanceof SessionImplementor && session.isOpen() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( Object entity : loadedEntities ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				// an entity persisted by the flush before the query isn't read-only,
+				// and an entity with a proxy was already referenced by the session
+				if ( entry != null && entry.getStatus() == Status.READ_ONLY
+						&& persistenceContext.getProxy( entry.getEntityKey() ) == null ) {
+					evict( persistenceContext, entity, entry );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the entity, and its collections, from the persistence context,
+	 * as {@link org.hibernate.event.internal.DefaultEvictEventListener} does,
+	 * but without cascading to the associated entities, which might have
+	 * been managed by the session before the query.
+	 */
+	private void evict(PersistenceContext persistenceContext, Object entity, EntityEntry entry) {
+		final EntityPersister persister = entry.getPersister();
+		if ( persister.hasNaturalIdentifier() ) {
+			persistenceContext.getNaturalIdResolutions().handleEviction( entry.getId(), entity, persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( (EventSource) session, entity ).process( entity, persister );
+		}
+		persistenceContext.removeEntry( entity );
+		persistenceContext.removeEntity( entry.getEntityKey() );
+	}
+
+	/**
+	 * @return the given execution context of the query, with the
+	 *         {@linkplain #setResultRowLimit(int) result row limit}
+	 *         of the query, if any
+	 */
+	public DomainQueryExecutionContext withResultRowLimit(DomainQueryExecutionContext executionContext) {
+		return resultRowLimit == null
+				? executionContext
+				: new ResultRowLimitExecutionContext( executionContext, resultRowLimit );
+	}
+
 	private void unapplyProfiles(Set<String> profiles) {
 		for ( String profile : profiles) {
 			session.getLoadQueryInfluencers().disableFetchProfile( profile );
@@ -238,10 +328,8 @@ private void handleException(Throwable e) {
 	public ReactiveSelectQueryPlan<R> resolveSelectReactiveQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( interpretationsKeySource );
 		if ( cacheKey != null ) {
-			return (ReactiveSelectQueryPlan<R>) getSession().getFactory()
-					.getQueryEngine()
-					.getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return (ReactiveSelectQueryPlan<R>) EventLoopQueryPlanCache
+					.resolveSelectQueryPlan( getSession().getFactory(), cacheKey, this::buildSelectQueryPlan );
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -349,4 +437,36 @@ public void enableFetchProfile(String profileName) {
 		}
 		fetchProfiles.add( profileName );
 	}
+
+	/**
+	 * Enable or disable the eviction of the entities loaded by the query
+	 * after it completes, which executes the query in read-only mode.
+	 *
+	 * @param readOnly the current read-only mode of the query, or {@code null}
+	 *                 if it's the default mode of the session
+	 *
+	 * @return the read-only mode the query must use: {@code true} when the
+	 *         eviction is enabled, and the read-only mode the query had
+	 *         before that when the eviction is disabled
+	 */
+	public Boolean setEvictAfterQuery(boolean evictAfterQuery, Boolean readOnly) {
+		Boolean result = readOnly;
+		if ( evictAfterQuery && !this.evictAfterQuery ) {
+			readOnlyBeforeEvictAfterQuery = readOnly;
+			result = true;
+		}
+		else if ( !evictAfterQuery && this.evictAfterQuery ) {
+			result = readOnlyBeforeEvictAfterQuery;
+			readOnlyBeforeEvictAfterQuery = null;
+		}
+		this.evictAfterQuery = evictAfterQuery;
+		return result;
+	}
+
+	public void setResultRowLimit(int resultRowLimit) {
+		if ( resultRowLimit < 0 ) {
+			throw new IllegalArgumentException( "Result row limit must not be negative" );
+		}
+		this.resultRowLimit = resultRowLimit;
+	}
 }
@@ -0,0 +1,41 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.spi;
+
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+
+/**
+ * The execution context of a query which may return at most the given
+ * number of rows, instead of the default limit of the connection. The
+ * limit only applies to the select statement of the query, and not to
+ * the statements loading the associations of its results.
+ *
+ * @see org.hibernate.reactive.pool.ReactiveConnection#selectJdbc(String, Object[], int)
+ */
+public class ResultRowLimitExecutionContext extends DelegatingDomainQueryExecutionContext {
+
+	private final int resultRowLimit;
+
+	public ResultRowLimitExecutionContext(DomainQueryExecutionContext delegate, int resultRowLimit) {
+		super( delegate );
+		this.resultRowLimit = resultRowLimit;
+	}
+
+	public int getResultRowLimit() {
+		return resultRowLimit;
+	}
+
+	/**
+	 * @return the maximum number of rows of the query executed in the given context,
+	 *         or {@code null} if the default limit of the connection applies
+	 */
+	public static Integer resultRowLimit(DomainQueryExecutionContext executionContext) {
+		return executionContext instanceof ResultRowLimitExecutionContext
+				? ( (ResultRowLimitExecutionContext) executionContext ).getResultRowLimit()
+				: null;
+	}
+}
@@ -38,6 +38,12 @@ public class ReactiveNativeNonSelectQueryPlan implements ReactiveNonSelectQueryP
 
 	private final List<ParameterOccurrence> parameterList;
 
+	/**
+	 * The SQL after processing the placeholders, computed on the first
+	 * execution, since the plan might be cached and executed many times
+	 */
+	private volatile String processedSql;
+
 	public ReactiveNativeNonSelectQueryPlan(String sql, Set<String> affectedTableNames, List<ParameterOccurrence> parameterList) {
 		this.sql = sql;
 		this.affectedTableNames = affectedTableNames;
@@ -69,10 +75,8 @@ public CompletionStage<Integer> executeReactiveUpdate(DomainQueryExecutionContex
 								);
 							}
 
-							final SQLQueryParser parser = new SQLQueryParser( sql, null, session.getFactory() );
-
 							final JdbcOperationQueryMutation jdbcMutation = new JdbcOperationQueryMutationNative(
-									parser.process(),
+									processedSql( session ),
 									jdbcParameterBinders,
 									affectedTableNames
 							);
@@ -91,4 +95,14 @@ public CompletionStage<Integer> executeReactiveUpdate(DomainQueryExecutionContex
 									);
 						} );
 	}
+
+	private String processedSql(SharedSessionContractImplementor session) {
+		String result = processedSql;
+		if ( result == null ) {
+			// it doesn't matter if more than one thread does this
+			result = new SQLQueryParser( sql, null, session.getFactory() ).process();
+			processedSql = result;
+		}
+		return result;
+	}
 }
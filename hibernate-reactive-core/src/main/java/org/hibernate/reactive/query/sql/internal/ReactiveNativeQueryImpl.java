@@ -16,12 +16,14 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
@@ -39,14 +41,19 @@
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.query.spi.ReactiveAbstractSelectionQuery;
 import org.hibernate.reactive.query.sql.spi.ReactiveNativeQueryImplementor;
 import org.hibernate.reactive.query.sql.spi.ReactiveNonSelectQueryPlan;
+import org.hibernate.reactive.query.sqm.spi.ReactiveNativeQueryInterpreter;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
+import org.hibernate.reactive.sql.results.internal.ReactiveJsonResultsConsumer;
 import org.hibernate.type.BasicTypeReference;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -56,6 +63,8 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.metamodel.SingularAttribute;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
 public class ReactiveNativeQueryImpl<R> extends NativeQueryImpl<R>
 		implements ReactiveNativeQueryImplementor<R>  {
 
@@ -110,7 +119,7 @@ private ReactiveAbstractSelectionQuery<R> createSelectionQueryDelegate(SharedSes
 		);
 	}
 	private CompletionStage<List<R>> doReactiveList() {
-		return reactiveSelectPlan().reactivePerformList( this );
+		return reactiveSelectPlan().reactivePerformList( selectionQueryDelegate.withResultRowLimit( this ) );
 	}
 
 	private ReactiveSelectQueryPlan<R> reactiveSelectPlan() {
@@ -118,6 +127,18 @@ private ReactiveSelectQueryPlan<R> reactiveSelectPlan() {
 	}
 
 	private ReactiveNonSelectQueryPlan reactiveNonSelectPlan() {
+		final NativeQueryInterpreter interpreter = getSession().getFactory().getQueryEngine().getNativeQueryInterpreter();
+		if ( interpreter instanceof ReactiveNativeQueryInterpreter
+				&& !getQueryParameterBindings().hasAnyMultiValuedBindings() ) {
+			// The SQL doesn't depend on the parameter bindings, so the plan can be reused
+			return ( (ReactiveNativeQueryInterpreter) interpreter ).resolveNonSelectQueryPlan(
+					getQueryString(),
+					getQuerySpaces(),
+					this::createNonSelectPlan,
+					getSession().getFactory().getStatistics()
+			);
+		}
+
 		final QueryInterpretationCache.Key cacheKey = generateNonSelectInterpretationsKey();
 		if ( cacheKey != null ) {
 			NonSelectQueryPlan queryPlan = getSession().getFactory().getQueryEngine()
@@ -127,8 +148,7 @@ private ReactiveNonSelectQueryPlan reactiveNonSelectPlan() {
 			}
 		}
 
-		final String sqlString = expandParameterLists();
-		ReactiveNonSelectQueryPlan queryPlan = new ReactiveNativeNonSelectQueryPlan( sqlString, getQuerySpaces(), getParameterOccurrences() );
+		ReactiveNonSelectQueryPlan queryPlan = createNonSelectPlan();
 		if ( cacheKey != null ) {
 			getSession().getFactory().getQueryEngine().getInterpretationCache()
 					.cacheNonSelectQueryPlan( cacheKey, queryPlan );
@@ -137,6 +157,11 @@ private ReactiveNonSelectQueryPlan reactiveNonSelectPlan() {
 		return queryPlan;
 	}
 
+	private ReactiveNonSelectQueryPlan createNonSelectPlan() {
+		final String sqlString = expandParameterLists();
+		return new ReactiveNativeNonSelectQueryPlan( sqlString, getQuerySpaces(), getParameterOccurrences() );
+	}
+
 	private Set<String> getQuerySpaces() {
 		// Maybe it's better to have a getter for querySpaces in the super class
 		return new HashSet<>( getSynchronizedQuerySpaces() );
@@ -152,6 +177,19 @@ public CompletionStage<Integer> executeReactiveUpdate() {
 		return reactiveNonSelectPlan().executeReactiveUpdate( this );
 	}
 
+	@Override
+	public CompletionStage<KeysetResultList<R>> reactiveKeysetResultList(KeysetPage<R> page) {
+		// the order of a native query can't be rewritten to seek past the key
+		return failedFuture( LOG.keysetPaginationNotSupported( getQueryString() ) );
+	}
+
+	@Override
+	public CompletionStage<Long> reactiveResultJson(int rowsPerBuffer, Function<Buffer, CompletionStage<Void>> consumer) {
+		// the names of the properties are the column names given by the result set mapping
+		final ReactiveJsonResultsConsumer<R> resultsConsumer = new ReactiveJsonResultsConsumer<>( null, rowsPerBuffer, consumer );
+		return selectionQueryDelegate.reactiveExecute( () -> reactiveSelectPlan().reactiveExecuteQuery( selectionQueryDelegate.withResultRowLimit( this ), resultsConsumer ) );
+	}
+
 	@Override
 	public R getSingleResult() {
 		return selectionQueryDelegate.getSingleResult();
@@ -759,4 +797,16 @@ public void applyGraph(RootGraphImplementor<?> graph, GraphSemantic semantic) {
 	public ReactiveNativeQueryImpl<R> enableFetchProfile(String profileName) {
 		throw new UnsupportedOperationException("A native SQL query cannot use fetch profiles");
 	}
+
+	@Override
+	public ReactiveNativeQueryImpl<R> setResultRowLimit(int resultRowLimit) {
+		selectionQueryDelegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public ReactiveNativeQueryImpl<R> setEvictAfterQuery(boolean evictAfterQuery) {
+		getQueryOptions().setReadOnly( selectionQueryDelegate.setEvictAfterQuery( evictAfterQuery, getQueryOptions().isReadOnly() ) );
+		return this;
+	}
 }
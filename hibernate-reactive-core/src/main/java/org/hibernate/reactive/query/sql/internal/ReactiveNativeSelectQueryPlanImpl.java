@@ -27,6 +27,7 @@
 import org.hibernate.reactive.query.spi.ReactiveNativeSelectQueryPlan;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -34,6 +35,7 @@
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.reactive.query.spi.ResultRowLimitExecutionContext.resultRowLimit;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 public class ReactiveNativeSelectQueryPlanImpl<R> extends NativeSelectQueryPlanImpl<R> implements ReactiveNativeSelectQueryPlan<R> {
@@ -72,6 +74,18 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 			return completedFuture( emptyList() );
 		}
 
+		return reactiveExecuteQuery(
+				executionContext,
+				ReactiveListResultsConsumer.instance( queryOptions.getUniqueSemantic() == null
+						? ReactiveListResultsConsumer.UniqueSemantic.NEVER
+						: reactiveUniqueSemantic( queryOptions ) )
+		);
+	}
+
+	@Override
+	public <T> CompletionStage<T> reactiveExecuteQuery(
+			DomainQueryExecutionContext executionContext,
+			ReactiveResultsConsumer<T, R> resultsConsumer) {
 		final List<JdbcParameterBinder> jdbcParameterBinders;
 		final JdbcParameterBindings jdbcParameterBindings;
 
@@ -102,14 +116,17 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 							);
 
 							return StandardReactiveSelectExecutor.INSTANCE
-									.list(
+									.executeQuery(
 											jdbcSelect,
 											jdbcParameterBindings,
 											SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext ),
 											null,
-											queryOptions.getUniqueSemantic() == null
-													? ReactiveListResultsConsumer.UniqueSemantic.NEVER
-													: reactiveUniqueSemantic( queryOptions )
+											null,
+											executionContext.getSession()
+													.getJdbcCoordinator()
+													.getStatementPreparer()::prepareStatement,
+											resultsConsumer,
+											resultRowLimit( executionContext )
 									);
 
 						} );
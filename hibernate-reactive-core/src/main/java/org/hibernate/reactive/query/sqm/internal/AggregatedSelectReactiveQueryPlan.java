@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.query.sqm.internal;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
@@ -12,10 +13,14 @@
 
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.Limit;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
@@ -23,6 +28,8 @@
  */
 public class AggregatedSelectReactiveQueryPlan<R> implements ReactiveSelectQueryPlan<R> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ReactiveSelectQueryPlan<R>[] aggregatedQueryPlans;
 
 	public AggregatedSelectReactiveQueryPlan(ReactiveSelectQueryPlan<R>[] aggregatedQueryPlans) {
@@ -45,6 +52,15 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 		).thenApply( v -> overallResults );
 	}
 
+	/**
+	 * Not supported, since each of the aggregated queries would pass its
+	 * own result to the consumer.
+	 */
+	@Override
+	public <T> CompletionStage<T> reactiveExecuteQuery(DomainQueryExecutionContext executionContext, ReactiveResultsConsumer<T, R> resultsConsumer) {
+		return failedFuture( LOG.resultsConsumerNotSupportedForPolymorphicQuery() );
+	}
+
 	private static <R> boolean updateResults(AtomicInteger elementsToSkipAtomic, int maxRowsJpa, List<R> overallResults, List<R> list) {
 		final int size = list.size();
 		if ( size <= elementsToSkipAtomic.get() ) {
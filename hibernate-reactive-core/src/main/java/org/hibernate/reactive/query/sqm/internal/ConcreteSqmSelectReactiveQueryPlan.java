@@ -36,6 +36,7 @@
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
@@ -47,6 +48,7 @@
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.reactive.query.spi.ResultRowLimitExecutionContext.resultRowLimit;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
@@ -63,6 +65,7 @@
 	private final RowTransformer<R> rowTransformer;
 
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
@@ -76,6 +79,7 @@ public ConcreteSqmSelectReactiveQueryPlan(
 			QueryOptions queryOptions) {
 		super( sqm, hql, domainParameterXref, resultType, tupleMetadata, queryOptions );
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) ->
@@ -89,6 +93,25 @@ private static <R> CompletionStage<List<R>> listInterpreter(
 			CacheableSqmInterpretation sqmInterpretation,
 			JdbcParameterBindings jdbcParameterBindings,
 			RowTransformer<R> rowTransformer) {
+		return executeSelect(
+				hql,
+				domainParameterXref,
+				executionContext,
+				sqmInterpretation,
+				jdbcParameterBindings,
+				rowTransformer,
+				ReactiveListResultsConsumer.instance( ReactiveListResultsConsumer.UniqueSemantic.ALLOW )
+		);
+	}
+
+	private static <T, R> CompletionStage<T> executeSelect(
+			String hql,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			CacheableSqmInterpretation sqmInterpretation,
+			JdbcParameterBindings jdbcParameterBindings,
+			RowTransformer<R> rowTransformer,
+			ReactiveResultsConsumer<T, R> resultsConsumer) {
 		final ReactiveSharedSessionContractImplementor session = (ReactiveSharedSessionContractImplementor) executionContext.getSession();
 		final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
 		// I'm using a supplier so that the whenComplete at the end will catch any errors, like a finally-block
@@ -99,11 +122,14 @@ private static <R> CompletionStage<List<R>> listInterpreter(
 				.thenCompose( subSelectFetchKeyHandler ->  session
 							.reactiveAutoFlushIfRequired( jdbcSelect.getAffectedTableNames() )
 							.thenCompose( required -> StandardReactiveSelectExecutor.INSTANCE
-									.list( jdbcSelect,
+									.executeQuery( jdbcSelect,
 										   jdbcParameterBindings,
 										   ConcreteSqmSelectQueryPlan.listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
 										   rowTransformer,
-										   ReactiveListResultsConsumer.UniqueSemantic.ALLOW
+										   null,
+										   session.getJdbcCoordinator().getStatementPreparer()::prepareStatement,
+										   resultsConsumer,
+										   resultRowLimit( executionContext )
 									)
 							)
 				)
@@ -122,6 +148,24 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 				: withCacheableSqmInterpretation( executionContext, listInterpreter );
 	}
 
+	@Override
+	public <T> CompletionStage<T> reactiveExecuteQuery(
+			DomainQueryExecutionContext executionContext,
+			ReactiveResultsConsumer<T, R> resultsConsumer) {
+		return withCacheableSqmInterpretation(
+				executionContext,
+				(SqmInterpreter<T, Void>) (unused, context, sqmInterpretation, jdbcParameterBindings) -> executeSelect(
+						hql,
+						domainParameterXref,
+						context,
+						sqmInterpretation,
+						jdbcParameterBindings,
+						rowTransformer,
+						resultsConsumer
+				)
+		);
+	}
+
 	private <T, X> CompletionStage<T> withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
@@ -0,0 +1,90 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+
+/**
+ * Determines the names of the properties of the JSON objects written
+ * for the rows of a query returning a projection of basic values.
+ * <p>
+ * The arguments of a {@code select new} are written as the properties of
+ * the object, instead of the instance of the class. The name of a value
+ * is its alias, or the name of the attribute for a path, or {@code col_n}.
+ * <p>
+ * The names are grouped by the item of the select clause they belong to,
+ * since each item produces a {@link org.hibernate.sql.results.graph.DomainResult}:
+ * the names of the arguments of a {@code select new} are in the same group.
+ */
+public final class JsonProjection {
+
+	private JsonProjection() {
+	}
+
+	/**
+	 * @return the names of the values, for each item of the select clause
+	 */
+	public static String[][] names(SqmSelectStatement<?> statement) {
+		final List<String> names = new ArrayList<>();
+		final List<String[]> groups = new ArrayList<>();
+		for ( SqmSelection<?> selection : statement.getQuerySpec().getSelectClause().getSelections() ) {
+			final SqmSelectableNode<?> node = selection.getSelectableNode();
+			if ( node instanceof SqmJpaCompoundSelection ) {
+				// each item of a compound selection is a separate item of the select clause
+				for ( SqmSelectableNode<?> item : ( (SqmJpaCompoundSelection<?>) node ).getSelectionItems() ) {
+					groups.add( group( item, item.getAlias(), names ) );
+				}
+			}
+			else {
+				groups.add( group( node, selection.getAlias(), names ) );
+			}
+		}
+		return groups.toArray( new String[0][] );
+	}
+
+	private static String[] group(SqmSelectableNode<?> node, String alias, List<String> names) {
+		final int start = names.size();
+		addNames( node, alias, names );
+		return names.subList( start, names.size() ).toArray( new String[0] );
+	}
+
+	private static void addNames(SqmSelectableNode<?> node, String alias, List<String> names) {
+		if ( node instanceof SqmDynamicInstantiation ) {
+			for ( SqmDynamicInstantiationArgument<?> argument : ( (SqmDynamicInstantiation<?>) node ).getArguments() ) {
+				addNames( argument.getSelectableNode(), argument.getAlias(), names );
+			}
+		}
+		else if ( node instanceof SqmJpaCompoundSelection ) {
+			for ( SqmSelectableNode<?> item : ( (SqmJpaCompoundSelection<?>) node ).getSelectionItems() ) {
+				addNames( item, item.getAlias(), names );
+			}
+		}
+		else if ( node instanceof SqmFrom ) {
+			throw new IllegalArgumentException( "The result can't be written as JSON: the query selects the entity '"
+					+ ( (SqmFrom<?, ?>) node ).getNavigablePath().getFullPath()
+					+ "' (only a projection of basic values can be written as JSON)" );
+		}
+		else if ( alias != null ) {
+			names.add( alias );
+		}
+		else if ( node instanceof SqmPath ) {
+			names.add( ( (SqmPath<?>) node ).getNavigablePath().getLocalName() );
+		}
+		else {
+			names.add( "col_" + names.size() );
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.Order;
+import org.hibernate.query.QueryParameter;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+/**
+ * Rewrites a selection query for a {@link KeysetPage}: the copy of the
+ * query is ordered by the key, and restricted to the results which come
+ * after the key of the previous page, using a "seek" predicate like:
+ * <pre>{@code
+ * where (k1 > :v1) or (k1 = :v1 and k2 > :v2) or ...
+ * }</pre>
+ * The query fetches one more result than the size of the page, to know
+ * if there's a next page.
+ * <p>
+ * The values of the key are bound to parameters of the seek predicate,
+ * so that every page after the first one runs the same statement. The
+ * rewritten statement of an HQL query is cached in the interpretation
+ * cache, under the HQL string with a suffix describing the key, and so
+ * it's translated to SQL only once. A criteria query has no string to
+ * identify it, and it's rewritten for each page.
+ */
+public final class KeysetPagination {
+
+	private static final String KEY_PARAMETER_PREFIX = "keyset_key_";
+
+	private KeysetPagination() {
+	}
+
+	/**
+	 * Create a copy of the query with the given HQL string, statement, bindings,
+	 * and options, returning the given page of results.
+	 *
+	 * @param hql the HQL string of the query, or {@link QuerySqmImpl#CRITERIA_HQL_STRING}
+	 */
+	public static <R> ReactiveSqmSelectionQueryImpl<R> keysetQuery(
+			String hql,
+			SqmSelectStatement<R> statement,
+			Class<R> resultType,
+			KeysetPage<R> page,
+			Set<? extends QueryParameter<?>> parameters,
+			QueryParameterBindings bindings,
+			QueryOptions options,
+			SharedSessionContractImplementor session) {
+		final ReactiveSqmSelectionQueryImpl<R> query =
+				hql == null || QuerySqmImpl.CRITERIA_HQL_STRING.equals( hql )
+						? new ReactiveSqmSelectionQueryImpl<>( seek( statement, page ), resultType, session )
+						: seekQuery( hql, statement, resultType, page, session );
+		copyBindings( parameters, bindings, query );
+		copyOptions( options, query );
+		final List<?> key = page.getKey();
+		if ( key != null ) {
+			for ( int i = 0; i < page.getKeyDefinition().size(); i++ ) {
+				query.setParameter( KEY_PARAMETER_PREFIX + i, value( key, i ) );
+			}
+		}
+		query.setMaxResults( page.getSize() + 1 );
+		return query;
+	}
+
+	/**
+	 * Create the query with the seek statement for the HQL query and the definition of
+	 * the key of the page, cached by the interpretation cache.
+	 */
+	private static <R> ReactiveSqmSelectionQueryImpl<R> seekQuery(
+			String hql,
+			SqmSelectStatement<R> statement,
+			Class<R> resultType,
+			KeysetPage<R> page,
+			SharedSessionContractImplementor session) {
+		final String seekHql = seekHql( hql, page );
+		final SessionFactoryImplementor factory = session.getFactory();
+		final HqlTranslator translator = new HqlTranslator() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <X> SqmStatement<X> translate(String queryString, Class<X> expectedResultType) {
+				return (SqmStatement<X>) seek( statement, page );
+			}
+		};
+		final HqlInterpretation interpretation = EventLoopQueryPlanCache.resolveHqlInterpretation(
+				factory,
+				seekHql,
+				resultType,
+				() -> factory.getQueryEngine().getInterpretationCache()
+						.resolveHqlInterpretation( seekHql, resultType, translator )
+		);
+		return new ReactiveSqmSelectionQueryImpl<>( seekHql, interpretation, resultType, session );
+	}
+
+	/**
+	 * The HQL string of the query with a comment describing the ordering by the key, and
+	 * whether the page comes after a key, which identifies the seek statement.
+	 */
+	private static String seekHql(String hql, KeysetPage<?> page) {
+		final StringBuilder seekHql = new StringBuilder( hql ).append( " /* keyset" );
+		for ( Order<?> order : page.getKeyDefinition() ) {
+			seekHql.append( ' ' )
+					.append( order.getEntityClass().getName() )
+					.append( '.' )
+					.append( order.getAttribute() == null ? null : order.getAttribute().getName() )
+					.append( order.getDirection() == SortDirection.DESCENDING ? " desc" : " asc" )
+					.append( order.isCaseInsensitive() ? " ignore case" : "" );
+		}
+		return seekHql.append( page.getKey() == null ? " */" : " after key */" ).toString();
+	}
+
+	/**
+	 * Trim the extra result fetched by the query for the page, and create the next page
+	 * from the key of the last result.
+	 */
+	public static <R> KeysetResultList<R> keysetResultList(
+			List<R> results,
+			KeysetPage<R> page,
+			SharedSessionContractImplementor session) {
+		if ( results.size() <= page.getSize() ) {
+			return new KeysetResultList<>( results, page, null );
+		}
+		final List<R> pageResults = results.subList( 0, page.getSize() );
+		final R last = pageResults.get( pageResults.size() - 1 );
+		return new KeysetResultList<>( pageResults, page, page.after( key( last, page, session ) ) );
+	}
+
+	private static <R> List<Object> key(R result, KeysetPage<R> page, SharedSessionContractImplementor session) {
+		// A result is a proxy if the entity was already proxied by the session,
+		// and the query has initialized it, so the implementation is available
+		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( result );
+		final Object entity = lazyInitializer == null ? result : lazyInitializer.getImplementation();
+		final EntityPersister persister = entity == null
+				? null
+				: session.getFactory().getMappingMetamodel().findEntityDescriptor( entity.getClass() );
+		if ( persister == null ) {
+			throw new IllegalArgumentException( "Keyset pagination requires a query returning an entity" );
+		}
+		final List<Object> key = new ArrayList<>( page.getKeyDefinition().size() );
+		for ( Order<?> order : page.getKeyDefinition() ) {
+			final SingularAttribute<?, ?> attribute = order.getAttribute();
+			key.add( attribute.isId()
+					? persister.getIdentifier( entity, session )
+					: persister.getPropertyValue( entity, attribute.getName() ) );
+		}
+		return key;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <R> SqmSelectStatement<R> seek(SqmSelectStatement<R> statement, KeysetPage<R> page) {
+		final SqmSelectStatement<R> copy = statement.copy( SqmCopyContext.simpleContext() );
+		final NodeBuilder builder = copy.nodeBuilder();
+		final Root<?> root = root( copy );
+
+		final List<Order<? super R>> keyDefinition = page.getKeyDefinition();
+		final List<Path<Comparable>> paths = new ArrayList<>( keyDefinition.size() );
+		final List<jakarta.persistence.criteria.Order> orders = new ArrayList<>( keyDefinition.size() );
+		for ( Order<? super R> order : keyDefinition ) {
+			if ( order.getAttribute() == null || order.isCaseInsensitive() ) {
+				throw new IllegalArgumentException( "The key must be defined by case-sensitive orderings by attribute: " + order );
+			}
+			if ( !order.getEntityClass().isAssignableFrom( root.getJavaType() ) ) {
+				throw new IllegalArgumentException( "The ordering " + order + " does not apply to the query root of type "
+						+ root.getJavaType().getName() );
+			}
+			final Path<Comparable> path = root.get( order.getAttribute().getName() );
+			paths.add( path );
+			orders.add( order.getDirection() == SortDirection.DESCENDING ? builder.desc( path ) : builder.asc( path ) );
+		}
+		copy.orderBy( orders );
+
+		if ( page.getKey() != null ) {
+			// (k1 > :v1) or (k1 = :v1 and k2 > :v2) or (k1 = :v1 and k2 = :v2 and k3 > :v3) ...
+			final List<ParameterExpression<Comparable>> values = new ArrayList<>( keyDefinition.size() );
+			for ( int i = 0; i < keyDefinition.size(); i++ ) {
+				values.add( builder.parameter( (Class<Comparable>) paths.get( i ).getJavaType(), KEY_PARAMETER_PREFIX + i ) );
+			}
+			final List<Predicate> disjunction = new ArrayList<>( keyDefinition.size() );
+			for ( int i = 0; i < keyDefinition.size(); i++ ) {
+				final List<Predicate> conjunction = new ArrayList<>( i + 1 );
+				for ( int j = 0; j < i; j++ ) {
+					conjunction.add( builder.equal( paths.get( j ), values.get( j ) ) );
+				}
+				final Expression<Comparable> path = paths.get( i );
+				final Expression<Comparable> value = values.get( i );
+				conjunction.add( keyDefinition.get( i ).getDirection() == SortDirection.DESCENDING
+						? builder.lessThan( path, value )
+						: builder.greaterThan( path, value ) );
+				disjunction.add( builder.and( conjunction.toArray( new Predicate[0] ) ) );
+			}
+			final Predicate seek = builder.or( disjunction.toArray( new Predicate[0] ) );
+			final Predicate restriction = copy.getRestriction();
+			copy.where( restriction == null ? seek : builder.and( restriction, seek ) );
+		}
+		return copy;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static Comparable value(List<?> key, int index) {
+		final Object value = key.get( index );
+		if ( !( value instanceof Comparable ) ) {
+			throw new IllegalArgumentException( "The values of the key must be non-null and comparable: " + key );
+		}
+		return (Comparable) value;
+	}
+
+	private static Root<?> root(SqmSelectStatement<?> statement) {
+		final Set<Root<?>> roots = statement.getRoots();
+		if ( roots.size() != 1 ) {
+			throw new IllegalArgumentException( "Keyset pagination requires a query with a single root entity" );
+		}
+		return roots.iterator().next();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void copyBindings(
+			Set<? extends QueryParameter<?>> parameters,
+			QueryParameterBindings bindings,
+			ReactiveSqmSelectionQueryImpl<?> query) {
+		for ( QueryParameter<?> parameter : parameters ) {
+			if ( parameter.getName() != null ) {
+				final QueryParameterBinding<?> binding = bindings.getBinding( parameter.getName() );
+				if ( binding.isBound() ) {
+					if ( binding.isMultiValued() ) {
+						query.setParameterList( parameter.getName(), binding.getBindValues() );
+					}
+					else if ( binding.getBindType() != null ) {
+						query.setParameter( parameter.getName(), binding.getBindValue(), (BindableType) binding.getBindType() );
+					}
+					else {
+						query.setParameter( parameter.getName(), binding.getBindValue() );
+					}
+				}
+			}
+			else if ( parameter.getPosition() != null ) {
+				final QueryParameterBinding<?> binding = bindings.getBinding( parameter.getPosition() );
+				if ( binding.isBound() ) {
+					if ( binding.isMultiValued() ) {
+						query.setParameterList( parameter.getPosition(), binding.getBindValues() );
+					}
+					else if ( binding.getBindType() != null ) {
+						query.setParameter( parameter.getPosition(), binding.getBindValue(), (BindableType) binding.getBindType() );
+					}
+					else {
+						query.setParameter( parameter.getPosition(), binding.getBindValue() );
+					}
+				}
+			}
+			else {
+				// An unnamed parameter of a criteria query is the same object
+				// in the copy of the statement, since copying it keeps its identity
+				final QueryParameterBinding<?> binding = bindings.getBinding( (QueryParameterImplementor) parameter );
+				if ( binding.isBound() ) {
+					if ( binding.isMultiValued() ) {
+						query.setParameterList( (QueryParameter) parameter, binding.getBindValues() );
+					}
+					else if ( binding.getBindType() != null ) {
+						query.setParameter( (QueryParameter) parameter, binding.getBindValue(), (BindableType) binding.getBindType() );
+					}
+					else {
+						query.setParameter( (QueryParameter) parameter, binding.getBindValue() );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copy every option of the original query, except its limit, which is
+	 * replaced by the size of the page.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void copyOptions(QueryOptions options, ReactiveSqmSelectionQueryImpl<?> query) {
+		final MutableQueryOptions copy = query.getQueryOptions();
+		if ( options.getFlushMode() != null ) {
+			copy.setFlushMode( options.getFlushMode() );
+		}
+		if ( options.getCacheRetrieveMode() != null ) {
+			copy.setCacheRetrieveMode( options.getCacheRetrieveMode() );
+		}
+		if ( options.getCacheStoreMode() != null ) {
+			copy.setCacheStoreMode( options.getCacheStoreMode() );
+		}
+		if ( options.isResultCachingEnabled() != null ) {
+			copy.setResultCachingEnabled( options.isResultCachingEnabled() );
+		}
+		if ( options.getResultCacheRegionName() != null ) {
+			copy.setResultCacheRegionName( options.getResultCacheRegionName() );
+		}
+		if ( options.getQueryPlanCachingEnabled() != null ) {
+			copy.setQueryPlanCachingEnabled( options.getQueryPlanCachingEnabled() );
+		}
+		if ( options.getTimeout() != null ) {
+			copy.setTimeout( options.getTimeout() );
+		}
+		if ( options.getFetchSize() != null ) {
+			copy.setFetchSize( options.getFetchSize() );
+		}
+		if ( options.isReadOnly() != null ) {
+			copy.setReadOnly( options.isReadOnly() );
+		}
+		if ( options.getComment() != null ) {
+			copy.setComment( options.getComment() );
+		}
+		for ( String hint : options.getDatabaseHints() ) {
+			copy.addDatabaseHint( hint );
+		}
+		if ( options.getEnabledFetchProfiles() != null ) {
+			options.getEnabledFetchProfiles().forEach( copy::enableFetchProfile );
+		}
+		if ( options.getDisabledFetchProfiles() != null ) {
+			options.getDisabledFetchProfiles().forEach( copy::disableFetchProfile );
+		}
+		if ( options.getTupleTransformer() != null ) {
+			copy.setTupleTransformer( options.getTupleTransformer() );
+		}
+		if ( options.getResultListTransformer() != null ) {
+			copy.setResultListTransformer( options.getResultListTransformer() );
+		}
+		copy.getLockOptions().overlay( options.getLockOptions() );
+		final AppliedGraph appliedGraph = options.getAppliedGraph();
+		if ( appliedGraph != null && appliedGraph.getGraph() != null ) {
+			query.applyGraph( (RootGraphImplementor) appliedGraph.getGraph(), appliedGraph.getSemantic() );
+		}
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -54,16 +55,21 @@
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
 import org.hibernate.reactive.query.spi.ReactiveAbstractSelectionQuery;
 import org.hibernate.reactive.query.sql.spi.ReactiveNonSelectQueryPlan;
 import org.hibernate.reactive.query.sqm.mutation.spi.ReactiveSqmMultiTableInsertStrategy;
 import org.hibernate.reactive.query.sqm.mutation.spi.ReactiveSqmMultiTableMutationStrategy;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.session.ReactiveSqmQueryImplementor;
+import org.hibernate.reactive.sql.results.internal.ReactiveJsonResultsConsumer;
 import org.hibernate.transform.ResultTransformer;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.FlushModeType;
@@ -71,6 +77,9 @@
 import jakarta.persistence.Parameter;
 import jakarta.persistence.TemporalType;
 
+import static org.hibernate.reactive.query.sqm.internal.KeysetPagination.keysetQuery;
+import static org.hibernate.reactive.query.sqm.internal.KeysetPagination.keysetResultList;
+
 /**
  * A reactive {@link QuerySqmImpl}
  */
@@ -154,6 +163,41 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletionStage<KeysetResultList<R>> reactiveKeysetResultList(KeysetPage<R> page) {
+		if ( !( getSqmStatement() instanceof SqmSelectStatement ) ) {
+			throw new IllegalQueryOperationException( "Keyset pagination requires a select query", getQueryString(), null );
+		}
+		return keysetQuery(
+				getQueryString(),
+				(SqmSelectStatement<R>) getSqmStatement(),
+				getResultType(),
+				page,
+				getParameterMetadata().getRegistrations(),
+				getQueryParameterBindings(),
+				getQueryOptions(),
+				getSession()
+		)
+				.reactiveList()
+				.thenApply( results -> keysetResultList( results, page, getSession() ) );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletionStage<Long> reactiveResultJson(int rowsPerBuffer, Function<Buffer, CompletionStage<Void>> consumer) {
+		verifySelect();
+		final ReactiveJsonResultsConsumer<R> resultsConsumer = new ReactiveJsonResultsConsumer<>(
+				JsonProjection.names( (SqmSelectStatement<R>) getSqmStatement() ),
+				rowsPerBuffer,
+				consumer
+		);
+		return selectionQueryDelegate.reactiveExecute( () -> {
+			getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+			return resolveSelectReactiveQueryPlan().reactiveExecuteQuery( selectionQueryDelegate.withResultRowLimit( this ), resultsConsumer );
+		} );
+	}
+
 	@Override
 	public R getSingleResult() {
 		return selectionQueryDelegate.getSingleResult();
@@ -197,7 +241,7 @@ private CompletionStage<List<R>> doReactiveList() {
 		final DomainQueryExecutionContext executionContextToUse = executionContextForDoList( containsCollectionFetches, hasLimit, needsDistinct );
 
 		return resolveSelectReactiveQueryPlan()
-				.reactivePerformList( executionContextToUse )
+				.reactivePerformList( selectionQueryDelegate.withResultRowLimit( executionContextToUse ) )
 				.thenApply( (List<R> list) -> needsDistinct
 						? applyDistinct( sqmStatement, hasLimit, list )
 						: list
@@ -224,10 +268,8 @@ private List<R> applyDistinct(SqmSelectStatement<?> sqmStatement, boolean hasLim
 	private ReactiveSelectQueryPlan<R> resolveSelectReactiveQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return (ReactiveSelectQueryPlan<R>) getSession().getFactory()
-					.getQueryEngine()
-					.getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return (ReactiveSelectQueryPlan<R>) EventLoopQueryPlanCache
+					.resolveSelectQueryPlan( getSession().getFactory(), cacheKey, this::buildSelectQueryPlan );
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -851,4 +893,16 @@ public ReactiveQuerySqmImpl<R> enableFetchProfile(String profileName) {
 		selectionQueryDelegate.enableFetchProfile( profileName );
 		return this;
 	}
+
+	@Override
+	public ReactiveQuerySqmImpl<R> setResultRowLimit(int resultRowLimit) {
+		selectionQueryDelegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public ReactiveQuerySqmImpl<R> setEvictAfterQuery(boolean evictAfterQuery) {
+		getQueryOptions().setReadOnly( selectionQueryDelegate.setEvictAfterQuery( evictAfterQuery, getQueryOptions().isReadOnly() ) );
+		return this;
+	}
 }
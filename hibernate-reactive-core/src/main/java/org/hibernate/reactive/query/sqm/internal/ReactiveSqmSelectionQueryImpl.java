@@ -15,6 +15,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -37,9 +38,13 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.query.spi.ReactiveAbstractSelectionQuery;
 import org.hibernate.reactive.query.sqm.ReactiveSqmSelectionQuery;
+import org.hibernate.reactive.sql.results.internal.ReactiveJsonResultsConsumer;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.FlushModeType;
@@ -48,6 +53,8 @@
 import jakarta.persistence.TemporalType;
 
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
+import static org.hibernate.reactive.query.sqm.internal.KeysetPagination.keysetQuery;
+import static org.hibernate.reactive.query.sqm.internal.KeysetPagination.keysetResultList;
 
 /**
  * A reactive {@link SqmSelectionQueryImpl}
@@ -134,7 +141,7 @@ public QueryOptions getQueryOptions() {
 		}
 
 		return selectionQueryDelegate.resolveSelectReactiveQueryPlan()
-				.reactivePerformList( executionContextToUse )
+				.reactivePerformList( selectionQueryDelegate.withResultRowLimit( executionContextToUse ) )
 				.thenApply( (List<R> list) -> needsDistinct
 						? applyDistinct( sqmStatement, hasLimit, list )
 						: list
@@ -187,6 +194,32 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	public CompletionStage<KeysetResultList<R>> reactiveKeysetResultList(KeysetPage<R> page) {
+		return keysetQuery(
+				getQueryString(),
+				getSqmStatement(),
+				getResultType(),
+				page,
+				getParameterMetadata().getRegistrations(),
+				getQueryParameterBindings(),
+				getQueryOptions(),
+				getSession()
+		)
+				.reactiveList()
+				.thenApply( results -> keysetResultList( results, page, getSession() ) );
+	}
+
+	@Override
+	public CompletionStage<Long> reactiveResultJson(int rowsPerBuffer, Function<Buffer, CompletionStage<Void>> consumer) {
+		final ReactiveJsonResultsConsumer<R> resultsConsumer =
+				new ReactiveJsonResultsConsumer<>( JsonProjection.names( getSqmStatement() ), rowsPerBuffer, consumer );
+		return selectionQueryDelegate.reactiveExecute( () -> {
+			getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+			return selectionQueryDelegate.resolveSelectReactiveQueryPlan().reactiveExecuteQuery( selectionQueryDelegate.withResultRowLimit( this ), resultsConsumer );
+		} );
+	}
+
 	@Override
 	public CompletionStage<R> getReactiveSingleResultOrNull() {
 		return selectionQueryDelegate.getReactiveSingleResultOrNull();
@@ -607,4 +640,16 @@ public ReactiveSqmSelectionQueryImpl<R> enableFetchProfile(String profileName) {
 		selectionQueryDelegate.enableFetchProfile( profileName );
 		return this;
 	}
+
+	@Override
+	public ReactiveSqmSelectionQueryImpl<R> setResultRowLimit(int resultRowLimit) {
+		selectionQueryDelegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public ReactiveSqmSelectionQueryImpl<R> setEvictAfterQuery(boolean evictAfterQuery) {
+		getQueryOptions().setReadOnly( selectionQueryDelegate.setEvictAfterQuery( evictAfterQuery, getQueryOptions().isReadOnly() ) );
+		return this;
+	}
 }
@@ -5,6 +5,12 @@
  */
 package org.hibernate.reactive.query.sqm.spi;
 
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.sql.internal.ParameterParser;
@@ -12,9 +18,37 @@
 import org.hibernate.query.sql.spi.NativeSelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterRecognizer;
 import org.hibernate.reactive.query.sql.internal.ReactiveNativeSelectQueryPlanImpl;
+import org.hibernate.reactive.query.sql.spi.ReactiveNonSelectQueryPlan;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
+/**
+ * Creates the plans of native select queries, which are then cached by
+ * the {@link org.hibernate.query.spi.QueryInterpretationCache}, and
+ * caches the plans of native mutation queries, which the
+ * {@code QueryInterpretationCache} doesn't cache.
+ */
 public class ReactiveNativeQueryInterpreter implements NativeQueryInterpreter {
-	public static final ReactiveNativeQueryInterpreter INSTANCE = new ReactiveNativeQueryInterpreter();
+
+	/**
+	 * A stateless instance, which doesn't cache the plans of native mutation queries
+	 *
+	 * @deprecated each session factory has its own instance
+	 */
+	@Deprecated
+	public static final ReactiveNativeQueryInterpreter INSTANCE = new ReactiveNativeQueryInterpreter( 0 );
+
+	private final int maxNonSelectPlans;
+	private final ConcurrentMap<NonSelectKey, ReactiveNonSelectQueryPlan> nonSelectPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maxNonSelectPlans the maximum number of plans of native mutation
+	 *                          queries to cache, usually the same as the maximum
+	 *                          size of the query plan cache, or {@code 0} if
+	 *                          the query plan cache is disabled
+	 */
+	public ReactiveNativeQueryInterpreter(int maxNonSelectPlans) {
+		this.maxNonSelectPlans = maxNonSelectPlans;
+	}
 
 	@Override
 	public void recognizeParameters(String nativeQuery, ParameterRecognizer recognizer) {
@@ -31,4 +65,66 @@ public <R> NativeSelectQueryPlan<R> createQueryPlan(NativeSelectQueryDefinition<
 				sessionFactory
 		);
 	}
+
+	/**
+	 * Return the cached plan of the native mutation query with the given SQL and
+	 * query spaces, or create it and cache it if there's still room in the cache.
+	 * The caller must not use this method for queries with multivalued parameters,
+	 * since their SQL depends on the parameter bindings.
+	 */
+	public ReactiveNonSelectQueryPlan resolveNonSelectQueryPlan(
+			String sql,
+			Set<String> querySpaces,
+			Supplier<ReactiveNonSelectQueryPlan> creator,
+			StatisticsImplementor statistics) {
+		if ( maxNonSelectPlans <= 0 ) {
+			// the query plan cache is disabled
+			return creator.get();
+		}
+		final NonSelectKey key = new NonSelectKey( sql, querySpaces );
+		final ReactiveNonSelectQueryPlan cached = nonSelectPlans.get( key );
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( cached != null ) {
+				statistics.queryPlanCacheHit( sql );
+			}
+			else {
+				statistics.queryPlanCacheMiss( sql );
+			}
+		}
+		if ( cached != null ) {
+			return cached;
+		}
+		final ReactiveNonSelectQueryPlan plan = creator.get();
+		if ( nonSelectPlans.size() < maxNonSelectPlans ) {
+			nonSelectPlans.putIfAbsent( key, plan );
+		}
+		return plan;
+	}
+
+	private static final class NonSelectKey {
+		private final String sql;
+		private final Set<String> querySpaces;
+
+		private NonSelectKey(String sql, Set<String> querySpaces) {
+			this.sql = sql;
+			this.querySpaces = querySpaces;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof NonSelectKey ) ) {
+				return false;
+			}
+			final NonSelectKey that = (NonSelectKey) o;
+			return sql.equals( that.sql ) && Objects.equals( querySpaces, that.querySpaces );
+		}
+
+		@Override
+		public int hashCode() {
+			return sql.hashCode() * 31 + Objects.hashCode( querySpaces );
+		}
+	}
 }
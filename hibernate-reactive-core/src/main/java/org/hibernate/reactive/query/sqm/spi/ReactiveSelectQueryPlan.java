@@ -14,6 +14,7 @@
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
@@ -48,6 +49,14 @@ default <T> CompletionStage<T> reactiveExecuteQuery(DomainQueryExecutionContext
 		return failedFuture( new UnsupportedOperationException() );
 	}
 
+	/**
+	 * Execute the query, passing the rows of the result to the given
+	 * {@link ReactiveResultsConsumer} instead of collecting them in a list
+	 */
+	default <T> CompletionStage<T> reactiveExecuteQuery(DomainQueryExecutionContext executionContext, ReactiveResultsConsumer<T, R> resultsConsumer) {
+		return failedFuture( new UnsupportedOperationException() );
+	}
+
 	/**
 	 * Perform (execute) the query returning a List
 	 */
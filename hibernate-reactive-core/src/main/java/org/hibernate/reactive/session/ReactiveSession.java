@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.session;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -48,6 +49,8 @@ public interface ReactiveSession extends ReactiveQueryProducer, ReactiveSharedSe
 
 	<E,T> CompletionStage<T> reactiveFetch(E entity, Attribute<E,T> field);
 
+	<E,T> CompletionStage<Void> reactiveFetchAll(Collection<E> entities, Attribute<E,T> field);
+
 	CompletionStage<Void> reactivePersist(Object entity);
 
 	CompletionStage<Void> reactivePersist(Object object, PersistContext copiedAlready);
@@ -62,6 +65,8 @@ public interface ReactiveSession extends ReactiveQueryProducer, ReactiveSharedSe
 
 	<T> CompletionStage<T> reactiveMerge(T object);
 
+	CompletionStage<Void> reactiveMergeAll(Object... objects);
+
 	CompletionStage<Void> reactiveMerge(Object object, MergeContext copiedAlready);
 
 	CompletionStage<Void> reactiveFlush();
@@ -44,6 +44,10 @@ public interface ReactiveStatelessSession extends ReactiveQueryProducer, Reactiv
 
 	CompletionStage<Void> reactiveUpsert(String entityName, Object entity);
 
+	CompletionStage<Void> reactiveUpsertAll(Object... entities);
+
+	CompletionStage<Void> reactiveUpsertAll(int batchSize, Object... entities);
+
 	CompletionStage<Void> reactiveRefresh(Object entity);
 
 	CompletionStage<Void> reactiveRefresh(String entityName, Object entity);
@@ -8,24 +8,112 @@
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.blocking.impl.BlockingSessionFactoryImpl;
 import org.hibernate.reactive.boot.spi.ReactiveMetadataImplementor;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
+import org.hibernate.reactive.sql.results.internal.SharedQueryExecutions;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 
 /**
  * A Hibernate {@link org.hibernate.SessionFactory} that can be
- * unwrapped to produce a {@link Stage.SessionFactory} or a
- * {@link Mutiny.SessionFactory}.
+ * unwrapped to produce a {@link Stage.SessionFactory}, a
+ * {@link Mutiny.SessionFactory}, or a {@link Blocking.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
 
+	/**
+	 * Null unless the query cache is enabled and
+	 * {@link Settings#QUERY_CACHE_SHARE_IN_FLIGHT} is not disabled
+	 */
+	private final SharedQueryExecutions sharedQueryExecutions;
+
+	/**
+	 * Null unless {@link Settings#QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE} is set
+	 */
+	private final EventLoopQueryPlanCache eventLoopQueryPlanCache;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor bootMetamodel, SessionFactoryOptions options, BootstrapContext bootstrapContext) {
 		super( new ReactiveMetadataImplementor( bootMetamodel ), options, bootstrapContext );
+		final ConfigurationService configurationService = getServiceRegistry().getService( ConfigurationService.class );
+		if ( configurationService.getSetting( Settings.PREPARE_PERSISTERS, StandardConverters.BOOLEAN, false ) ) {
+			preparePersisters();
+		}
+		sharedQueryExecutions = options.isQueryCacheEnabled()
+				&& configurationService.getSetting( Settings.QUERY_CACHE_SHARE_IN_FLIGHT, StandardConverters.BOOLEAN, true )
+				? new SharedQueryExecutions()
+				: null;
+		final int eventLoopQueryPlanCacheSize =
+				configurationService.getSetting( Settings.QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE, StandardConverters.INTEGER, 0 );
+		eventLoopQueryPlanCache = eventLoopQueryPlanCacheSize > 0
+				&& configurationService.getSetting( Settings.QUERY_PLAN_CACHE_ENABLED, StandardConverters.BOOLEAN, true )
+				? new EventLoopQueryPlanCache( eventLoopQueryPlanCacheSize )
+				: null;
+		if ( eventLoopQueryPlanCache != null ) {
+			ReactiveStatisticsImpl.of( getServiceRegistry() ).eventLoopQueryPlanCacheCreated( eventLoopQueryPlanCache );
+		}
+	}
+
+	/**
+	 * @return the cacheable queries being executed, or {@code null} if
+	 *         their results are not shared between sessions
+	 *
+	 * @see Settings#QUERY_CACHE_SHARE_IN_FLIGHT
+	 */
+	public SharedQueryExecutions getSharedQueryExecutions() {
+		return sharedQueryExecutions;
+	}
+
+	/**
+	 * @return the cache of query plans of each event loop, or {@code null}
+	 *         if the event loops only use the shared query plan cache
+	 *
+	 * @see Settings#QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE
+	 */
+	public EventLoopQueryPlanCache getEventLoopQueryPlanCache() {
+		return eventLoopQueryPlanCache;
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		if ( eventLoopQueryPlanCache != null ) {
+			eventLoopQueryPlanCache.clear();
+		}
+	}
+
+	/**
+	 * Create the loaders and mutation operations of the reactive persisters
+	 * which would otherwise be created lazily on first use.
+	 * <p>
+	 * They're created one after the other, on the thread building the factory,
+	 * because building the SQL ASTs isn't documented as thread-safe.
+	 *
+	 * @see Settings#PREPARE_PERSISTERS
+	 */
+	private void preparePersisters() {
+		getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			if ( persister instanceof ReactiveAbstractEntityPersister ) {
+				( (ReactiveAbstractEntityPersister) persister ).getReactiveSingleIdEntityLoader().prepareDatabaseSnapshot();
+			}
+		} );
+		getMappingMetamodel().forEachCollectionDescriptor( persister -> {
+			if ( persister instanceof ReactiveAbstractCollectionPersister ) {
+				( (ReactiveAbstractCollectionPersister) persister ).prepareMutationOperations();
+			}
+		} );
 	}
 
 	@Override
@@ -46,6 +134,9 @@ public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom( Mutiny.SessionFactory.class ) ) {
 			return type.cast( new MutinySessionFactoryImpl( this ) );
 		}
+		if ( type.isAssignableFrom( Blocking.SessionFactory.class ) ) {
+			return type.cast( new BlockingSessionFactoryImpl( this ) );
+		}
 		return super.unwrap( type );
 	}
 }
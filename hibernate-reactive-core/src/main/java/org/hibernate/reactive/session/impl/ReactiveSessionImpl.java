@@ -6,6 +6,10 @@
 package org.hibernate.reactive.session.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +33,7 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -61,7 +66,9 @@
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
+import org.hibernate.loader.ast.spi.CascadingFetchProfile;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -96,8 +103,10 @@
 import org.hibernate.reactive.event.ReactiveResolveNaturalIdEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveAutoFlushEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveInitializeCollectionEventListener;
+import org.hibernate.reactive.event.impl.DetachedEntityCollector;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
@@ -106,11 +115,13 @@
 import org.hibernate.reactive.query.ReactiveQuery;
 import org.hibernate.reactive.query.ReactiveQueryImplementor;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
 import org.hibernate.reactive.query.sql.internal.ReactiveNativeQueryImpl;
 import org.hibernate.reactive.query.sql.spi.ReactiveNativeQueryImplementor;
 import org.hibernate.reactive.query.sqm.internal.ReactiveQuerySqmImpl;
 import org.hibernate.reactive.query.sqm.internal.ReactiveSqmSelectionQueryImpl;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import jakarta.persistence.EntityGraph;
@@ -132,7 +143,9 @@
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
 import static org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister.forceInitialize;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
@@ -322,6 +335,83 @@ public <E, T> CompletionStage<T> reactiveFetch(E entity, Attribute<E, T> field)
 				.reactiveInitializeLazyProperty( field, entity, this );
 	}
 
+	@Override
+	public <E, T> CompletionStage<Void> reactiveFetchAll(Collection<E> entities, Attribute<E, T> field) {
+		checkOpen();
+		final String name = field.getName();
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		// uninitialized collections, and uninitialized proxies, are fetched in batch
+		final Map<CollectionPersister, Set<Object>> collectionKeys = new LinkedHashMap<>();
+		final Map<String, Set<LazyInitializer>> proxies = new LinkedHashMap<>();
+		// everything else is fetched one at a time
+		final List<Object> associations = new ArrayList<>();
+		final List<E> owners = new ArrayList<>();
+		for ( E entity : entities ) {
+			if ( entity == null ) {
+				continue;
+			}
+			final EntityPersister persister = getEntityPersister( null, entity );
+			if ( !persister.getBytecodeEnhancementMetadata().isAttributeLoaded( entity, name ) ) {
+				// reading the attribute would trigger lazy loading
+				owners.add( entity );
+				continue;
+			}
+			final Object association = persister.getPropertyValue( entity, name );
+			if ( association instanceof PersistentCollection ) {
+				final PersistentCollection<?> collection = (PersistentCollection<?>) association;
+				if ( !collection.wasInitialized() ) {
+					final CollectionEntry entry = persistenceContext.getCollectionEntry( collection );
+					if ( entry != null && entry.getLoadedKey() != null ) {
+						collectionKeys.computeIfAbsent( entry.getLoadedPersister(), p -> new LinkedHashSet<>() )
+								.add( entry.getLoadedKey() );
+					}
+					else {
+						associations.add( collection );
+					}
+				}
+			}
+			else if ( association instanceof HibernateProxy ) {
+				final LazyInitializer initializer = extractLazyInitializer( association );
+				if ( initializer.isUninitialized() ) {
+					proxies.computeIfAbsent( initializer.getEntityName(), n -> new LinkedHashSet<>() )
+							.add( initializer );
+				}
+			}
+			else if ( isPersistentAttributeInterceptable( association ) ) {
+				associations.add( association );
+			}
+		}
+		return loop( collectionKeys.entrySet(), entry -> fetchCollections( entry.getKey(), entry.getValue() ) )
+				.thenCompose( v -> loop( proxies.entrySet(), entry -> fetchProxies( entry.getKey(), entry.getValue() ) ) )
+				.thenCompose( v -> loop( associations, association -> reactiveFetch( association, false ) ) )
+				.thenCompose( v -> loop( owners, owner -> reactiveFetch( owner, field ) ) );
+	}
+
+	private CompletionStage<Void> fetchCollections(CollectionPersister persister, Set<Object> keys) {
+		return ( (ReactiveAbstractCollectionPersister) persister ).reactiveInitialize( keys.toArray(), this );
+	}
+
+	private CompletionStage<Void> fetchProxies(String entityName, Set<LazyInitializer> initializers) {
+		final EntityPersister persister = getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
+		final Object[] ids = new Object[initializers.size()];
+		int i = 0;
+		for ( LazyInitializer initializer : initializers ) {
+			ids[i++] = initializer.getIdentifier();
+		}
+		return new ReactiveMultiIdentifierLoadAccessImpl<>( persister )
+				.multiLoad( ids )
+				.thenAccept( list -> {
+					for ( LazyInitializer initializer : initializers ) {
+						final Object identifier = initializer.getIdentifier();
+						final Object entity = getPersistenceContextInternal()
+								.getEntity( generateEntityKey( identifier, persister ) );
+						checkEntityFound( this, entityName, identifier, entity );
+						initializer.setSession( this );
+						initializer.setImplementation( entity );
+					}
+				} );
+	}
+
 	@Override
 	public <R> ReactiveQuery<R> createReactiveQuery(CriteriaQuery<R> criteriaQuery) {
 		checkOpen();
@@ -358,6 +448,12 @@ public <R> ReactiveQuery<R> createReactiveQuery(String queryString) {
 		return createReactiveQuery( queryString, null );
 	}
 
+	@Override
+	protected HqlInterpretation interpretHql(String hql, Class<?> resultType) {
+		return EventLoopQueryPlanCache
+				.resolveHqlInterpretation( getFactory(), hql, resultType, () -> super.interpretHql( hql, resultType ) );
+	}
+
 	@Override
 	public <R> ReactiveQuery<R> createReactiveQuery(String queryString, Class<R> expectedResultType) {
 		checkOpen();
@@ -868,7 +964,40 @@ else if ( e instanceof RuntimeException ) {
 	@Override
 	public <T> CompletionStage<T> reactiveMerge(T object) throws HibernateException {
 		checkOpen();
-		return fireMerge( new MergeEvent( null, object, this ) );
+		return loadDetached( object )
+				.thenCompose( v -> fireMerge( new MergeEvent( null, object, this ) ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveMergeAll(Object... objects) throws HibernateException {
+		checkOpen();
+		return loadDetached( objects )
+				.thenCompose( v -> applyToAll( object -> fireMerge( new MergeEvent( null, object, this ) ), objects ) );
+	}
+
+	/**
+	 * Load the detached entities which are about to be merged with one
+	 * multi-id load for each entity type, so that the merge finds them
+	 * in the persistence context, instead of loading them one at a time.
+	 * They are loaded with the {@link CascadingFetchProfile#MERGE} fetch
+	 * profile, as the merge would, and the entities fetched along with the
+	 * ones loaded first are found in the persistence context, and aren't
+	 * loaded again.
+	 *
+	 * @see DetachedEntityCollector
+	 */
+	private CompletionStage<Void> loadDetached(Object... objects) {
+		final Map<EntityPersister, List<Object>> detached = DetachedEntityCollector.collect( this, objects, 2 );
+		if ( detached.isEmpty() ) {
+			return voidFuture();
+		}
+		final CascadingFetchProfile previous = getLoadQueryInfluencers().getEnabledCascadingFetchProfile();
+		getLoadQueryInfluencers().setEnabledCascadingFetchProfile( CascadingFetchProfile.MERGE );
+		return loop( detached.entrySet(), entry -> new ReactiveMultiIdentifierLoadAccessImpl<>( entry.getKey() )
+						.enableSessionCheck( true )
+						.enableOrderedReturn( false )
+						.multiLoad( entry.getValue() ) )
+				.whenComplete( (v, e) -> getLoadQueryInfluencers().setEnabledCascadingFetchProfile( previous ) );
 	}
 
 	@Override
@@ -978,9 +1107,13 @@ private CompletionStage<Void> doFlush() {
 			throw LOG.flushDuringCascadeIsDangerous();
 		}
 
+		final ReactiveStatisticsImpl statistics = ReactiveStatisticsImpl.of( this );
+		final long startTime = statistics.startTime();
+		final int entityCount = getPersistenceContextInternal().getNumberOfManagedEntities();
 		return fastSessionServices.eventListenerGroup_FLUSH
 				.fireEventOnEachListener( new FlushEvent( this ), (ReactiveFlushEventListener l) -> l::reactiveOnFlush )
 				.handle( (v, e) -> {
+					statistics.flushed( startTime, entityCount );
 					delayedAfterCompletion();
 
 					if ( e instanceof CompletionException ) {
@@ -7,6 +7,7 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
@@ -69,6 +70,7 @@
 import org.hibernate.reactive.query.ReactiveQuery;
 import org.hibernate.reactive.query.ReactiveQueryImplementor;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
 import org.hibernate.reactive.query.sql.internal.ReactiveNativeQueryImpl;
 import org.hibernate.reactive.query.sql.spi.ReactiveNativeQueryImplementor;
 import org.hibernate.reactive.query.sqm.internal.ReactiveQuerySqmImpl;
@@ -133,7 +135,9 @@ public ReactiveStatelessSessionImpl(SessionFactoryImpl factory, SessionCreationO
 	}
 
 	/**
-	 * Create a helper instance with an underling {@link BatchingConnection}
+	 * Create a helper instance with an underling {@link BatchingConnection},
+	 * which only batches the statements when a batch size is configured,
+	 * or given to one of the operations on several entities
 	 */
 	private ReactiveStatelessSessionImpl(
 			SessionFactoryImpl factory,
@@ -143,9 +147,7 @@ private ReactiveStatelessSessionImpl(
 		super( factory, options );
 		this.persistenceContext = persistenceContext;
 		Integer batchSize = getConfiguredJdbcBatchSize();
-		reactiveConnection = batchSize == null || batchSize < 2
-				? connection
-				: new BatchingConnection( connection, batchSize );
+		reactiveConnection = new BatchingConnection( connection, batchSize == null || batchSize < 2 ? 0 : batchSize );
 		batchingHelperSession = this;
 		influencers = new LoadQueryInfluencers( factory );
 	}
@@ -435,62 +437,104 @@ public CompletionStage<Void> reactiveUpsert(String entityName, Object entity) {
 				.mergeReactive( id, state, null, false, null, oldVersion, entity, null, this );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveUpsertAll(Object... entities) {
+		return executeBatch(
+				loop( entities, batchingHelperSession::reactiveUpsert ),
+				batchingHelperSession.getReactiveConnection()
+		);
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveUpsertAll(int batchSize, Object... entities) {
+		return executeBatch( batchSize, entities, batchingHelperSession::reactiveUpsert );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveInsert )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return executeBatch(
+				loop( entities, batchingHelperSession::reactiveInsert ),
+				batchingHelperSession.getReactiveConnection()
+		);
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(int batchSize, Object... entities) {
-		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveInsert )
-				.thenCompose( v -> connection.executeBatch() );
+		return executeBatch( batchSize, entities, batchingHelperSession::reactiveInsert );
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveUpdateAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveUpdate )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return executeBatch(
+				loop( entities, batchingHelperSession::reactiveUpdate ),
+				batchingHelperSession.getReactiveConnection()
+		);
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveUpdateAll(int batchSize, Object... entities) {
-		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveUpdate )
-				.thenCompose( v -> connection.executeBatch() );
+		return executeBatch( batchSize, entities, batchingHelperSession::reactiveUpdate );
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveDeleteAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveDelete )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return executeBatch(
+				loop( entities, batchingHelperSession::reactiveDelete ),
+				batchingHelperSession.getReactiveConnection()
+		);
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveDeleteAll(int batchSize, Object... entities) {
-		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveDelete )
-				.thenCompose( v -> connection.executeBatch() );
+		return executeBatch( batchSize, entities, batchingHelperSession::reactiveDelete );
 	}
 
 
 	@Override
 	public CompletionStage<Void> reactiveRefreshAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveRefresh )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return executeBatch(
+				loop( entities, batchingHelperSession::reactiveRefresh ),
+				batchingHelperSession.getReactiveConnection()
+		);
 	}
 
 	@Override
 	public CompletionStage<Void> reactiveRefreshAll(int batchSize, Object... entities) {
-		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveRefresh )
-				.thenCompose( v -> connection.executeBatch() );
+		return executeBatch( batchSize, entities, batchingHelperSession::reactiveRefresh );
 	}
 
-	private ReactiveConnection batchingConnection(int batchSize) {
-		return batchingHelperSession.getReactiveConnection()
-				.withBatchSize( batchSize );
+	/**
+	 * Execute the statements left in the batch once the given statements
+	 * have been added to it, or discard them if one of the statements
+	 * failed, so that they aren't executed with the next batch.
+	 */
+	private static CompletionStage<Void> executeBatch(CompletionStage<Void> statements, ReactiveConnection connection) {
+		return statements
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> {
+					if ( handler.hasFailed() ) {
+						if ( connection instanceof BatchingConnection ) {
+							( (BatchingConnection) connection ).clearBatch();
+						}
+						return handler.getResultAsCompletionStage();
+					}
+					return connection.executeBatch();
+				} );
+	}
+
+	/**
+	 * Apply the given operation to the entities, in batches of the given size,
+	 * and then restore the configured batch size.
+	 */
+	private CompletionStage<Void> executeBatch(
+			int batchSize,
+			Object[] entities,
+			Function<Object, CompletionStage<?>> operation) {
+		final BatchingConnection connection = (BatchingConnection) batchingHelperSession.getReactiveConnection();
+		final int configuredBatchSize = connection.getBatchSize();
+		connection.setBatchSize( batchSize );
+		return executeBatch( loop( entities, operation ), connection )
+				.whenComplete( (v, e) -> connection.setBatchSize( configuredBatchSize ) );
 	}
 
 	private Object createProxy(EntityKey entityKey) {
@@ -749,6 +793,12 @@ public void prepareForQueryExecution(boolean requiresTxn) {
 //		}
 	}
 
+	@Override
+	protected HqlInterpretation interpretHql(String hql, Class<?> resultType) {
+		return EventLoopQueryPlanCache
+				.resolveHqlInterpretation( getFactory(), hql, resultType, () -> super.interpretHql( hql, resultType ) );
+	}
+
 	@Override
 	public <R> ReactiveSqmQueryImplementor<R> createReactiveQuery(String queryString, Class<R> expectedResultType) {
 		checkOpen();
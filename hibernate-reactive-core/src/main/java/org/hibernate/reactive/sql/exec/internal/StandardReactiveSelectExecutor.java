@@ -91,6 +91,49 @@ public <R> CompletionStage<List<R>> list(
 		);
 	}
 
+	/**
+	 * Send the query to the database, without waiting for the results, so
+	 * that the queries for several chunks of keys can be pipelined on the
+	 * connection of the session. The results are only processed when the
+	 * returned {@link ReactiveDeferredResultSetAccess} is passed to
+	 * {@link #list(JdbcOperationQuerySelect, ReactiveDeferredResultSetAccess, ExecutionContext, RowTransformer, ReactiveListResultsConsumer.UniqueSemantic)}.
+	 */
+	public ReactiveDeferredResultSetAccess prefetch(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		final ReactiveDeferredResultSetAccess resultSetAccess = new ReactiveDeferredResultSetAccess(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				executionContext.getSession()
+						.getJdbcCoordinator()
+						.getStatementPreparer()::prepareStatement
+		);
+		// The result set is memoized, and consumed later
+		resultSetAccess.getReactiveResultSet();
+		return resultSetAccess;
+	}
+
+	/**
+	 * Process the results of a query started with {@link #prefetch}.
+	 */
+	public <R> CompletionStage<List<R>> list(
+			JdbcOperationQuerySelect jdbcSelect,
+			ReactiveDeferredResultSetAccess prefetched,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ReactiveListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		return executeQuery(
+				jdbcSelect,
+				prefetched,
+				executionContext,
+				rowTransformer,
+				null,
+				ReactiveListResultsConsumer.instance( uniqueSemantic )
+		);
+	}
+
 	@Override
 	public <T, R> CompletionStage<T> executeQuery(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -100,6 +143,53 @@ public <T, R> CompletionStage<T> executeQuery(
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
 			ReactiveResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				statementCreator,
+				resultsConsumer,
+				null
+		);
+	}
+
+	/**
+	 * Execute a query which may return at most the given number of rows,
+	 * instead of the default limit of the connection.
+	 *
+	 * @param resultRowLimit the maximum number of rows, or {@code null}
+	 *                       if the default limit applies
+	 *
+	 * @see org.hibernate.reactive.query.spi.ResultRowLimitExecutionContext
+	 */
+	public <T, R> CompletionStage<T> executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			Function<String, PreparedStatement> statementCreator,
+			ReactiveResultsConsumer<T, R> resultsConsumer,
+			Integer resultRowLimit) {
+		final ReactiveDeferredResultSetAccess deferredResultSetAccess = new ReactiveDeferredResultSetAccess(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				statementCreator,
+				resultRowLimit
+		);
+		return executeQuery( jdbcSelect, deferredResultSetAccess, executionContext, rowTransformer, domainResultType, resultsConsumer );
+	}
+
+	private <T, R> CompletionStage<T> executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			ReactiveDeferredResultSetAccess deferredResultSetAccess,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ReactiveResultsConsumer<T, R> resultsConsumer) {
 
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
@@ -110,7 +200,7 @@ public <T, R> CompletionStage<T> executeQuery(
 			persistenceContext.setDefaultReadOnly( readOnly );
 		}
 
- 		return doExecuteQuery( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer, domainResultType, statementCreator, resultsConsumer )
+ 		return doExecuteQuery( jdbcSelect, deferredResultSetAccess, executionContext, rowTransformer, domainResultType, resultsConsumer )
 				.thenCompose( list -> ( (ReactivePersistenceContextAdapter) persistenceContext )
 						// only initialize non-lazy collections after everything else has been refreshed
 						.reactiveInitializeNonLazyCollections()
@@ -125,15 +215,12 @@ public <T, R> CompletionStage<T> executeQuery(
 
 	private <T, R> CompletionStage<T> doExecuteQuery(
 			JdbcOperationQuerySelect jdbcSelect,
-			JdbcParameterBindings jdbcParameterBindings,
+			ReactiveDeferredResultSetAccess deferredResultSetAccess,
 			ExecutionContext executionContext,
 			RowTransformer<R> transformer,
 			Class<R> domainResultType,
-			Function<String, PreparedStatement> statementCreator,
 			ReactiveResultsConsumer<T, R> resultsConsumer) {
 
-		final ReactiveDeferredResultSetAccess deferredResultSetAccess = new ReactiveDeferredResultSetAccess( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator );
-
 		return resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
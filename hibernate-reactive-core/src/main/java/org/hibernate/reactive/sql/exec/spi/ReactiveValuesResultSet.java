@@ -21,6 +21,7 @@
 import org.hibernate.exception.DataException;
 import org.hibernate.exception.LockTimeoutException;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.adaptor.impl.CursorResultSetAdaptor;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultSetAccess;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
@@ -151,6 +152,10 @@ protected final CompletionStage<Boolean> processNext() {
 	private CompletionStage<Boolean> doNext(ResultSet resultSet) {
 		try {
 			boolean next = resultSet.next();
+			if ( !next && resultSet instanceof CursorResultSetAdaptor ) {
+				// The current chunk has been consumed, read the next one
+				return ( (CursorResultSetAdaptor) resultSet ).nextChunk();
+			}
 			return completedFuture( next );
 		}
 		catch (SQLException e) {
@@ -15,20 +15,25 @@
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.DialectDelegateWrapper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.session.impl.ReactiveSessionFactoryImpl;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.internal.JdbcExecHelper;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -46,7 +51,10 @@ public class ReactiveDeferredResultSetAccess extends DeferredResultSetAccess imp
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final SqlStatementLogger sqlStatementLogger;
 
+	private final JdbcOperationQuerySelect jdbcSelect;
 	private final ExecutionContext executionContext;
+	private final int parameterCount;
+	private final Integer resultRowLimit;
 
 	private CompletionStage<ResultSet> resultSetStage;
 
@@ -59,8 +67,25 @@ public ReactiveDeferredResultSetAccess(
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			Function<String, PreparedStatement> statementCreator) {
+		this( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, null );
+	}
+
+	/**
+	 * @param resultRowLimit the maximum number of rows of the query, or
+	 *                       {@code null} if the default limit of the
+	 *                       connection applies
+	 */
+	public ReactiveDeferredResultSetAccess(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			Function<String, PreparedStatement> statementCreator,
+			Integer resultRowLimit) {
 		super( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator );
+		this.resultRowLimit = resultRowLimit;
+		this.jdbcSelect = jdbcSelect;
 		this.executionContext = executionContext;
+		this.parameterCount = jdbcSelect.getParameterBinders().size();
 		this.sqlStatementLogger = executionContext.getSession().getJdbcServices().getSqlStatementLogger();
 	}
 
@@ -154,7 +179,7 @@ private CompletionStage<ResultSet> executeQuery() {
 					Dialect dialect = DialectDelegateWrapper.extractRealDialect( executionContext.getSession().getJdbcServices().getDialect() );
 					// I'm not sure calling Parameters here is necessary, the query should already have the right parameters
 					final String sql = Parameters.instance( dialect ).process( getFinalSql() );
-					Object[] parameters = PreparedStatementAdaptor.bind( super::bindParameters );
+					Object[] parameters = PreparedStatementAdaptor.bind( parameterCount, super::bindParameters );
 
 					final SessionEventListenerManager eventListenerManager = executionContext
 							.getSession().getEventListenerManager();
@@ -162,8 +187,7 @@ private CompletionStage<ResultSet> executeQuery() {
 					final long executeStartNanos = executionStartNanos();
 
 					eventListenerManager.jdbcExecuteStatementStart();
-					return connection()
-							.selectJdbc( sql, parameters )
+					return select( sql, parameters )
 							.thenCompose( this::validateResultSet )
 							.whenComplete( (resultSet, throwable) -> {
 								// FIXME: I don't know if this event makes sense for Vert.x
@@ -180,6 +204,52 @@ private CompletionStage<ResultSet> executeQuery() {
 				.whenComplete( (o, throwable) -> logicalConnection.afterStatement() );
 	}
 
+	/**
+	 * If the query has a fetch size, read the result in chunks of that
+	 * size, so that the rows of each chunk are converted before the next
+	 * chunk is fetched. If the query is cacheable, read the rows of an
+	 * identical query already being executed by another session, if any.
+	 */
+	private CompletionStage<ResultSet> select(String sql, Object[] parameters) {
+		final int rowLimit = resultRowLimit == null ? connection().getResultRowLimit() : resultRowLimit;
+		final Integer fetchSize = executionContext.getQueryOptions().getFetchSize();
+		if ( fetchSize != null && fetchSize > 0 ) {
+			return connection().selectJdbcWithCursor( sql, parameters, fetchSize, rowLimit );
+		}
+		final SharedQueryExecutions sharedExecutions = sharedQueryExecutions();
+		return sharedExecutions == null
+				? connection().selectJdbc( sql, parameters, rowLimit )
+				: sharedExecutions.select(
+						sql,
+						parameters,
+						rowLimit,
+						jdbcSelect.getAffectedTableNames(),
+						executionContext.getSession(),
+						() -> connection().selectJdbc( sql, parameters, rowLimit )
+				);
+	}
+
+	/**
+	 * @return the {@link SharedQueryExecutions} of the factory, or {@code null}
+	 *         if the result of this query can't be shared with other sessions
+	 */
+	private SharedQueryExecutions sharedQueryExecutions() {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		if ( !( session.getFactory() instanceof ReactiveSessionFactoryImpl ) ) {
+			return null;
+		}
+		final SharedQueryExecutions sharedExecutions =
+				( (ReactiveSessionFactoryImpl) session.getFactory() ).getSharedQueryExecutions();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		return sharedExecutions != null
+				&& queryOptions.isResultCachingEnabled() == Boolean.TRUE
+				// the session wants fresh results, see CacheMode.REFRESH
+				&& JdbcExecHelper.resolveCacheMode( executionContext ).isGetEnabled()
+				&& !queryOptions.getLockOptions().getLockMode().greaterThan( LockMode.READ )
+				? sharedExecutions
+				: null;
+	}
+
 	private CompletionStage<ResultSet> validateResultSet(ResultSet resultSet) {
 		try {
 			return resultSet.getMetaData().getColumnCount() == 0
@@ -202,6 +272,34 @@ private ResultSet saveColumnCount(ResultSet resultSet) {
 		return resultSet;
 	}
 
+	/**
+	 * Release the result of a query which was sent to the database in
+	 * advance, but whose results are never going to be processed, as
+	 * soon as the query completes.
+	 */
+	public CompletionStage<Void> discard() {
+		return getReactiveResultSet()
+				.handle( (resultSet, throwable) -> {
+					release();
+					return null;
+				} );
+	}
+
+	@Override
+	public void release() {
+		super.release();
+		if ( resultSet != null ) {
+			try {
+				// closes the cursor, if the result was read in chunks
+				resultSet.close();
+			}
+			catch (SQLException e) {
+				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "Unable to release the result of the query [" + getFinalSql() + "]" );
+			}
+		}
+	}
+
 	private ReactiveConnection connection() {
 		return ( (ReactiveConnectionSupplier) executionContext.getSession() ).getReactiveConnection();
 	}
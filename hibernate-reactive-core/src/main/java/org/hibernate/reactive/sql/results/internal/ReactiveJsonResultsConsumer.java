@@ -0,0 +1,284 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
+import org.hibernate.reactive.sql.exec.spi.ReactiveValuesResultSet;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveRowReader;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.instantiation.DynamicInstantiationResult;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.trueFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
+
+/**
+ * A {@link ReactiveResultsConsumer} which writes the rows of the result
+ * as a JSON array of objects, directly from the JDBC values of each row,
+ * without reading the row into entities or other Java objects. The array
+ * is passed to the given consumer in {@link Buffer}s of a fixed number
+ * of rows, as the rows are read, and the number of rows is returned.
+ * After passing a buffer to the consumer, no more rows are read until
+ * the stage returned by the consumer completes, so that a slow consumer
+ * doesn't cause the buffers to pile up in memory.
+ * <p>
+ * The values are written as read from the database, that is, before any
+ * {@link jakarta.persistence.AttributeConverter} is applied. Each name is
+ * mapped to the position of its value in the row via the {@link DomainResult}
+ * of the value, since the row doesn't contain the same value twice, and
+ * the names must be distinct, since they're the keys of the JSON objects.
+ */
+public class ReactiveJsonResultsConsumer<R> implements ReactiveResultsConsumer<Long, R> {
+
+	private final String[][] names;
+	private final int rowsPerBuffer;
+	private final Function<Buffer, CompletionStage<Void>> consumer;
+
+	/**
+	 * @param names the names of the values, for each domain result of the
+	 *              query, or {@code null} to use the names given by the
+	 *              result set mapping
+	 * @param rowsPerBuffer the number of rows written to each buffer
+	 * @param consumer the consumer of the buffers, which returns a stage
+	 *                 completing when it's ready for the next buffer
+	 */
+	public ReactiveJsonResultsConsumer(String[][] names, int rowsPerBuffer, Function<Buffer, CompletionStage<Void>> consumer) {
+		if ( rowsPerBuffer < 1 ) {
+			throw new IllegalArgumentException( "The number of rows per buffer must be positive" );
+		}
+		this.names = names;
+		this.rowsPerBuffer = rowsPerBuffer;
+		this.consumer = consumer;
+	}
+
+	@Override
+	public CompletionStage<Long> consume(
+			ReactiveValuesResultSet jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			ReactiveRowProcessingState rowProcessingState,
+			ReactiveRowReader<R> rowReader) {
+		final Object[] row = jdbcValues.getCurrentRowValuesArray();
+		final List<DomainResult<?>> domainResults = jdbcValues.getValuesMapping().getDomainResults();
+		final String[][] names = this.names == null ? resultVariables( domainResults ) : this.names;
+		final int[] positions = positions( names, domainResults );
+		final byte[][] keys = keys( names );
+		final Buffer[] buffer = { Buffer.buffer().appendByte( (byte) '[' ) };
+		final long[] rows = { 0 };
+		return whileLoop( () -> rowProcessingState.next()
+				.thenCompose( hasNext -> {
+					if ( hasNext ) {
+						if ( rows[0] > 0 ) {
+							buffer[0].appendByte( (byte) ',' );
+						}
+						writeRow( buffer[0], keys, positions, row );
+						if ( ++rows[0] % rowsPerBuffer == 0 ) {
+							final Buffer full = buffer[0];
+							buffer[0] = Buffer.buffer();
+							return consumer.apply( full ).thenApply( v -> true );
+						}
+					}
+					return hasNext ? trueFuture() : falseFuture();
+				} )
+		)
+				.thenCompose( v -> consumer.apply( buffer[0].appendByte( (byte) ']' ) ) )
+				.thenApply( v -> rows[0] );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+
+	private static String[][] resultVariables(List<DomainResult<?>> domainResults) {
+		final String[][] names = new String[domainResults.size()][];
+		for ( int i = 0; i < names.length; i++ ) {
+			final String resultVariable = domainResults.get( i ).getResultVariable();
+			names[i] = new String[] { resultVariable == null ? "col_" + i : resultVariable };
+		}
+		return names;
+	}
+
+	/**
+	 * The position in the row of each value, in the order of the names.
+	 * A basic result has the position of its value, and an instantiation
+	 * the positions of its arguments, which are in the order of the
+	 * arguments only if none of them is the same as another value.
+	 */
+	private static int[] positions(String[][] names, List<DomainResult<?>> domainResults) {
+		if ( names.length != domainResults.size() ) {
+			throw new IllegalArgumentException( "The result can't be written as JSON: the query selects "
+					+ names.length + " items, but the result has " + domainResults.size() + " values"
+					+ " (only a projection of basic values can be written as JSON)" );
+		}
+		final List<Integer> positions = new ArrayList<>();
+		int lastPosition = -1;
+		for ( int i = 0; i < names.length; i++ ) {
+			final DomainResult<?> domainResult = domainResults.get( i );
+			final BitSet valuePositions = new BitSet();
+			domainResult.collectValueIndexesToCache( valuePositions );
+			if ( domainResult instanceof BasicResult && names[i].length == 1 ) {
+				positions.add( valuePositions.nextSetBit( 0 ) );
+			}
+			else if ( domainResult instanceof DynamicInstantiationResult
+					&& valuePositions.cardinality() == names[i].length
+					&& valuePositions.nextSetBit( 0 ) > lastPosition ) {
+				for ( int p = valuePositions.nextSetBit( 0 ); p >= 0; p = valuePositions.nextSetBit( p + 1 ) ) {
+					positions.add( p );
+				}
+			}
+			else {
+				throw new IllegalArgumentException( "The result can't be written as JSON: the value of '"
+						+ String.join( "', '", names[i] ) + "' isn't a basic value, or an instantiation"
+						+ " with distinct basic values as arguments (only a projection of basic values"
+						+ " can be written as JSON)" );
+			}
+			lastPosition = Math.max( lastPosition, valuePositions.length() - 1 );
+		}
+		final int[] result = new int[positions.size()];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = positions.get( i );
+		}
+		return result;
+	}
+
+	private static byte[][] keys(String[][] names) {
+		final Set<String> distinctNames = new HashSet<>();
+		final List<byte[]> keys = new ArrayList<>();
+		for ( String[] group : names ) {
+			for ( String name : group ) {
+				if ( !distinctNames.add( name ) ) {
+					throw new IllegalArgumentException( "The result can't be written as JSON: several values are named '"
+							+ name + "' (use an alias to give each value a distinct name)" );
+				}
+				final Buffer key = Buffer.buffer();
+				writeString( key, name );
+				keys.add( key.appendByte( (byte) ':' ).getBytes() );
+			}
+		}
+		return keys.toArray( new byte[0][] );
+	}
+
+	private static void writeRow(Buffer buffer, byte[][] keys, int[] positions, Object[] row) {
+		buffer.appendByte( (byte) '{' );
+		for ( int i = 0; i < positions.length; i++ ) {
+			if ( i > 0 ) {
+				buffer.appendByte( (byte) ',' );
+			}
+			buffer.appendBytes( keys[i] );
+			writeValue( buffer, row[positions[i]] );
+		}
+		buffer.appendByte( (byte) '}' );
+	}
+
+	private static void writeValue(Buffer buffer, Object value) {
+		if ( value == null ) {
+			buffer.appendString( "null" );
+		}
+		else if ( value instanceof Boolean
+				|| value instanceof Integer || value instanceof Long
+				|| value instanceof Short || value instanceof Byte
+				|| value instanceof BigInteger || value instanceof BigDecimal ) {
+			buffer.appendString( value.toString() );
+		}
+		else if ( value instanceof Double || value instanceof Float ) {
+			final double number = ( (Number) value ).doubleValue();
+			// NaN and infinity aren't valid JSON numbers
+			buffer.appendString( Double.isFinite( number ) ? value.toString() : "null" );
+		}
+		else if ( value instanceof String || value instanceof Character || value instanceof UUID ) {
+			writeString( buffer, value.toString() );
+		}
+		else if ( value instanceof Enum ) {
+			writeString( buffer, ( (Enum<?>) value ).name() );
+		}
+		else if ( value instanceof TemporalAccessor ) {
+			writeString( buffer, value.toString() );
+		}
+		else if ( value instanceof Date ) {
+			writeString( buffer, isoString( (Date) value ) );
+		}
+		else if ( value instanceof byte[] ) {
+			writeString( buffer, Base64.getEncoder().encodeToString( (byte[]) value ) );
+		}
+		else {
+			buffer.appendString( Json.encode( value ) );
+		}
+	}
+
+	private static String isoString(Date date) {
+		if ( date instanceof java.sql.Date ) {
+			return ( (java.sql.Date) date ).toLocalDate().toString();
+		}
+		else if ( date instanceof Time ) {
+			return ( (Time) date ).toLocalTime().toString();
+		}
+		else if ( date instanceof Timestamp ) {
+			return ( (Timestamp) date ).toLocalDateTime().toString();
+		}
+		else {
+			return date.toInstant().toString();
+		}
+	}
+
+	private static void writeString(Buffer buffer, String string) {
+		buffer.appendByte( (byte) '"' );
+		int start = 0;
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			if ( c == '"' || c == '\\' || c < 0x20 ) {
+				buffer.appendString( string.substring( start, i ) );
+				switch ( c ) {
+					case '"':
+						buffer.appendString( "\\\"" );
+						break;
+					case '\\':
+						buffer.appendString( "\\\\" );
+						break;
+					case '\n':
+						buffer.appendString( "\\n" );
+						break;
+					case '\r':
+						buffer.appendString( "\\r" );
+						break;
+					case '\t':
+						buffer.appendString( "\\t" );
+						break;
+					default:
+						buffer.appendString( String.format( "\\u%04x", (int) c ) );
+				}
+				start = i + 1;
+			}
+		}
+		buffer.appendString( string.substring( start ) );
+		buffer.appendByte( (byte) '"' );
+	}
+}
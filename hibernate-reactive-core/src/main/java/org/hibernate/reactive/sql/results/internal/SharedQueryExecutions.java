@@ -0,0 +1,238 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Keeps track of the cacheable queries being executed, so that when
+ * many sessions miss the query cache for the same query at the same
+ * time, the query is executed only once, and every session reads the
+ * rows it returned.
+ * <p>
+ * A session only reads the rows of a query started by another session
+ * if none of the tables it queries have been invalidated in the
+ * {@link org.hibernate.cache.spi.TimestampsCache} since the query
+ * started: that's the same check that decides if a result in the query
+ * cache is stale. Otherwise, the session executes the query itself.
+ * If the shared execution fails, the first session waiting for it
+ * executes the query again, and the other sessions wait for that
+ * second execution, reading its rows or failing with its error.
+ * <p>
+ * Every session, including the one which executed the query, reads
+ * the rows through a {@linkplain ResultSetAdaptor#copy() copy} of the
+ * result set, so that the mutable values, such as JSON objects, of the
+ * entities they build aren't shared.
+ *
+ * @see org.hibernate.reactive.provider.Settings#QUERY_CACHE_SHARE_IN_FLIGHT
+ */
+public class SharedQueryExecutions {
+
+	private final ConcurrentMap<Key, Execution> executions = new ConcurrentHashMap<>();
+	private final LongAdder sharedCount = new LongAdder();
+
+	/**
+	 * Execute the query, or read the rows of an identical query already
+	 * being executed.
+	 *
+	 * @param sql the SQL of the query
+	 * @param parameters the values of the parameters
+	 * @param resultRowLimit the maximum number of rows the query may return
+	 * @param querySpaces the tables the query reads
+	 * @param session the session executing the query
+	 * @param select executes the query
+	 */
+	public CompletionStage<ResultSet> select(
+			String sql,
+			Object[] parameters,
+			int resultRowLimit,
+			Collection<String> querySpaces,
+			SharedSessionContractImplementor session,
+			Supplier<CompletionStage<ResultSet>> select) {
+		final Key key = new Key( sql, parameters, session.getTenantIdentifier(), resultRowLimit );
+		final Execution current = executions.get( key );
+		if ( current != null ) {
+			return current.isUpToDate( querySpaces, session )
+					? current.join( select, ReactiveStatisticsImpl.of( session ) )
+					: select.get();
+		}
+
+		final Execution execution = new Execution( session.getFactory().getCache().getRegionFactory().nextTimestamp() );
+		if ( executions.putIfAbsent( key, execution ) != null ) {
+			// Another session has just started the same query, and we might
+			// not see its changes yet: it's simpler to execute our own query
+			return select.get();
+		}
+		return select.get()
+				.whenComplete( (resultSet, throwable) -> {
+					executions.remove( key, execution );
+					complete( execution.result, resultSet, throwable );
+				} )
+				.thenApply( SharedQueryExecutions::readAgain );
+	}
+
+	/**
+	 * @return the number of times the rows of a query have been
+	 *         read by a session that didn't execute it
+	 */
+	public long getSharedCount() {
+		return sharedCount.sum();
+	}
+
+	/**
+	 * @return a copy of the given result set, or the result
+	 *         set itself if its rows can't be read again
+	 */
+	private static ResultSet readAgain(ResultSet resultSet) {
+		final ResultSet copy = copyOf( resultSet );
+		return copy == null ? resultSet : copy;
+	}
+
+	private static ResultSet copyOf(ResultSet resultSet) {
+		return resultSet instanceof ResultSetAdaptor
+				? ( (ResultSetAdaptor) resultSet ).copy()
+				: null;
+	}
+
+	private static void complete(CompletableFuture<ResultSet> future, ResultSet resultSet, Throwable throwable) {
+		if ( throwable != null ) {
+			future.completeExceptionally( throwable );
+		}
+		else {
+			future.complete( resultSet );
+		}
+	}
+
+	private static void runOnContext(Context context, ReactiveStatisticsImpl statistics, Runnable action) {
+		if ( context == null ) {
+			action.run();
+		}
+		else {
+			if ( Vertx.currentContext() != context ) {
+				statistics.contextSwitched();
+			}
+			context.runOnContext( v -> action.run() );
+		}
+	}
+
+	private final class Execution {
+		private final long timestamp;
+		private final CompletableFuture<ResultSet> result = new CompletableFuture<>();
+		private final AtomicBoolean retrying = new AtomicBoolean();
+		private final CompletableFuture<ResultSet> retry = new CompletableFuture<>();
+
+		Execution(long timestamp) {
+			this.timestamp = timestamp;
+		}
+
+		boolean isUpToDate(Collection<String> querySpaces, SharedSessionContractImplementor session) {
+			return session.getFactory().getCache().getTimestampsCache()
+					.isUpToDate( querySpaces, timestamp, session );
+		}
+
+		/**
+		 * Wait for the query to complete, and read its rows on the Vert.x
+		 * context of the caller. If the query failed, it may have failed
+		 * because of the state of the session that executed it, so the
+		 * first caller to see the failure executes the query again, and
+		 * the other callers wait for it.
+		 */
+		CompletionStage<ResultSet> join(Supplier<CompletionStage<ResultSet>> select, ReactiveStatisticsImpl statistics) {
+			final Context context = Vertx.currentContext();
+			final CompletableFuture<ResultSet> joined = new CompletableFuture<>();
+			result.whenComplete( (resultSet, throwable) -> runOnContext( context, statistics, () -> {
+				if ( throwable == null ) {
+					share( joined, resultSet, select );
+				}
+				else if ( retrying.compareAndSet( false, true ) ) {
+					select.get().whenComplete( (rs, t) -> {
+						complete( retry, rs, t );
+						complete( joined, t == null ? readAgain( rs ) : null, t );
+					} );
+				}
+				else {
+					retry.whenComplete( (rs, t) -> runOnContext( context, statistics, () -> {
+						if ( t == null ) {
+							share( joined, rs, select );
+						}
+						else {
+							joined.completeExceptionally( t );
+						}
+					} ) );
+				}
+			} ) );
+			return joined;
+		}
+
+		private void share(
+				CompletableFuture<ResultSet> joined,
+				ResultSet resultSet,
+				Supplier<CompletionStage<ResultSet>> select) {
+			final ResultSet copy = copyOf( resultSet );
+			if ( copy != null ) {
+				sharedCount.increment();
+				joined.complete( copy );
+			}
+			else {
+				select.get().whenComplete( (rs, t) -> complete( joined, rs, t ) );
+			}
+		}
+	}
+
+	private static final class Key {
+		private final String sql;
+		private final Object[] parameters;
+		private final Object tenantId;
+		private final int resultRowLimit;
+		private final int hashCode;
+
+		Key(String sql, Object[] parameters, Object tenantId, int resultRowLimit) {
+			this.sql = sql;
+			// the connection replaces null values in the array it's given
+			this.parameters = parameters.clone();
+			this.tenantId = tenantId;
+			this.resultRowLimit = resultRowLimit;
+			this.hashCode = Objects.hash( sql, Arrays.deepHashCode( parameters ), tenantId, resultRowLimit );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return resultRowLimit == key.resultRowLimit
+					&& sql.equals( key.sql )
+					&& Arrays.deepEquals( parameters, key.parameters )
+					&& Objects.equals( tenantId, key.tenantId );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
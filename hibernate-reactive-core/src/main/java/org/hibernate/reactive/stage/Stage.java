@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.stage;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
@@ -31,17 +32,22 @@
 import org.hibernate.query.Page;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.common.Identifier;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.Statistics;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
@@ -200,6 +206,45 @@ interface AbstractQuery {
 		 */
 		CompletionStage<List<R>> getResultList();
 
+		/**
+		 * Asynchronously execute this query, returning the given page of
+		 * results using keyset pagination, together with the page which
+		 * comes after it. The query must return a single entity, and the
+		 * results are ordered by the {@linkplain KeysetPage#getKeyDefinition()
+		 * key}, instead of any ordering specified by the query itself.
+		 *
+		 * @param page the page of results to return
+		 *
+		 * @see KeysetPage
+		 */
+		@Incubating
+		CompletionStage<KeysetResultList<R>> getKeysetResultList(KeysetPage<R> page);
+
+		/**
+		 * Asynchronously execute this query, writing the query results as
+		 * a JSON array of objects, one for each row, to {@link Buffer}s of
+		 * the given number of rows, which are passed to the given consumer
+		 * as the rows are read. The query must return a projection of basic
+		 * values, and the names of the properties of each object are the
+		 * aliases of the selected values, or the names of the selected
+		 * attributes.
+		 * <p>
+		 * The JSON is written directly from the values read from the
+		 * database, without instantiating the results of the query, and
+		 * before any {@link jakarta.persistence.AttributeConverter} is
+		 * applied. When a {@linkplain #setFetchSize(int) fetch size} is
+		 * set and the query is executed in a transaction, the result is
+		 * read and written in chunks, and so the memory used does not
+		 * grow with the size of the result.
+		 *
+		 * @param rowsPerBuffer the number of rows written to each buffer
+		 * @param consumer the consumer of the buffers, called on the event loop
+		 *
+		 * @return the number of rows written
+		 */
+		@Incubating
+		CompletionStage<Long> getResultJson(int rowsPerBuffer, Consumer<Buffer> consumer);
+
 		/**
 		 * Set the read-only/modifiable mode for entities and proxies
 		 * loaded by this Query. This setting overrides the default setting
@@ -384,6 +429,70 @@ default SelectionQuery<R> setLockMode(String alias, LockModeType lockModeType) {
 		 */
 		SelectionQuery<R> enableFetchProfile(String profileName);
 
+		/**
+		 * Limit the number of rows this query may return, overriding the
+		 * {@linkplain org.hibernate.reactive.provider.Settings#QUERY_RESULT_ROW_LIMIT
+		 * default limit}. If the query returns more rows, it fails as soon as
+		 * the first row over the limit is received from the database. The
+		 * limit only applies to the query itself, and not to the statements
+		 * loading the associations of its results.
+		 * <p>
+		 * Unlike {@link #setMaxResults(int)}, this does not affect the SQL
+		 * executed: it guards against queries which unexpectedly return
+		 * many more rows than intended.
+		 *
+		 * @param resultRowLimit the maximum number of rows, or {@code 0} if
+		 *                       the number of rows is not limited
+		 */
+		@Incubating
+		SelectionQuery<R> setResultRowLimit(int resultRowLimit);
+
+		/**
+		 * Specify whether the entities loaded by this query should be
+		 * evicted from the session after the query completes, as if by
+		 * {@link Session#detach(Object)}. The query is executed in
+		 * {@linkplain #setReadOnly(boolean) read-only mode}, so that no
+		 * snapshot of the state of the entities is taken.
+		 * <p>
+		 * The entities are still added to the persistence context while
+		 * the result of the query is processed, and are only evicted
+		 * before the result is returned. So this option doesn't reduce
+		 * the memory needed to execute the query, but the session doesn't
+		 * hold on to the entities afterward, and a session executing many
+		 * such queries doesn't grow.
+		 * <p>
+		 * Any lazy association must be fetched by the query itself, since
+		 * it can't be fetched after the entities are evicted. Entities
+		 * which were already associated with the session are not evicted,
+		 * and the eviction doesn't cascade to the associated entities.
+		 * <p>
+		 * Disabling this option restores the read-only mode the query had
+		 * before it was enabled.
+		 *
+		 * @param evictAfterQuery {@code true} if the entities should be evicted
+		 */
+		@Incubating
+		SelectionQuery<R> setEvictAfterQuery(boolean evictAfterQuery);
+
+		/**
+		 * Set the number of rows to read from the database at a time. When
+		 * the query is executed in a transaction, its result is read in
+		 * chunks of the given size using a database cursor, and the rows of
+		 * each chunk are processed before the next chunk is read, so that
+		 * the rows of the whole result are never held in memory at once.
+		 *
+		 * @param fetchSize the number of rows in each chunk
+		 */
+		@Incubating
+		SelectionQuery<R> setFetchSize(int fetchSize);
+
+		/**
+		 * @return the fetch size, or {@code null} if not set
+		 *
+		 * @see #setFetchSize(int)
+		 */
+		Integer getFetchSize();
+
 		@Override
 		SelectionQuery<R> setParameter(int parameter, Object argument);
 
@@ -910,6 +1019,29 @@ default CompletionStage<Void> lock(Object entity, LockModeType lockModeType) {
 		 */
 		<E,T> CompletionStage<T> fetch(E entity, Attribute<E,T> field);
 
+		/**
+		 * Fetch a lazy association or property of each of the given entities,
+		 * identified by a JPA {@link Attribute attribute metamodel}.
+		 * <p>
+		 * Uninitialized collections are fetched using a single query, or a
+		 * few queries, passing the keys of all the owning entities as an
+		 * array or in an {@code in} list, and uninitialized proxies are
+		 * fetched together by identifier, even if batch fetching is not
+		 * enabled for the association.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(authors, Author_.books).thenAccept(v -> print(authors.get(0).getBooks().size()))}
+		 * </pre>
+		 *
+		 * @param entities managed entities
+		 * @param field the attribute to fetch
+		 *
+		 * @see #fetch(Object)
+		 * @see #fetch(Object, Attribute)
+		 */
+		@Incubating
+		<E,T> CompletionStage<Void> fetchAll(Collection<E> entities, Attribute<E,T> field);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading,
 		 * and unwrap the underlying entity implementation from any proxy.
@@ -1864,6 +1996,31 @@ default CompletionStage<Void> refresh(Object entity, LockModeType lockModeType)
 		 */
 		CompletionStage<Void> upsert(String entityName, Object entity);
 
+		/**
+		 * Use a SQL {@code merge into} statement, or the equivalent
+		 * {@code insert ... on conflict} statement of the database,
+		 * to perform an upsert of multiple rows. The statements are
+		 * sent to the database in batches, when batching is enabled.
+		 *
+		 * @param entities detached entity instances
+		 *
+		 * @see org.hibernate.StatelessSession#upsert(Object)
+		 */
+		CompletionStage<Void> upsert(Object... entities);
+
+		/**
+		 * Use a SQL {@code merge into} statement, or the equivalent
+		 * {@code insert ... on conflict} statement of the database,
+		 * to perform an upsert of multiple rows, using the specified
+		 * batch size.
+		 *
+		 * @param batchSize the batch size
+		 * @param entities detached entity instances
+		 *
+		 * @see org.hibernate.StatelessSession#upsert(Object)
+		 */
+		CompletionStage<Void> upsert(int batchSize, Object... entities);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading.
 		 *
@@ -2296,6 +2453,34 @@ default <T> CompletionStage<T> withStatelessTransaction(Function<StatelessSessio
 		 */
 		Statistics getStatistics();
 
+		/**
+		 * Obtain the {@link ReactiveStatistics} object exposing metrics
+		 * specific to reactive database access, like the time spent
+		 * waiting for connections and for the database.
+		 */
+		@Incubating
+		ReactiveStatistics getReactiveStatistics();
+
+		/**
+		 * Obtain a {@link CompletionStage} which completes when the
+		 * connection pool is ready to serve the first requests without
+		 * delay, after it has opened its initial connections. If they
+		 * can't be opened, it completes when a later attempt succeeds.
+		 *
+		 * @see org.hibernate.reactive.provider.Settings#POOL_WARM_UP_SIZE
+		 */
+		@Incubating
+		CompletionStage<Void> whenReady();
+
+		/**
+		 * Determine if the connection pool is ready to serve the first
+		 * requests without delay, for a readiness check.
+		 *
+		 * @see #whenReady()
+		 */
+		@Incubating
+		boolean isReady();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
@@ -7,6 +7,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -15,10 +16,13 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Order;
 import org.hibernate.query.Page;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.query.ReactiveQuery;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.Stage.Query;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
@@ -26,6 +30,8 @@
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Parameter;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
 public class StageQueryImpl<R> implements Query<R> {
 	private final ReactiveQuery<R> delegate;
 
@@ -43,6 +49,19 @@ public CompletionStage<List<R>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public CompletionStage<KeysetResultList<R>> getKeysetResultList(KeysetPage<R> page) {
+		return delegate.reactiveKeysetResultList( page );
+	}
+
+	@Override
+	public CompletionStage<Long> getResultJson(int rowsPerBuffer, Consumer<Buffer> consumer) {
+		return delegate.reactiveResultJson( rowsPerBuffer, buffer -> {
+			consumer.accept( buffer );
+			return voidFuture();
+		} );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -84,6 +103,29 @@ public Stage.SelectionQuery<R> enableFetchProfile(String profileName) {
 		return this;
 	}
 
+	@Override
+	public Stage.SelectionQuery<R> setResultRowLimit(int resultRowLimit) {
+		delegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public Stage.SelectionQuery<R> setEvictAfterQuery(boolean evictAfterQuery) {
+		delegate.setEvictAfterQuery( evictAfterQuery );
+		return this;
+	}
+
+	@Override
+	public Stage.SelectionQuery<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
+	@Override
+	public Integer getFetchSize() {
+		return delegate.getFetchSize();
+	}
+
 	@Override
 	public CompletionStage<R> getSingleResult() {
 		return delegate.getReactiveSingleResult();
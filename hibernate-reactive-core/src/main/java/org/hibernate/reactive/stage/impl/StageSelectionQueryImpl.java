@@ -8,6 +8,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -16,11 +17,14 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Order;
 import org.hibernate.query.Page;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
 import org.hibernate.reactive.stage.Stage.SelectionQuery;
 
+import io.vertx.core.buffer.Buffer;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
@@ -28,6 +32,8 @@
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Parameter;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
 public class StageSelectionQueryImpl<T> implements SelectionQuery<T> {
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final ReactiveSelectionQuery<T> delegate;
@@ -46,6 +52,19 @@ public CompletionStage<List<T>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public CompletionStage<KeysetResultList<T>> getKeysetResultList(KeysetPage<T> page) {
+		return delegate.reactiveKeysetResultList( page );
+	}
+
+	@Override
+	public CompletionStage<Long> getResultJson(int rowsPerBuffer, Consumer<Buffer> consumer) {
+		return delegate.reactiveResultJson( rowsPerBuffer, buffer -> {
+			consumer.accept( buffer );
+			return voidFuture();
+		} );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -75,6 +94,29 @@ public SelectionQuery<T> enableFetchProfile(String profileName) {
 		return this;
 	}
 
+	@Override
+	public SelectionQuery<T> setResultRowLimit(int resultRowLimit) {
+		delegate.setResultRowLimit( resultRowLimit );
+		return this;
+	}
+
+	@Override
+	public SelectionQuery<T> setEvictAfterQuery(boolean evictAfterQuery) {
+		delegate.setEvictAfterQuery( evictAfterQuery );
+		return this;
+	}
+
+	@Override
+	public SelectionQuery<T> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
+	@Override
+	public Integer getFetchSize() {
+		return delegate.getFetchSize();
+	}
+
 	@Override
 	public CompletionStage<T> getSingleResult() {
 		return delegate.getReactiveSingleResult();
@@ -21,6 +21,7 @@
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.Statistics;
 
@@ -263,6 +264,21 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public ReactiveStatistics getReactiveStatistics() {
+		return delegate.getServiceRegistry().getService( ReactiveStatistics.class );
+	}
+
+	@Override
+	public CompletionStage<Void> whenReady() {
+		return connectionPool.getReadyFuture();
+	}
+
+	@Override
+	public boolean isReady() {
+		return connectionPool.isReady();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
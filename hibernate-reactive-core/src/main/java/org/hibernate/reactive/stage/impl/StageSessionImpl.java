@@ -39,6 +39,7 @@
 import org.hibernate.reactive.stage.Stage.SelectionQuery;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -76,6 +77,11 @@ public <E,T> CompletionStage<T> fetch(E entity, Attribute<E,T> field) {
 		return delegate.reactiveFetch( entity, field );
 	}
 
+	@Override
+	public <E,T> CompletionStage<Void> fetchAll(Collection<E> entities, Attribute<E,T> field) {
+		return delegate.reactiveFetchAll( entities, field );
+	}
+
 	@Override
 	public <T> CompletionStage<T> unproxy(T association) {
 		return delegate.reactiveFetch( association, true );
@@ -181,7 +187,7 @@ public <T> CompletionStage<T> merge(T entity) {
 
 	@Override
 	public final CompletionStage<Void> merge(Object... entity) {
-		return applyToAll( delegate::reactiveMerge, entity );
+		return delegate.reactiveMergeAll( entity );
 	}
 
 	@Override
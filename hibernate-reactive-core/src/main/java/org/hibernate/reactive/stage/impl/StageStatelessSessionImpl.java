@@ -127,6 +127,16 @@ public CompletionStage<Void> upsert(String entityName, Object entity) {
 		return delegate.reactiveUpsert( entityName, entity );
 	}
 
+	@Override
+	public CompletionStage<Void> upsert(Object... entities) {
+		return delegate.reactiveUpsertAll( entities );
+	}
+
+	@Override
+	public CompletionStage<Void> upsert(int batchSize, Object... entities) {
+		return delegate.reactiveUpsertAll( batchSize, entities );
+	}
+
 	@Override
 	public <T> CompletionStage<T> fetch(T association) {
 		return delegate.reactiveFetch( association, false );
@@ -0,0 +1,154 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * Metrics about the costs specific to reactive database access, which
+ * complement the {@linkplain org.hibernate.stat.Statistics statistics}
+ * collected by Hibernate ORM. They help to decide whether the database,
+ * the connection pool, or the number of event loops is the bottleneck:
+ * <ul>
+ * <li>the time spent waiting for a connection from the pool,
+ * <li>the time spent waiting for the database to execute statements,
+ *     which, subtracted from the
+ *     {@linkplain org.hibernate.stat.Statistics#getQueryExecutionTotalTime()
+ *     query execution time} measured by Hibernate ORM, gives the time spent
+ *     processing the results,
+ * <li>the duration of flushes and the number of entities they examined,
+ * <li>the number and size of batches of statements,
+ * <li>the number of blocks of identifiers allocated by generators,
+ * <li>the number of times the processing of an operation moved from a
+ *     Vert.x context to another,
+ * <li>the hits and misses of the query plan caches of the event loops, and
+ * <li>the number of chunks of rows read from database cursors.
+ * </ul>
+ * <p>
+ * The metrics are collected for the whole factory, and attributed to the
+ * event loop thread which completed each operation.
+ * <p>
+ * The statistics are only collected when
+ * {@value org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS} is enabled.
+ *
+ * @see org.hibernate.reactive.mutiny.Mutiny.SessionFactory#getReactiveStatistics()
+ * @see org.hibernate.reactive.stage.Stage.SessionFactory#getReactiveStatistics()
+ */
+@Incubating
+public interface ReactiveStatistics extends Service {
+
+	/**
+	 * @return {@code true} if the statistics are being collected
+	 */
+	boolean isStatisticsEnabled();
+
+	/**
+	 * @return the number of connections obtained from the pool
+	 */
+	long getConnectionAcquisitionCount();
+
+	/**
+	 * @return the total time spent waiting for a connection from the pool
+	 */
+	Duration getConnectionAcquisitionTime();
+
+	/**
+	 * @return the number of statements sent to the database, counting
+	 *         a batch as a single statement
+	 */
+	long getStatementCount();
+
+	/**
+	 * @return the total time between sending a statement to the database
+	 *         and receiving its complete result
+	 */
+	Duration getStatementTime();
+
+	/**
+	 * @return the number of times a session has been flushed
+	 */
+	long getFlushCount();
+
+	/**
+	 * @return the total duration of flushes, including the execution
+	 *         of the statements
+	 */
+	Duration getFlushTime();
+
+	/**
+	 * @return the total number of entities managed by the sessions
+	 *         when they were flushed
+	 */
+	long getFlushedEntityCount();
+
+	/**
+	 * @return the number of batches of statements sent to the database
+	 */
+	long getBatchCount();
+
+	/**
+	 * @return the total number of statements sent in batches
+	 */
+	long getBatchedStatementCount();
+
+	/**
+	 * @return the number of blocks of identifiers allocated by
+	 *         {@link org.hibernate.reactive.id.impl.BlockingIdentifierGenerator}s,
+	 *         each one requiring a round trip to the database
+	 */
+	long getIdentifierBlockRefillCount();
+
+	/**
+	 * @return the number of times the processing of an operation was
+	 *         moved from a Vert.x context to another
+	 */
+	long getContextSwitchCount();
+
+	/**
+	 * @return the number of query plans and HQL interpretations found in
+	 *         the cache of an event loop
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE
+	 */
+	long getEventLoopQueryPlanCacheHitCount();
+
+	/**
+	 * @return the number of query plans and HQL interpretations not found
+	 *         in the cache of an event loop, and obtained from the query
+	 *         plan cache shared by the event loops
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE
+	 */
+	long getEventLoopQueryPlanCacheMissCount();
+
+	/**
+	 * @return the number of chunks of rows read from database cursors,
+	 *         each one requiring a round trip to the database
+	 *
+	 * @see org.hibernate.reactive.mutiny.Mutiny.SelectionQuery#setFetchSize(int)
+	 */
+	long getCursorReadCount();
+
+	/**
+	 * @return the statistics of each event loop thread, by thread name
+	 */
+	Map<String, ReactiveStatistics> getEventLoopStatistics();
+
+	/**
+	 * @return the value of each metric, by name, for export to a
+	 *         monitoring system, with durations in nanoseconds
+	 */
+	Map<String, Long> toMap();
+
+	/**
+	 * Reset all the metrics.
+	 */
+	void clear();
+}
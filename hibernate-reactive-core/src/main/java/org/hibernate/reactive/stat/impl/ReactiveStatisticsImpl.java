@@ -0,0 +1,451 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.query.internal.EventLoopQueryPlanCache;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+import org.hibernate.service.ServiceRegistry;
+
+import io.vertx.core.Context;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The default implementation of {@link ReactiveStatistics}, which
+ * also collects the metrics.
+ * <p>
+ * Each operation which records a duration obtains its start time from
+ * {@link #startTime()}, which doesn't read the clock when the statistics
+ * are disabled.
+ * <p>
+ * The hits and misses of the query plan caches of the event loops are
+ * counted by the {@link EventLoopQueryPlanCache} itself, and only read
+ * from it here.
+ */
+public class ReactiveStatisticsImpl implements ReactiveStatistics {
+
+	/**
+	 * An instance which doesn't collect anything
+	 */
+	public static final ReactiveStatisticsImpl DISABLED = new ReactiveStatisticsImpl( false );
+
+	private enum Metric {
+		CONNECTION_ACQUISITION_COUNT( "connectionAcquisitionCount" ),
+		CONNECTION_ACQUISITION_TIME( "connectionAcquisitionTime" ),
+		STATEMENT_COUNT( "statementCount" ),
+		STATEMENT_TIME( "statementTime" ),
+		FLUSH_COUNT( "flushCount" ),
+		FLUSH_TIME( "flushTime" ),
+		FLUSHED_ENTITY_COUNT( "flushedEntityCount" ),
+		BATCH_COUNT( "batchCount" ),
+		BATCHED_STATEMENT_COUNT( "batchedStatementCount" ),
+		IDENTIFIER_BLOCK_REFILL_COUNT( "identifierBlockRefillCount" ),
+		CONTEXT_SWITCH_COUNT( "contextSwitchCount" ),
+		EVENT_LOOP_QUERY_PLAN_CACHE_HIT_COUNT( "eventLoopQueryPlanCacheHitCount" ),
+		EVENT_LOOP_QUERY_PLAN_CACHE_MISS_COUNT( "eventLoopQueryPlanCacheMissCount" ),
+		CURSOR_READ_COUNT( "cursorReadCount" );
+
+		private final String metricName;
+
+		Metric(String metricName) {
+			this.metricName = metricName;
+		}
+	}
+
+	private final boolean enabled;
+	private final Counters total = new Counters();
+	private final ConcurrentMap<String, Counters> eventLoops = new ConcurrentHashMap<>();
+	private volatile EventLoopQueryPlanCache eventLoopQueryPlanCache;
+
+	public ReactiveStatisticsImpl(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return the statistics of the given registry, or {@link #DISABLED}
+	 *         if there are none
+	 */
+	public static ReactiveStatisticsImpl of(ServiceRegistry serviceRegistry) {
+		final ReactiveStatistics statistics = serviceRegistry.getService( ReactiveStatistics.class );
+		return statistics instanceof ReactiveStatisticsImpl
+				? (ReactiveStatisticsImpl) statistics
+				: DISABLED;
+	}
+
+	/**
+	 * @return the statistics of the factory of the given session
+	 */
+	public static ReactiveStatisticsImpl of(SharedSessionContractImplementor session) {
+		return of( session.getFactory().getServiceRegistry() );
+	}
+
+	/**
+	 * @return the start time of an operation, to pass to the method which
+	 *         records its completion
+	 */
+	public long startTime() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	public void connectionAcquired(long startTime) {
+		if ( enabled ) {
+			record( Metric.CONNECTION_ACQUISITION_COUNT, 1 );
+			record( Metric.CONNECTION_ACQUISITION_TIME, System.nanoTime() - startTime );
+		}
+	}
+
+	public void statementExecuted(long startTime) {
+		if ( enabled ) {
+			record( Metric.STATEMENT_COUNT, 1 );
+			record( Metric.STATEMENT_TIME, System.nanoTime() - startTime );
+		}
+	}
+
+	/**
+	 * @param batchSize the number of statements in the batch
+	 */
+	public void batchExecuted(long startTime, int batchSize) {
+		if ( enabled ) {
+			statementExecuted( startTime );
+			record( Metric.BATCH_COUNT, 1 );
+			record( Metric.BATCHED_STATEMENT_COUNT, batchSize );
+		}
+	}
+
+	/**
+	 * @param entityCount the number of entities managed by the session
+	 */
+	public void flushed(long startTime, int entityCount) {
+		if ( enabled ) {
+			record( Metric.FLUSH_COUNT, 1 );
+			record( Metric.FLUSH_TIME, System.nanoTime() - startTime );
+			record( Metric.FLUSHED_ENTITY_COUNT, entityCount );
+		}
+	}
+
+	public void identifierBlockRefilled() {
+		if ( enabled ) {
+			record( Metric.IDENTIFIER_BLOCK_REFILL_COUNT, 1 );
+		}
+	}
+
+	public void contextSwitched() {
+		if ( enabled ) {
+			record( Metric.CONTEXT_SWITCH_COUNT, 1 );
+		}
+	}
+
+	/**
+	 * @param cache the query plan cache of the event loops, which counts
+	 *        its own hits and misses
+	 */
+	public void eventLoopQueryPlanCacheCreated(EventLoopQueryPlanCache cache) {
+		if ( enabled ) {
+			eventLoopQueryPlanCache = cache;
+		}
+	}
+
+	public void cursorRead() {
+		if ( enabled ) {
+			record( Metric.CURSOR_READ_COUNT, 1 );
+		}
+	}
+
+	private void record(Metric metric, long value) {
+		total.add( metric, value );
+		if ( Context.isOnEventLoopThread() ) {
+			eventLoops.computeIfAbsent( Thread.currentThread().getName(), name -> new Counters() )
+					.add( metric, value );
+		}
+	}
+
+	@Override
+	public boolean isStatisticsEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public long getConnectionAcquisitionCount() {
+		return total.get( Metric.CONNECTION_ACQUISITION_COUNT );
+	}
+
+	@Override
+	public Duration getConnectionAcquisitionTime() {
+		return Duration.ofNanos( total.get( Metric.CONNECTION_ACQUISITION_TIME ) );
+	}
+
+	@Override
+	public long getStatementCount() {
+		return total.get( Metric.STATEMENT_COUNT );
+	}
+
+	@Override
+	public Duration getStatementTime() {
+		return Duration.ofNanos( total.get( Metric.STATEMENT_TIME ) );
+	}
+
+	@Override
+	public long getFlushCount() {
+		return total.get( Metric.FLUSH_COUNT );
+	}
+
+	@Override
+	public Duration getFlushTime() {
+		return Duration.ofNanos( total.get( Metric.FLUSH_TIME ) );
+	}
+
+	@Override
+	public long getFlushedEntityCount() {
+		return total.get( Metric.FLUSHED_ENTITY_COUNT );
+	}
+
+	@Override
+	public long getBatchCount() {
+		return total.get( Metric.BATCH_COUNT );
+	}
+
+	@Override
+	public long getBatchedStatementCount() {
+		return total.get( Metric.BATCHED_STATEMENT_COUNT );
+	}
+
+	@Override
+	public long getIdentifierBlockRefillCount() {
+		return total.get( Metric.IDENTIFIER_BLOCK_REFILL_COUNT );
+	}
+
+	@Override
+	public long getContextSwitchCount() {
+		return total.get( Metric.CONTEXT_SWITCH_COUNT );
+	}
+
+	@Override
+	public long getEventLoopQueryPlanCacheHitCount() {
+		return get( Metric.EVENT_LOOP_QUERY_PLAN_CACHE_HIT_COUNT );
+	}
+
+	@Override
+	public long getEventLoopQueryPlanCacheMissCount() {
+		return get( Metric.EVENT_LOOP_QUERY_PLAN_CACHE_MISS_COUNT );
+	}
+
+	@Override
+	public long getCursorReadCount() {
+		return total.get( Metric.CURSOR_READ_COUNT );
+	}
+
+	@Override
+	public Map<String, ReactiveStatistics> getEventLoopStatistics() {
+		final Map<String, ReactiveStatistics> statistics = new TreeMap<>();
+		final EventLoopQueryPlanCache cache = eventLoopQueryPlanCache;
+		if ( cache != null ) {
+			for ( String name : cache.getThreadNames() ) {
+				eventLoops.computeIfAbsent( name, n -> new Counters() );
+			}
+		}
+		eventLoops.forEach( (name, counters) -> statistics.put( name, new EventLoopStatistics( name, counters, cache ) ) );
+		return unmodifiableMap( statistics );
+	}
+
+	@Override
+	public Map<String, Long> toMap() {
+		return Counters.toMap( this::get );
+	}
+
+	@Override
+	public void clear() {
+		total.clear();
+		eventLoops.clear();
+		final EventLoopQueryPlanCache cache = eventLoopQueryPlanCache;
+		if ( cache != null ) {
+			cache.resetCounts( null );
+		}
+	}
+
+	private long get(Metric metric) {
+		final EventLoopQueryPlanCache cache = eventLoopQueryPlanCache;
+		switch ( metric ) {
+			case EVENT_LOOP_QUERY_PLAN_CACHE_HIT_COUNT:
+				return cache == null ? 0 : cache.getHitCount();
+			case EVENT_LOOP_QUERY_PLAN_CACHE_MISS_COUNT:
+				return cache == null ? 0 : cache.getMissCount();
+			default:
+				return total.get( metric );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReactiveStatistics" + toMap();
+	}
+
+	private static final class Counters {
+		private final LongAdder[] values = new LongAdder[Metric.values().length];
+
+		Counters() {
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = new LongAdder();
+			}
+		}
+
+		void add(Metric metric, long value) {
+			values[metric.ordinal()].add( value );
+		}
+
+		long get(Metric metric) {
+			return values[metric.ordinal()].sum();
+		}
+
+		void clear() {
+			for ( LongAdder value : values ) {
+				value.reset();
+			}
+		}
+
+		static Map<String, Long> toMap(ToLongFunction<Metric> values) {
+			final Map<String, Long> map = new LinkedHashMap<>();
+			for ( Metric metric : Metric.values() ) {
+				map.put( metric.metricName, values.applyAsLong( metric ) );
+			}
+			return unmodifiableMap( map );
+		}
+	}
+
+	/**
+	 * A read-only view of the statistics of an event loop thread
+	 */
+	private static final class EventLoopStatistics implements ReactiveStatistics {
+		private final String threadName;
+		private final Counters counters;
+		private final EventLoopQueryPlanCache cache;
+
+		EventLoopStatistics(String threadName, Counters counters, EventLoopQueryPlanCache cache) {
+			this.threadName = threadName;
+			this.counters = counters;
+			this.cache = cache;
+		}
+
+		@Override
+		public boolean isStatisticsEnabled() {
+			return true;
+		}
+
+		@Override
+		public long getConnectionAcquisitionCount() {
+			return counters.get( Metric.CONNECTION_ACQUISITION_COUNT );
+		}
+
+		@Override
+		public Duration getConnectionAcquisitionTime() {
+			return Duration.ofNanos( counters.get( Metric.CONNECTION_ACQUISITION_TIME ) );
+		}
+
+		@Override
+		public long getStatementCount() {
+			return counters.get( Metric.STATEMENT_COUNT );
+		}
+
+		@Override
+		public Duration getStatementTime() {
+			return Duration.ofNanos( counters.get( Metric.STATEMENT_TIME ) );
+		}
+
+		@Override
+		public long getFlushCount() {
+			return counters.get( Metric.FLUSH_COUNT );
+		}
+
+		@Override
+		public Duration getFlushTime() {
+			return Duration.ofNanos( counters.get( Metric.FLUSH_TIME ) );
+		}
+
+		@Override
+		public long getFlushedEntityCount() {
+			return counters.get( Metric.FLUSHED_ENTITY_COUNT );
+		}
+
+		@Override
+		public long getBatchCount() {
+			return counters.get( Metric.BATCH_COUNT );
+		}
+
+		@Override
+		public long getBatchedStatementCount() {
+			return counters.get( Metric.BATCHED_STATEMENT_COUNT );
+		}
+
+		@Override
+		public long getIdentifierBlockRefillCount() {
+			return counters.get( Metric.IDENTIFIER_BLOCK_REFILL_COUNT );
+		}
+
+		@Override
+		public long getContextSwitchCount() {
+			return counters.get( Metric.CONTEXT_SWITCH_COUNT );
+		}
+
+		@Override
+		public long getEventLoopQueryPlanCacheHitCount() {
+			return get( Metric.EVENT_LOOP_QUERY_PLAN_CACHE_HIT_COUNT );
+		}
+
+		@Override
+		public long getEventLoopQueryPlanCacheMissCount() {
+			return get( Metric.EVENT_LOOP_QUERY_PLAN_CACHE_MISS_COUNT );
+		}
+
+		@Override
+		public long getCursorReadCount() {
+			return counters.get( Metric.CURSOR_READ_COUNT );
+		}
+
+		@Override
+		public Map<String, ReactiveStatistics> getEventLoopStatistics() {
+			return emptyMap();
+		}
+
+		@Override
+		public Map<String, Long> toMap() {
+			return Counters.toMap( this::get );
+		}
+
+		@Override
+		public void clear() {
+			counters.clear();
+			if ( cache != null ) {
+				cache.resetCounts( threadName );
+			}
+		}
+
+		private long get(Metric metric) {
+			switch ( metric ) {
+				case EVENT_LOOP_QUERY_PLAN_CACHE_HIT_COUNT:
+					return cache == null ? 0 : cache.getHitCount( threadName );
+				case EVENT_LOOP_QUERY_PLAN_CACHE_MISS_COUNT:
+					return cache == null ? 0 : cache.getMissCount( threadName );
+				default:
+					return counters.get( metric );
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "ReactiveStatistics" + toMap();
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * {@link ReactiveStatistics}, which are collected when
+ * {@value AvailableSettings#GENERATE_STATISTICS} is enabled.
+ */
+public final class ReactiveStatisticsInitiator implements StandardServiceInitiator<ReactiveStatistics> {
+
+	public static final ReactiveStatisticsInitiator INSTANCE = new ReactiveStatisticsInitiator();
+
+	private ReactiveStatisticsInitiator() {
+	}
+
+	@Override
+	public ReactiveStatistics initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		return ConfigurationHelper.getBoolean( AvailableSettings.GENERATE_STATISTICS, configurationValues, false )
+				? new ReactiveStatisticsImpl( true )
+				: ReactiveStatisticsImpl.DISABLED;
+	}
+
+	@Override
+	public Class<ReactiveStatistics> getServiceInitiated() {
+		return ReactiveStatistics.class;
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Exposes metrics about the costs specific to Hibernate Reactive via
+ * {@link org.hibernate.reactive.stat.ReactiveStatistics}.
+ */
+package org.hibernate.reactive.stat;
@@ -13,6 +13,8 @@
 
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.isCompletedSuccessfully;
+
 /**
  * Copy of com.ibm.asyncutil.iteration.AyncTrampoline from com.ibm.async:asyncutil:0.1.0
  * without all the methods and imports we don't need for Hibernate Reactive.
@@ -103,6 +105,7 @@ private static <T> CompletionStage<T> trampoline(
 			return trampolineInternal;
 		}
 
+		@SuppressWarnings("unchecked")
 		private void unroll(
 				final T completed, final Thread previousThread, final PassBack<T> previousPassBack) {
 			final Thread currentThread = Thread.currentThread();
@@ -118,7 +121,14 @@ private void unroll(
 				do {
 					try {
 						if ( this.shouldContinue.test( c ) ) {
-							this.f.apply( c ).whenComplete( (next, ex) -> {
+							final CompletionStage<T> stage = this.f.apply( c );
+							if ( isCompletedSuccessfully( stage ) ) {
+								// The stage is already complete: keep iterating in this loop
+								// without registering a callback
+								currentPassBack.item = ( (CompletableFuture<T>) stage ).getNow( null );
+								continue;
+							}
+							stage.whenComplete( (next, ex) -> {
 								if ( ex != null ) {
 									completeExceptionally( ex );
 								}
@@ -212,7 +222,9 @@ public static <T> CompletionStage<T> asyncWhile(
 	 */
 	public static CompletionStage<Void> asyncWhile(
 			final Supplier<? extends CompletionStage<Boolean>> fn) {
-		return AsyncTrampoline.asyncWhile( b -> b, b -> fn.get(), true )
-				.thenCompose( CompletionStages::voidFuture );
+		final CompletionStage<Boolean> loop = AsyncTrampoline.asyncWhile( b -> b, b -> fn.get(), true );
+		return isCompletedSuccessfully( loop )
+				? CompletionStages.voidFuture()
+				: loop.thenCompose( CompletionStages::voidFuture );
 	}
 }
@@ -90,6 +90,29 @@ public static <T> CompletionStage<T> completedFuture(T value) {
 		return CompletableFuture.completedFuture( value );
 	}
 
+	/**
+	 * @return true if the stage is a {@link CompletableFuture} that has already
+	 * completed normally, and its result can be read without waiting or
+	 * registering a callback
+	 */
+	public static boolean isCompletedSuccessfully(CompletionStage<?> stage) {
+		if ( stage instanceof CompletableFuture ) {
+			final CompletableFuture<?> future = (CompletableFuture<?>) stage;
+			return future.isDone() && !future.isCompletedExceptionally();
+		}
+		return false;
+	}
+
+	/**
+	 * A stage which completes with {@code true} once the given stage completes:
+	 * {@link #TRUE} itself, if the given stage is already completed
+	 */
+	private static CompletionStage<Boolean> continueAfter(CompletionStage<?> stage) {
+		return isCompletedSuccessfully( stage )
+				? TRUE
+				: stage.thenCompose( CompletionStages::alwaysContinue );
+	}
+
 	public static <T> CompletionStage<T> failedFuture(Throwable t) {
 		CompletableFuture<T> ret = new CompletableFuture<>();
 		ret.completeExceptionally( t );
@@ -306,8 +329,7 @@ public CompletionStage<Boolean> next() {
 			if ( hasNext() ) {
 				final T entry = currentEntry;
 				final int index = currentIndex;
-				return consumer.apply( entry, index )
-						.thenCompose( CompletionStages::alwaysContinue );
+				return continueAfter( consumer.apply( entry, index ) );
 			}
 			return FALSE;
 		}
@@ -406,8 +428,7 @@ public static CompletionStage<Void> whileLoop(int start, int end, IntPredicate f
 	 */
 	public static CompletionStage<Void> loop(int start, int end, IntPredicate filter, IntFunction<CompletionStage<?>> consumer) {
 		if ( start < end ) {
-			final ArrayLoop loop = new ArrayLoop( start, end, filter, index -> consumer
-					.apply( index ).thenCompose( CompletionStages::alwaysContinue ) );
+			final ArrayLoop loop = new ArrayLoop( start, end, filter, index -> continueAfter( consumer.apply( index ) ) );
 			return asyncWhile( loop::next );
 		}
 		return voidFuture();
@@ -438,7 +459,7 @@ public WhileLoop(Supplier<Boolean> whileCondition, Supplier<CompletionStage<?>>
 
 		public CompletionStage<Boolean> next() {
 			if ( whileCondition.get() ) {
-				return loopSupplier.get().thenCompose( ignore -> TRUE );
+				return continueAfter( loopSupplier.get() );
 			}
 			return FALSE;
 		}
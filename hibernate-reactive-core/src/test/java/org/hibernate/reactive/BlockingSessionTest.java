@@ -0,0 +1,157 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.blocking.Blocking;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Timeout(value = 10, timeUnit = MINUTES)
+public class BlockingSessionTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class );
+	}
+
+	private static Blocking.SessionFactory getBlockingSessionFactory() {
+		return factoryManager.getHibernateSessionFactory().unwrap( Blocking.SessionFactory.class );
+	}
+
+	/**
+	 * Run the blocking code on a thread which isn't a Vert.x event loop
+	 */
+	private static <T> CompletionStage<T> blocking(Supplier<T> work) {
+		return CompletableFuture.supplyAsync( work );
+	}
+
+	@Test
+	public void testPersistAndFind(VertxTestContext context) {
+		GuineaPig pig = new GuineaPig( 5, "Aloi" );
+		test( context, blocking( () -> {
+			getBlockingSessionFactory().withTransaction( session -> {
+				session.persist( pig );
+				return null;
+			} );
+			return getBlockingSessionFactory().withSession( session -> session.find( GuineaPig.class, pig.getId() ) );
+		} ).thenAccept( found -> assertThat( found ).isEqualTo( pig ) ) );
+	}
+
+	@Test
+	public void testQueries(VertxTestContext context) {
+		test( context, blocking( () -> {
+			try ( Blocking.Session session = getBlockingSessionFactory().openSession() ) {
+				session.withTransaction( tx -> {
+					session.persist( new GuineaPig( 1, "Aloi" ), new GuineaPig( 2, "Bibi" ) );
+					return null;
+				} );
+				int updated = session.withTransaction( tx -> session
+						.createMutationQuery( "update GuineaPig set name = upper(name)" )
+						.executeUpdate() );
+				assertThat( updated ).isEqualTo( 2 );
+				session.clear();
+				return session
+						.createSelectionQuery( "select name from GuineaPig order by id", String.class )
+						.getResultList();
+			}
+		} ).thenAccept( names -> assertThat( names ).containsExactly( "ALOI", "BIBI" ) ) );
+	}
+
+	@Test
+	public void testRollback(VertxTestContext context) {
+		GuineaPig pig = new GuineaPig( 7, "Aloi" );
+		test( context, blocking( () -> {
+			IllegalStateException exception = assertThrows( IllegalStateException.class, () -> getBlockingSessionFactory()
+					.withTransaction( session -> {
+						session.persist( pig );
+						session.flush();
+						throw new IllegalStateException( "Rollback" );
+					} ) );
+			assertThat( exception ).hasMessage( "Rollback" );
+			return getBlockingSessionFactory().withSession( session -> session.find( GuineaPig.class, pig.getId() ) );
+		} ).thenAccept( found -> assertThat( found ).isNull() ) );
+	}
+
+	@Test
+	public void testBlockingOnEventLoop(VertxTestContext context) {
+		// Stage.SessionFactory#withSession runs the work on the event loop
+		test( context, getSessionFactory().withSession( s -> {
+			assertThrows( IllegalStateException.class, () -> getBlockingSessionFactory().openSession() );
+			return CompletableFuture.completedFuture( null );
+		} ) );
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "BlockingPig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return id + ": " + name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			GuineaPig guineaPig = (GuineaPig) o;
+			return Objects.equals( name, guineaPig.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
 
@@ -180,6 +181,39 @@ public void testLoopOnCollectionWithFilter(VertxTestContext context) {
 		).thenAccept( v -> assertThat( looped ).containsExactly( "c" ) ) );
 	}
 
+	@Test
+	public void testLongLoopOnCompletedStages(VertxTestContext context) {
+		final int count = 100_000;
+		final int[] sum = { 0 };
+		final CompletionStage<Void> loop = loop( 0, count, index -> {
+			sum[0] += index;
+			return voidFuture();
+		} );
+		// The loop doesn't need to wait for anything, and it must not exhaust the stack
+		assertThat( loop.toCompletableFuture().isDone() ).isTrue();
+		test( context, loop.thenAccept( v -> assertThat( sum[0] ).isEqualTo( IntStream.range( 0, count ).sum() ) ) );
+	}
+
+	@Test
+	public void testLoopOnCompletedAndPendingStages(VertxTestContext context) {
+		final List<CompletableFuture<Void>> pending = new ArrayList<>();
+		final CompletionStage<Void> loop = loop( 0, entries.length, index -> {
+			looped.add( entries[index] );
+			if ( index % 2 == 0 ) {
+				return voidFuture();
+			}
+			final CompletableFuture<Void> future = new CompletableFuture<>();
+			pending.add( future );
+			return future;
+		} );
+		// The loop stops at the first stage which isn't completed
+		assertThat( looped ).containsExactly( "a", "b" );
+		while ( !loop.toCompletableFuture().isDone() ) {
+			pending.remove( 0 ).complete( null );
+		}
+		test( context, loop.thenAccept( v -> assertThat( looped ).containsExactly( entries ) ) );
+	}
+
 	private static Iterator<Object> iterator(Object[] entries) {
 		return asList( entries ).iterator();
 	}
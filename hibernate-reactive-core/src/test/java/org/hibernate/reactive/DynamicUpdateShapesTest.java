@@ -0,0 +1,127 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveInsertCoordinatorStandard;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinator;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinatorStandard;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dynamic inserts and updates writing different sets of columns
+ * are cached separately, and the same set of columns is written
+ * by the same statement.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class DynamicUpdateShapesTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@Test
+	public void testDifferentDirtyAttributes(VertxTestContext context) {
+		Book[] books = {
+				new Book( 1, "Snow Crash", null, null ),
+				new Book( 2, "Neuromancer", "Gibson", null ),
+				new Book( 3, "Hyperion", "Simmons", 1989 ),
+				new Book( 4, "Dune", null, 1965 ),
+				new Book( 5, "Solaris", null, null )
+		};
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( (Object[]) books ) )
+				// 5 inserts with 4 different sets of columns
+				.invoke( () -> assertThat( insertCacheSize() ).isEqualTo( 4 ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Book.class, 1, 2, 3, 4, 5 )
+						.invoke( found -> {
+							found.get( 0 ).author = "Stephenson";
+							found.get( 1 ).publicationYear = 1984;
+							found.get( 2 ).title = "The Fall of Hyperion";
+							found.get( 2 ).publicationYear = 1990;
+							found.get( 3 ).author = "Herbert";
+							found.get( 4 ).author = "Lem";
+						} ) ) )
+				// 5 updates with 3 different sets of columns
+				.invoke( () -> assertThat( updateCacheSize() ).isEqualTo( 3 ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Book order by id", Book.class )
+						.getResultList() ) )
+				.invoke( found -> assertThat( found )
+						.extracting( book -> book.title + ", " + book.author + ", " + book.publicationYear )
+						.containsExactly(
+								"Snow Crash, Stephenson, null",
+								"Neuromancer, Gibson, 1984",
+								"The Fall of Hyperion, Simmons, 1990",
+								"Dune, Herbert, 1965",
+								"Solaris, Lem, null"
+						) )
+		);
+	}
+
+	private static AbstractEntityPersister persister() {
+		return (AbstractEntityPersister) factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+	}
+
+	private static int insertCacheSize() {
+		return ( (ReactiveInsertCoordinatorStandard) persister().getInsertCoordinator() )
+				.getDynamicInsertGroups().size();
+	}
+
+	private static int updateCacheSize() {
+		// The scoped coordinators share the cache of the entity
+		return ( (ReactiveUpdateCoordinatorStandard) ( (ReactiveUpdateCoordinator) persister().getUpdateCoordinator() )
+				.makeScopedCoordinator() )
+				.getDynamicUpdateGroups().size();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "DUS_BOOK")
+	@DynamicInsert
+	@DynamicUpdate
+	static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		String author;
+
+		Integer publicationYear;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, String author, Integer publicationYear) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publicationYear = publicationYear;
+		}
+	}
+}
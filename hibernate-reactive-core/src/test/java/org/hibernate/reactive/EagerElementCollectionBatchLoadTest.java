@@ -0,0 +1,163 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that the EAGER element collections of the entities returned
+ * by a query are loaded by a single additional query, and not by a
+ * query for each entity.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class EagerElementCollectionBatchLoadTest extends BaseReactiveTest {
+
+	private static final int OWNERS = 20;
+	private static final int PHONES_PER_OWNER = 2;
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Person.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( EagerElementCollectionBatchLoadTest::isSelectQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSelectQuery(String s) {
+		return s.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		List<Person> people = new ArrayList<>();
+		for ( int i = 0; i < OWNERS; i++ ) {
+			Person person = new Person( i, "Person " + i );
+			for ( int j = 0; j < PHONES_PER_OWNER; j++ ) {
+				person.phones.add( "555-" + i + "-" + j );
+			}
+			people.add( person );
+		}
+		// a person without phones
+		people.add( new Person( OWNERS, "Person " + OWNERS ) );
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( people.toArray() ) ) );
+	}
+
+	@Test
+	public void testQuery(VertxTestContext context) {
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Person order by id", Person.class ).getResultList() )
+				.invoke( people -> {
+					// the query, and one query for all the collections
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+					assertThat( people ).hasSize( OWNERS + 1 );
+					for ( Person person : people ) {
+						assertThat( Hibernate.isInitialized( person.phones ) ).isTrue();
+						assertThat( person.phones ).hasSize( person.id < OWNERS ? PHONES_PER_OWNER : 0 );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryWithMoreOwnersThanBatchSize(VertxTestContext context) {
+		final int batchSize = ReactiveAbstractCollectionPersister.MULTI_KEY_BATCH_SIZE;
+		final int owners = batchSize * 2 + 1;
+		List<Person> people = new ArrayList<>();
+		for ( int i = 0; i < owners; i++ ) {
+			Person person = new Person( 1000 + i, "Person " + i );
+			person.phones.add( "555-" + i );
+			people.add( person );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( people.toArray() ) )
+				.invoke( sqlTracker::clear )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Person where id >= 1000 order by id", Person.class )
+						.getResultList() ) )
+				.invoke( result -> {
+					// the query, and one query for each batch of collections
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 + 3 );
+					assertThat( result ).hasSize( owners );
+					for ( Person person : result ) {
+						assertThat( Hibernate.isInitialized( person.phones ) ).isTrue();
+						assertThat( person.phones ).containsExactly( "555-" + ( person.id - 1000 ) );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testFind(VertxTestContext context) {
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.find( Person.class, 1 ) )
+				.invoke( person -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+					assertThat( Hibernate.isInitialized( person.phones ) ).isTrue();
+					assertThat( person.phones ).containsExactlyInAnyOrder( "555-1-0", "555-1-1" );
+				} )
+		);
+	}
+
+	@Entity(name = "Person")
+	@Table(name = "EECBL_PERSON")
+	static class Person {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		@CollectionTable(name = "EECBL_PHONE")
+		List<String> phones = new ArrayList<>();
+
+		Person() {
+		}
+
+		Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
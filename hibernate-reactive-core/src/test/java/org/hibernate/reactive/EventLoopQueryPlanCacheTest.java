@@ -0,0 +1,117 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the query plan cache of each event loop enabled by
+ * {@link Settings#QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE}.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class EventLoopQueryPlanCacheTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Settings.QUERY_PLAN_CACHE_EVENT_LOOP_MAX_SIZE, "16" );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Item( 1, "First" ), new Item( 2, "Second" ) ) ) );
+	}
+
+	@Test
+	public void testRepeatedQuery(VertxTestContext context) {
+		final String hql = "from Item where name = :name";
+		// Both sessions run on the same event loop, which caches the plans
+		final Context vertxContext = testOnContext.vertx().getOrCreateContext();
+		final Executor onContext = command -> vertxContext.runOnContext( v -> command.run() );
+		test( context, Uni.createFrom().voidItem()
+				.emitOn( onContext )
+				.chain( () -> findByName( hql, "First" ) )
+				.invoke( statistics()::clear )
+				.emitOn( onContext )
+				.chain( () -> findByName( hql, "Second" ) )
+				.invoke( item -> {
+					assertThat( item.id ).isEqualTo( 2 );
+					// the HQL interpretation and the plan of the query
+					assertThat( statistics().getEventLoopQueryPlanCacheHitCount() ).isEqualTo( 2L );
+					assertThat( statistics().getEventLoopQueryPlanCacheMissCount() ).isZero();
+					assertThat( statistics().toMap() ).containsEntry( "eventLoopQueryPlanCacheHitCount", 2L );
+				} )
+		);
+	}
+
+	private static Uni<Item> findByName(String hql, String name) {
+		return getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( hql, Item.class )
+						.setParameter( "name", name )
+						.getSingleResult() );
+	}
+
+	@Test
+	public void testSameResultAsSharedCache(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select name from Item order by id", String.class )
+						.getResultList()
+						.chain( first -> s.createSelectionQuery( "select name from Item order by id", String.class )
+								.getResultList()
+								.invoke( second -> assertThat( second ).isEqualTo( first ) ) ) )
+				.invoke( () -> assertThat( statistics().getEventLoopQueryPlanCacheHitCount() ).isPositive() )
+		);
+	}
+
+	private static ReactiveStatistics statistics() {
+		return getMutinySessionFactory().getReactiveStatistics();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "ELQPC_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
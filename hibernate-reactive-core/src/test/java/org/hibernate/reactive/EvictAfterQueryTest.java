@@ -0,0 +1,180 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that the entities returned by a query with
+ * {@code setEvictAfterQuery(true)} are evicted from the session.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class EvictAfterQueryTest extends BaseReactiveTest {
+
+	private static final int COUNT = 10;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class, Category.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		Category category = new Category( 1, "Category" );
+		Object[] items = new Object[COUNT];
+		for ( int i = 0; i < items.length; i++ ) {
+			items[i] = new Item( i, "Item " + i, category );
+		}
+		test( context, getMutinySessionFactory().withTransaction( s -> s
+				.persist( category )
+				.chain( () -> s.persistAll( items ) ) ) );
+	}
+
+	@Test
+	public void testEvictAfterQuery(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item order by id", Item.class )
+						.setEvictAfterQuery( true )
+						.getResultList()
+						.invoke( items -> {
+							assertThat( items ).hasSize( COUNT );
+							for ( int i = 0; i < COUNT; i++ ) {
+								assertThat( items.get( i ).name ).isEqualTo( "Item " + i );
+								assertThat( s.contains( items.get( i ) ) ).isFalse();
+							}
+						} ) )
+		);
+	}
+
+	@Test
+	public void testQueryWithoutEviction(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item", Item.class )
+						.getResultList()
+						.invoke( items -> items.forEach( item -> assertThat( s.contains( item ) ).isTrue() ) ) )
+		);
+	}
+
+	@Test
+	public void testManagedEntityNotEvicted(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Item.class, 0 )
+						.thenCompose( managed -> s.createSelectionQuery( "from Item order by id", Item.class )
+								.setEvictAfterQuery( true )
+								.getResultList()
+								.thenAccept( items -> {
+									assertThat( items.get( 0 ) ).isSameAs( managed );
+									assertThat( s.contains( managed ) ).isTrue();
+									assertThat( s.isReadOnly( managed ) ).isFalse();
+									for ( int i = 1; i < COUNT; i++ ) {
+										assertThat( s.contains( items.get( i ) ) ).isFalse();
+									}
+								} ) ) )
+		);
+	}
+
+	@Test
+	public void testManagedAssociatedEntityNotEvicted(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Category.class, 1 )
+						.thenCompose( managed -> s.createSelectionQuery( "from Item order by id", Item.class )
+								.setEvictAfterQuery( true )
+								.getResultList()
+								.thenAccept( items -> {
+									// the detachment of the items doesn't cascade to their category
+									assertThat( s.contains( managed ) ).isTrue();
+									for ( Item item : items ) {
+										assertThat( item.category ).isSameAs( managed );
+										assertThat( s.contains( item ) ).isFalse();
+									}
+								} ) ) )
+		);
+	}
+
+	@Test
+	public void testEvictionDisabled(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item", Item.class )
+						.setEvictAfterQuery( true )
+						.setEvictAfterQuery( false )
+						.getResultList()
+						.thenAccept( items -> {
+							assertThat( items ).hasSize( COUNT );
+							for ( Item item : items ) {
+								assertThat( s.contains( item ) ).isTrue();
+								assertThat( s.isReadOnly( item ) ).isFalse();
+							}
+						} ) )
+		);
+	}
+
+	@Test
+	public void testEvictAfterNativeQuery(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createNativeQuery( "select * from DQ_ITEM", Item.class )
+						.setEvictAfterQuery( true )
+						.getResultList()
+						.thenAccept( items -> {
+							assertThat( items ).hasSize( COUNT );
+							items.forEach( item -> assertThat( s.contains( item ) ).isFalse() );
+						} ) )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "DQ_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.DETACH)
+		Category category;
+
+		Item() {
+		}
+
+		Item(Integer id, String name, Category category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+
+	@Entity(name = "Category")
+	@Table(name = "DQ_CATEGORY")
+	static class Category {
+		@Id
+		Integer id;
+
+		String name;
+
+		Category() {
+		}
+
+		Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.Duration;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.testing.FakeSqlClientPool;
+import org.hibernate.reactive.testing.FakeSqlClientPool.Rows;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that a factory can run on a {@link FakeSqlClientPool},
+ * without a database.
+ * <p>
+ * We don't extend {@link BaseReactiveTest}, because it starts a
+ * database container.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FakeSqlClientPoolTest {
+
+	private static final FakeSqlClientPool pool = new FakeSqlClientPool();
+
+	private static SessionFactory sessionFactory;
+
+	@BeforeAll
+	public static void setupSessionFactory() {
+		Configuration configuration = new Configuration();
+		configuration.addAnnotatedClass( Item.class );
+		configuration.setProperty( Settings.DIALECT, PostgreSQLDialect.class.getName() );
+		StandardServiceRegistryBuilder builder = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() );
+		pool.registerService( builder );
+		sessionFactory = configuration.buildSessionFactory( builder.build() );
+	}
+
+	@AfterAll
+	public static void closeSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@BeforeEach
+	public void clearPool() {
+		pool.clear();
+	}
+
+	@AfterEach
+	public void resetLatency() {
+		pool.setLatency( Duration.ZERO );
+	}
+
+	@Test
+	public void testFlushIsRecorded() {
+		stageFactory()
+				.withTransaction( s -> s.persist( new Item( 1, "One" ), new Item( 2, "Two" ) ) )
+				.toCompletableFuture().join();
+
+		assertThat( pool.getExecutedStatements() ).hasSize( 4 );
+		assertThat( pool.getExecutedStatements().get( 0 ) ).isEqualTo( "begin" );
+		assertThat( pool.getExecutedStatements().get( 1 ) ).startsWith( "insert into FSP_ITEM" );
+		assertThat( pool.getExecutedStatements().get( 2 ) ).startsWith( "insert into FSP_ITEM" );
+		assertThat( pool.getExecutedStatements().get( 3 ) ).isEqualTo( "commit" );
+	}
+
+	@Test
+	public void testLoadFromCannedRows() {
+		pool.onSelect( sql -> sql.contains( "FSP_ITEM" ), Rows.of( "id", "name" ).row( 5, "Five" ) );
+
+		Item item = stageFactory()
+				.withSession( s -> s.find( Item.class, 5 ) )
+				.toCompletableFuture().join();
+
+		assertThat( item.id ).isEqualTo( 5 );
+		assertThat( item.name ).isEqualTo( "Five" );
+		assertThat( pool.getExecutedStatements() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testQueryWithoutCannedRows() {
+		assertThat( stageFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item", Item.class ).getResultList() )
+				.toCompletableFuture().join()
+		).isEmpty();
+	}
+
+	@Test
+	public void testLatency() {
+		final Duration latency = Duration.ofMillis( 100 );
+		pool.setLatency( latency );
+
+		final long start = System.nanoTime();
+		stageFactory()
+				.withTransaction( s -> s.persist( new Item( 1, "One" ) ) )
+				.toCompletableFuture().join();
+		final Duration elapsed = Duration.ofNanos( System.nanoTime() - start );
+
+		// getting the connection, begin, insert and commit
+		assertThat( elapsed ).isGreaterThanOrEqualTo( latency.multipliedBy( 4 ) );
+	}
+
+	private static Stage.SessionFactory stageFactory() {
+		return sessionFactory.unwrap( Stage.SessionFactory.class );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "FSP_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.Attribute;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that {@code fetchAll()} initializes a lazy association
+ * of many entities with a single query.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FetchAllTest extends BaseReactiveTest {
+
+	private static final int AUTHORS = 10;
+	private static final int BOOKS_PER_AUTHOR = 3;
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Author.class, Book.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( FetchAllTest::isSelectQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSelectQuery(String s) {
+		return s.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		return getSessionFactory()
+				.withTransaction( s -> s.createMutationQuery( "delete from Book" ).executeUpdate()
+						.thenCompose( v -> s.createMutationQuery( "delete from Author" ).executeUpdate() )
+						.thenCompose( CompletionStages::voidFuture ) );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		List<Author> authors = new ArrayList<>();
+		for ( int i = 0; i < AUTHORS; i++ ) {
+			Author author = new Author( i, "Author " + i );
+			for ( int j = 0; j < BOOKS_PER_AUTHOR; j++ ) {
+				int id = i * BOOKS_PER_AUTHOR + j;
+				author.books.add( new Book( id, "Book " + id, author ) );
+			}
+			authors.add( author );
+		}
+		// an author without books
+		authors.add( new Author( AUTHORS, "Author " + AUTHORS ) );
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( authors.toArray() ) ) );
+	}
+
+	@Test
+	public void testFetchAllCollections(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Author order by id", Author.class )
+						.getResultList()
+						.call( authors -> {
+							authors.forEach( author -> assertThat( Hibernate.isInitialized( author.books ) ).isFalse() );
+							sqlTracker.clear();
+							return s.fetchAll( authors, attribute( Author.class, "books" ) );
+						} ) )
+				.invoke( authors -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( authors ).hasSize( AUTHORS + 1 );
+					for ( Author author : authors ) {
+						assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+						assertThat( author.books ).hasSize( author.id < AUTHORS ? BOOKS_PER_AUTHOR : 0 );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testFetchAllProxies(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Book order by id", Book.class )
+						.getResultList()
+						.thenCompose( books -> {
+							books.forEach( book -> assertThat( Hibernate.isInitialized( book.author ) ).isFalse() );
+							sqlTracker.clear();
+							return s.fetchAll( books, attribute( Book.class, "author" ) )
+									.thenApply( v -> books );
+						} ) )
+				.thenAccept( books -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( books ).hasSize( AUTHORS * BOOKS_PER_AUTHOR );
+					for ( Book book : books ) {
+						assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+						Author author = (Author) Hibernate.unproxy( book.author );
+						assertThat( author.name ).isEqualTo( "Author " + book.id / BOOKS_PER_AUTHOR );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testFetchAllInitialized(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Author a left join fetch a.books", Author.class )
+						.getResultList()
+						.call( authors -> {
+							sqlTracker.clear();
+							return s.fetchAll( authors, attribute( Author.class, "books" ) );
+						} ) )
+				.invoke( authors -> {
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+					authors.forEach( author -> assertThat( Hibernate.isInitialized( author.books ) ).isTrue() );
+				} )
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> Attribute<E, ?> attribute(Class<E> type, String name) {
+		return (Attribute<E, ?>) getSessionFactory().getMetamodel().entity( type ).getAttribute( name );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "FA_AUTHOR")
+	static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.PERSIST)
+		List<Book> books = new ArrayList<>();
+
+		Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "FA_BOOK")
+	static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test that a query with a fetch size reads its result in chunks,
+ * one cursor read for each chunk, and still returns all the rows.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FetchSizeTest extends BaseReactiveTest {
+
+	private static final int COUNT = 23;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		Item[] items = new Item[COUNT];
+		for ( int i = 0; i < items.length; i++ ) {
+			items[i] = new Item( i, "Item " + i );
+		}
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( (Object[]) items ) ) );
+	}
+
+	@Test
+	public void testFetchSizeInTransaction(VertxTestContext context) {
+		final long cursorReads = cursorReads();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.createSelectionQuery( "from Item order by id", Item.class )
+						.setFetchSize( 5 )
+						.getResultList() )
+				.invoke( FetchSizeTest::assertAllItems )
+				// 23 rows in chunks of 5 rows
+				.invoke( () -> assertThat( cursorReads() - cursorReads ).isEqualTo( 5 ) )
+		);
+	}
+
+	@Test
+	public void testFetchSizeWithoutTransaction(VertxTestContext context) {
+		final long cursorReads = cursorReads();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item order by id", Item.class )
+						.setFetchSize( 5 )
+						.getResultList() )
+				.invoke( FetchSizeTest::assertAllItems )
+				// Without a transaction, the whole result is read at once
+				.invoke( () -> assertThat( cursorReads() - cursorReads ).isEqualTo( 0 ) )
+		);
+	}
+
+	@Test
+	public void testNativeQueryFetchSize(VertxTestContext context) {
+		final long cursorReads = cursorReads();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.createNativeQuery( "select * from FS_ITEM order by id", Item.class )
+						.setFetchSize( 7 )
+						.getResultList() )
+				.thenAccept( FetchSizeTest::assertAllItems )
+				// 23 rows in chunks of 7 rows
+				.thenAccept( v -> assertThat( cursorReads() - cursorReads ).isEqualTo( 4 ) )
+		);
+	}
+
+	@Test
+	public void testFetchSizeWithResultRowLimit(VertxTestContext context) {
+		test( context, assertThrown( PersistenceException.class, getMutinySessionFactory()
+				.withTransaction( s -> s.createSelectionQuery( "from Item", Item.class )
+						.setFetchSize( 5 )
+						.setResultRowLimit( 12 )
+						.getResultList() ) )
+				.invoke( e -> assertThat( e ).hasStackTraceContaining( "HR000087" ) )
+		);
+	}
+
+	private static long cursorReads() {
+		return getMutinySessionFactory().getReactiveStatistics().getCursorReadCount();
+	}
+
+	private static void assertAllItems(List<Item> items) {
+		assertThat( items ).hasSize( COUNT );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertThat( items.get( i ).id ).isEqualTo( i );
+			assertThat( items.get( i ).name ).isEqualTo( "Item " + i );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "FS_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test {@code find(Class, Object...)} with enough ids to require
+ * more than one query on the databases with a limit on the number
+ * of parameters in a statement.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FindByIdsTest extends BaseReactiveTest {
+
+	private static final int COUNT = 2500;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Test
+	public void testFindManyIds(VertxTestContext context) {
+		Item[] items = new Item[COUNT];
+		for ( int i = 0; i < COUNT; i++ ) {
+			items[i] = new Item( i * 2, "Item " + i );
+		}
+		// every other id doesn't exist
+		Integer[] ids = new Integer[COUNT * 2];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = ids.length - i - 1;
+		}
+
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertAll( 100, (Object[]) items ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Item.class, (Object[]) ids ) ) )
+				.invoke( found -> {
+					assertThat( found ).hasSize( ids.length );
+					for ( int i = 0; i < ids.length; i++ ) {
+						if ( ids[i] % 2 == 0 ) {
+							assertThat( found.get( i ).id ).isEqualTo( ids[i] );
+						}
+						else {
+							assertThat( found.get( i ) ).isNull();
+						}
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "FBI_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the units of work executed with {@link Settings#STATELESS_GROUP_COMMIT_SIZE}
+ * enabled succeed, or fail, independently of each other, and can be nested.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class GroupCommitTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Event.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.STATELESS_GROUP_COMMIT_SIZE, "4" );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "2" );
+		return configuration;
+	}
+
+	@Test
+	public void testIndependentUnitsOfWork(VertxTestContext context) {
+		List<Uni<Boolean>> units = new ArrayList<>();
+		for ( int i = 1; i <= 10; i++ ) {
+			Event event = new Event( i, "Event " + i );
+			units.add( getMutinySessionFactory()
+					.withStatelessTransaction( (s, tx) -> {
+						if ( event.id % 5 == 0 ) {
+							// Fails with a constraint violation, after a successful insert
+							return s.insert( event )
+									.chain( () -> s.insert( new Event( event.id, event.name ) ) );
+						}
+						if ( event.id == 7 ) {
+							tx.markForRollback();
+						}
+						return s.insert( event );
+					} )
+					.onItemOrFailure().transform( (v, e) -> e == null ) );
+		}
+
+		test( context, Uni.combine().all().unis( units )
+				.with( Boolean.class, results -> results )
+				.invoke( results -> assertThat( results )
+						.containsExactly( true, true, true, true, false, true, true, true, true, false ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "select id from Event order by id", Integer.class )
+						.getResultList() ) )
+				.invoke( ids -> assertThat( ids ).containsExactly( 1, 2, 3, 4, 6, 8, 9 ) )
+		);
+	}
+
+	@Test
+	public void testNestedStatelessTransaction(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( (s, tx) -> s.insert( new Event( 11, "Outer" ) )
+						// Joins the transaction of the enclosing unit of work
+						.chain( () -> getMutinySessionFactory()
+								.withStatelessTransaction( (nested, nestedTx) -> {
+									assertThat( nested ).isSameAs( s );
+									assertThat( nestedTx ).isSameAs( tx );
+									return nested.insert( new Event( 12, "Nested" ) );
+								} ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "select id from Event order by id", Integer.class )
+						.getResultList() ) )
+				.invoke( ids -> assertThat( ids ).containsExactly( 11, 12 ) )
+		);
+	}
+
+	@Test
+	public void testFailedUnitOfWorkWithPendingBatch(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insert( new Event( 20, "Existing" ) ) )
+				.chain( () -> Uni.combine().all()
+						.unis(
+								// The batch of the first two events fails with a constraint
+								// violation, when the third event is added to a new batch
+								getMutinySessionFactory()
+										.withStatelessTransaction( s -> s.insertAll(
+												new Event( 21, "First" ),
+												new Event( 20, "Duplicate" ),
+												new Event( 22, "Queued" )
+										) )
+										.onItemOrFailure().transform( (v, e) -> e == null ),
+								// Runs in the same group, with the same insert statement
+								getMutinySessionFactory()
+										.withStatelessTransaction( s -> s.insertAll( new Event( 23, "Next" ) ) )
+										.onItemOrFailure().transform( (v, e) -> e == null )
+						)
+						.asTuple() )
+				.invoke( results -> {
+					assertThat( results.getItem1() ).isFalse();
+					assertThat( results.getItem2() ).isTrue();
+				} )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "select id from Event order by id", Integer.class )
+						.getResultList() ) )
+				// The event queued by the failed unit of work isn't inserted
+				.invoke( ids -> assertThat( ids ).containsExactly( 20, 23 ) )
+		);
+	}
+
+	@Entity(name = "Event")
+	@Table(name = "GC_EVENT")
+	static class Event {
+		@Id
+		Integer id;
+
+		String name;
+
+		Event() {
+		}
+
+		Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
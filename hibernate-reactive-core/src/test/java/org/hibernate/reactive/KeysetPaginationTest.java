@@ -0,0 +1,220 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.metamodel.model.domain.internal.MappingMetamodelImpl;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.query.Order.asc;
+import static org.hibernate.query.Order.desc;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test keyset pagination for HQL and criteria queries, and its
+ * failure for native queries.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class KeysetPaginationTest extends BaseReactiveTest {
+
+	private static final int COUNT = 25;
+
+	SingularAttribute<? super Book, ?> id;
+	SingularAttribute<? super Book, ?> author;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@BeforeEach
+	public void populateDB(VertxTestContext context) {
+		id = attribute( "id" );
+		author = attribute( "author" );
+		Book[] books = new Book[COUNT];
+		for ( int i = 0; i < COUNT; i++ ) {
+			// three books for each author
+			books[i] = new Book( i, "Book " + i, "Author " + ( i / 3 ) );
+		}
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( (Object[]) books ) ) );
+	}
+
+	@Test
+	public void testHqlPagesById(VertxTestContext context) {
+		List<Integer> ids = new ArrayList<>();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> allPages( s, "from Book where id >= :min", KeysetPage.first( 10, asc( id ) ), ids ) )
+				.invoke( pages -> {
+					assertThat( pages ).isEqualTo( 2 );
+					assertThat( ids ).hasSize( COUNT - 5 );
+					for ( int i = 0; i < ids.size(); i++ ) {
+						assertThat( ids.get( i ) ).isEqualTo( i + 5 );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testHqlPagesByCompositeKeyDescending(VertxTestContext context) {
+		List<Integer> ids = new ArrayList<>();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> allPages( s, "from Book where id >= :min", KeysetPage.first( 4, desc( author ), desc( id ) ), ids ) )
+				.invoke( pages -> {
+					assertThat( pages ).isEqualTo( 5 );
+					assertThat( ids ).hasSize( COUNT - 5 );
+					for ( int i = 0; i < ids.size(); i++ ) {
+						// "Author 8" (with only one book) comes first
+						assertThat( ids.get( i ) ).isEqualTo( COUNT - 1 - i );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testCriteriaNextPage(VertxTestContext context) {
+		CriteriaBuilder builder = getSessionFactory().getCriteriaBuilder();
+		CriteriaQuery<Book> query = builder.createQuery( Book.class );
+		Root<Book> root = query.from( Book.class );
+		query.where( builder.like( root.get( "author" ), "Author 1%" ) );
+
+		test( context, getSessionFactory().withSession( s -> s
+				.createQuery( query )
+				.getKeysetResultList( KeysetPage.first( 2, asc( id ) ) )
+				.thenCompose( first -> {
+					assertThat( first.getResultList() ).extracting( book -> book.id ).containsExactly( 3, 4 );
+					assertThat( first.getNextPage().getKey() ).containsExactly( 4 );
+					return s.createQuery( query ).getKeysetResultList( first.getNextPage() );
+				} )
+				.thenAccept( second -> {
+					assertThat( second.getResultList() ).extracting( book -> book.id ).containsExactly( 5 );
+					assertThat( second.isLastPage() ).isTrue();
+				} )
+		) );
+	}
+
+	@Test
+	public void testCriteriaUnnamedParameter(VertxTestContext context) {
+		CriteriaBuilder builder = getSessionFactory().getCriteriaBuilder();
+		CriteriaQuery<Book> query = builder.createQuery( Book.class );
+		Root<Book> root = query.from( Book.class );
+		ParameterExpression<String> pattern = builder.parameter( String.class );
+		query.where( builder.like( root.get( "author" ), pattern ) );
+
+		test( context, getSessionFactory().withSession( s -> s
+				.createQuery( query )
+				.setParameter( pattern, "Author 1%" )
+				.getKeysetResultList( KeysetPage.first( 2, asc( id ) ) )
+				.thenCompose( first -> {
+					assertThat( first.getResultList() ).extracting( book -> book.id ).containsExactly( 3, 4 );
+					return s.createQuery( query )
+							.setParameter( pattern, "Author 1%" )
+							.getKeysetResultList( first.getNextPage() );
+				} )
+				.thenAccept( second -> {
+					assertThat( second.getResultList() ).extracting( book -> book.id ).containsExactly( 5 );
+					assertThat( second.isLastPage() ).isTrue();
+				} )
+		) );
+	}
+
+	@Test
+	public void testLastResultIsProxy(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> {
+			Book reference = s.getReference( Book.class, 6 );
+			return s.createSelectionQuery( "from Book where id >= :min", Book.class )
+					.setParameter( "min", 5 )
+					.getKeysetResultList( KeysetPage.first( 2, asc( id ) ) )
+					.invoke( page -> {
+						assertThat( page.getResultList().get( 1 ) ).isSameAs( reference );
+						assertThat( page.getNextPage().getKey() ).containsExactly( 6 );
+					} );
+		} ) );
+	}
+
+	@Test
+	public void testNativeQueryNotSupported(VertxTestContext context) {
+		test( context, assertThrown( UnsupportedOperationException.class, getSessionFactory()
+				.withSession( s -> s
+						.createNativeQuery( "select * from KP_BOOK", Book.class )
+						.getKeysetResultList( KeysetPage.first( 2, asc( id ) ) ) ) )
+				.thenAccept( e -> assertThat( e ).hasMessageContaining( "HR000091" ) )
+		);
+	}
+
+	@Test
+	public void testOptionsCopied(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "from Book", Book.class )
+						.setReadOnly( true )
+						.setComment( "keyset" )
+						.getKeysetResultList( KeysetPage.first( 2, asc( id ) ) )
+						.invoke( page -> assertThat( page.getResultList() )
+								.hasSize( 2 )
+								.allMatch( s::isReadOnly ) ) )
+		);
+	}
+
+	private Uni<Integer> allPages(Mutiny.Session session, String hql, KeysetPage<Book> page, List<Integer> ids) {
+		return session.createSelectionQuery( hql, Book.class )
+				.setParameter( "min", 5 )
+				.getKeysetResultList( page )
+				.chain( result -> {
+					result.getResultList().forEach( book -> ids.add( book.id ) );
+					return result.isLastPage()
+							? Uni.createFrom().item( 1 )
+							: allPages( session, hql, result.getNextPage(), ids ).map( pages -> pages + 1 );
+				} );
+	}
+
+	private SingularAttribute<? super Book, ?> attribute(String name) {
+		MappingMetamodelImpl metamodel = (MappingMetamodelImpl) getSessionFactory().getMetamodel();
+		EntityDomainType<Book> bookType = metamodel.getJpaMetamodel().findEntityType( Book.class );
+		return bookType.findSingularAttribute( name );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "KP_BOOK")
+	static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		String author;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, String author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
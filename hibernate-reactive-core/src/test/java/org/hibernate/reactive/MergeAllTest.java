@@ -0,0 +1,142 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static jakarta.persistence.CascadeType.MERGE;
+import static jakarta.persistence.CascadeType.PERSIST;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that merging many detached entities loads them together,
+ * instead of executing a select for each one of them.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class MergeAllTest extends BaseReactiveTest {
+
+	private static final int OWNERS = 10;
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Owner.class, Pet.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( MergeAllTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	@Test
+	public void testMergeAllDetachedGraphs(VertxTestContext context) {
+		Owner[] owners = new Owner[OWNERS];
+		for ( int i = 0; i < OWNERS; i++ ) {
+			owners[i] = owner( i, "Owner " + i );
+		}
+		// The same graph, as deserialized from a request, with different names
+		Owner[] detached = new Owner[OWNERS];
+		for ( int i = 0; i < OWNERS; i++ ) {
+			detached[i] = owner( i, "Updated " + i );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( (Object[]) owners ) )
+				.invoke( () -> sqlTracker.clear() )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s.mergeAll( (Object[]) detached ) ) )
+				// Without loading the entities in batches there would be a select for each owner
+				.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).hasSizeLessThanOrEqualTo( 2 ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "select name from Pet order by id", String.class )
+						.getResultList() ) )
+				.invoke( names -> {
+					assertThat( names ).hasSize( OWNERS * 2 );
+					assertThat( names ).allMatch( name -> name.startsWith( "Updated " ) );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "select name from Owner order by id", String.class )
+						.getResultList() ) )
+				.invoke( names -> assertThat( names ).allMatch( name -> name.startsWith( "Updated " ) ) )
+		);
+	}
+
+	private static Owner owner(int id, String name) {
+		Owner owner = new Owner( id, name );
+		owner.pets.add( new Pet( id * 2, name + " first pet", owner ) );
+		owner.pets.add( new Pet( id * 2 + 1, name + " second pet", owner ) );
+		return owner;
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "MA_OWNER")
+	static class Owner {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToMany(mappedBy = "owner", cascade = { PERSIST, MERGE })
+		List<Pet> pets = new ArrayList<>();
+
+		Owner() {
+		}
+
+		Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "MA_PET")
+	static class Pet {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne
+		Owner owner;
+
+		Pet() {
+		}
+
+		Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that a Mutiny operation which doesn't need to access the
+ * database completes as soon as it's subscribed, on the same thread.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class MutinyCompletedStageTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Fruit.class );
+	}
+
+	@Test
+	public void testFindManagedEntity(VertxTestContext context) {
+		Fruit fruit = new Fruit( 1, "Banana" );
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( fruit ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Fruit.class, 1 )
+						.chain( found -> {
+							UniAssertSubscriber<Fruit> subscriber = s.find( Fruit.class, 1 )
+									.subscribe().withSubscriber( UniAssertSubscriber.create() );
+							// no need to wait, the entity is already in the session
+							assertThat( subscriber.assertCompleted().getItem() ).isSameAs( found );
+							return Uni.createFrom().voidItem();
+						} ) ) )
+		);
+	}
+
+	@Entity(name = "Fruit")
+	@Table(name = "MCS_FRUIT")
+	static class Fruit {
+		@Id
+		Integer id;
+
+		String name;
+
+		Fruit() {
+		}
+
+		Fruit(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+
+/**
+ * Test that the plan of a native mutation query is created once,
+ * and then reused for every execution of the same SQL.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class NativeQueryPlanCacheTest extends BaseReactiveTest {
+
+	private static final String UPDATE = "update NQP_ITEM set name = :name where id = :id";
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testNativeUpdatePlanIsReused(VertxTestContext context) {
+		final Statistics statistics = getMutinySessionFactory().getStatistics();
+		final long[] before = new long[2];
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Item( 1, "first" ), new Item( 2, "second" ), new Item( 3, "third" ) ) )
+				.invoke( () -> {
+					before[0] = statistics.getQueryPlanCacheMissCount();
+					before[1] = statistics.getQueryPlanCacheHitCount();
+				} )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> update( s, 1 )
+						.chain( () -> update( s, 2 ) )
+						.chain( () -> update( s, 3 ) ) ) )
+				.invoke( () -> {
+					assertThat( statistics.getQueryPlanCacheMissCount() - before[0] ).isEqualTo( 1L );
+					assertThat( statistics.getQueryPlanCacheHitCount() - before[1] ).isEqualTo( 2L );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "select name from Item order by id", String.class )
+						.getResultList() ) )
+				.invoke( names -> assertThat( names ).containsExactly( "updated 1", "updated 2", "updated 3" ) )
+		);
+	}
+
+	private static Uni<Integer> update(Mutiny.Session session, int id) {
+		return session.createNativeQuery( UPDATE )
+				.setParameter( "name", "updated " + id )
+				.setParameter( "id", id )
+				.executeUpdate();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "NQP_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
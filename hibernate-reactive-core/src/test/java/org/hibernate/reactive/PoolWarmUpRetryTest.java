@@ -0,0 +1,50 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that a warm-up of the connection pool which fails to prepare
+ * the {@link Settings#POOL_WARM_UP_STATEMENTS} is retried, and that
+ * the factory isn't ready until it succeeds.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PoolWarmUpRetryTest extends BaseReactiveTest {
+
+	private static final String TABLE = "PWUR_TABLE";
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.POOL_WARM_UP_SIZE, "1" );
+		// The table doesn't exist when the pool starts
+		configuration.setProperty( Settings.POOL_WARM_UP_STATEMENTS, "select id from " + TABLE );
+		return configuration;
+	}
+
+	@Test
+	public void testReadyAfterRetry(VertxTestContext context) {
+		assertThat( getMutinySessionFactory().isReady() ).isFalse();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.createNativeQuery( "create table " + TABLE + " (id integer)" ).executeUpdate() )
+				// The next attempt, after a delay, prepares the statement
+				.chain( () -> getMutinySessionFactory().whenReady() )
+				.invoke( () -> assertThat( getMutinySessionFactory().isReady() ).isTrue() )
+				.call( () -> getMutinySessionFactory()
+						.withTransaction( s -> s.createNativeQuery( "drop table " + TABLE ).executeUpdate() ) )
+		);
+	}
+}
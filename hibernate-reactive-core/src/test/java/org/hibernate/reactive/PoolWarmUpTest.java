@@ -0,0 +1,123 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the warm-up of the connection pool enabled by
+ * {@link Settings#POOL_WARM_UP_SIZE}.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PoolWarmUpTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.POOL_WARM_UP_SIZE, "2" );
+		// In seconds
+		configuration.setProperty( Settings.POOL_IDLE_TIMEOUT, "2" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, WarmUpPool.class.getName() );
+		return configuration;
+	}
+
+	@Test
+	public void testReadyAfterWarmUp(VertxTestContext context) {
+		test( context, pool().getReadyFuture()
+				// The connections are open before the first request
+				.thenAccept( v -> assertThat( pool().getPool().size() ).isGreaterThanOrEqualTo( 2 ) )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( s -> s.persist( new Item( 1, "First" ) ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( s -> s.find( Item.class, 1 ) ) )
+				.thenAccept( item -> assertThat( item.name ).isEqualTo( "First" ) )
+		);
+	}
+
+	@Test
+	public void testIdleConnectionsToppedUp(VertxTestContext context) {
+		test( context, getMutinySessionFactory().whenReady()
+				.invoke( () -> assertThat( getMutinySessionFactory().isReady() ).isTrue() )
+				.map( v -> WarmUpPool.OPENED.get() )
+				// Longer than the idle timeout and the period of the top-up
+				.onItem().delayIt().by( Duration.ofSeconds( 5 ) )
+				// The pool closed the idle connections, and new ones were opened
+				.invoke( opened -> assertThat( WarmUpPool.OPENED.get() ).isGreaterThan( opened ) )
+		);
+	}
+
+	private static WarmUpPool pool() {
+		return (WarmUpPool) factoryManager.getReactiveConnectionPool();
+	}
+
+	/**
+	 * Exposes the Vert.x pool, to check how many connections it has,
+	 * and counts the connections it opens
+	 */
+	public static class WarmUpPool extends DefaultSqlClientPool {
+		static final AtomicInteger OPENED = new AtomicInteger();
+
+		@Override
+		protected Pool getPool() {
+			return super.getPool();
+		}
+
+		@Override
+		protected Pool createPool(URI uri, SqlConnectOptions connectOptions, PoolOptions poolOptions, Vertx vertx) {
+			return super.createPool( uri, connectOptions, poolOptions, vertx )
+					.connectHandler( connection -> {
+						OPENED.incrementAndGet();
+						// Releases the new connection to the pool
+						connection.close();
+					} );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "PWU_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that the mutation operations created eagerly when
+ * {@link Settings#PREPARE_PERSISTERS} is enabled work as
+ * the ones created on first use.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PreparePersistersTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Author.class, Book.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.PREPARE_PERSISTERS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testPreparedAfterBoot() {
+		MappingMetamodel metamodel = (MappingMetamodel) getSessionFactory().getMetamodel();
+		List<String> unprepared = new ArrayList<>();
+		metamodel.forEachEntityDescriptor( persister -> {
+			if ( !( (ReactiveAbstractEntityPersister) persister ).getReactiveSingleIdEntityLoader().isDatabaseSnapshotPrepared() ) {
+				unprepared.add( persister.getEntityName() );
+			}
+		} );
+		metamodel.forEachCollectionDescriptor( persister -> {
+			if ( !( (ReactiveAbstractCollectionPersister) persister ).isMutationOperationsPrepared() ) {
+				unprepared.add( persister.getRole() );
+			}
+		} );
+		assertThat( unprepared ).isEmpty();
+	}
+
+	@Test
+	public void testCollectionUpdates(VertxTestContext context) {
+		Author author = new Author( 1, "Iain M. Banks" );
+		author.nicknames.add( "Iain" );
+		Book book = new Book( 2, "Feersum Endjinn", author );
+		author.books.add( book );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( author ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Author.class, author.id )
+						.call( found -> s.fetch( found.nicknames ) )
+						.invoke( found -> {
+							found.nicknames.remove( "Iain" );
+							found.nicknames.add( "Banks" );
+						} )
+				) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Author.class, author.id )
+						.call( found -> s.fetch( found.nicknames ) )
+						.call( found -> s.fetch( found.books ) )
+						.invoke( found -> {
+							assertThat( Hibernate.isInitialized( found.books ) ).isTrue();
+							assertThat( found.nicknames ).containsExactly( "Banks" );
+							assertThat( found.books ).hasSize( 1 );
+						} )
+				) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Author.class, author.id )
+						.call( s::remove )
+				) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Author.class, author.id ) ) )
+				.invoke( found -> assertThat( found ).isNull() )
+		);
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "PP_AUTHOR")
+	static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ElementCollection
+		Set<String> nicknames = new HashSet<>();
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+		List<Book> books = new ArrayList<>();
+
+		Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "PP_BOOK")
+	static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		Author author;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
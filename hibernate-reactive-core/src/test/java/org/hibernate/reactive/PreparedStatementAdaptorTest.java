@@ -0,0 +1,58 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.sql.Types;
+
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.sqlclient.data.NullValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the collection of parameter bindings by {@link PreparedStatementAdaptor}.
+ */
+public class PreparedStatementAdaptorTest {
+
+	@Test
+	public void testBindWithExpectedParameterCount() {
+		Object[] params = PreparedStatementAdaptor.bind( 3, statement -> {
+			statement.setString( 1, "one" );
+			statement.setInt( 2, 2 );
+			statement.setNull( 3, Types.BIGINT );
+		} );
+		assertThat( params ).containsExactly( "one", 2, NullValue.Long );
+	}
+
+	@Test
+	public void testBindMoreParametersThanExpected() {
+		Object[] params = PreparedStatementAdaptor.bind( 1, statement -> {
+			statement.setString( 1, "one" );
+			statement.setString( 2, "two" );
+			statement.setNull( 3, Types.VARCHAR );
+		} );
+		assertThat( params ).containsExactly( "one", "two", NullValue.String );
+	}
+
+	@Test
+	public void testBindFewerParametersThanExpected() {
+		Object[] params = PreparedStatementAdaptor.bind( 5, statement -> statement.setLong( 1, 1L ) );
+		assertThat( params ).containsExactly( 1L );
+	}
+
+	@Test
+	public void testBindWithoutExpectedParameterCount() {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				statement.setInt( i, i );
+			}
+		} );
+		assertThat( params ).containsExactly( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+	}
+}
@@ -0,0 +1,122 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the metrics collected by {@link ReactiveStatistics}.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ReactiveStatisticsTest extends BaseReactiveTest {
+
+	private static final int COUNT = 10;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "5" );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void clearStatistics() {
+		statistics().clear();
+	}
+
+	@Test
+	public void testStatistics(VertxTestContext context) {
+		Item[] items = new Item[COUNT];
+		for ( int i = 0; i < items.length; i++ ) {
+			items[i] = new Item( "Item " + i );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( (Object[]) items ) )
+				.invoke( () -> {
+					ReactiveStatistics statistics = statistics();
+					assertThat( statistics.isStatisticsEnabled() ).isTrue();
+					assertThat( statistics.getConnectionAcquisitionCount() ).isEqualTo( 1L );
+					assertThat( statistics.getFlushCount() ).isEqualTo( 1L );
+					assertThat( statistics.getFlushedEntityCount() ).isEqualTo( COUNT );
+					assertThat( statistics.getFlushTime() ).isPositive();
+					// the inserts are sent in two batches of 5
+					assertThat( statistics.getBatchCount() ).isEqualTo( 2L );
+					assertThat( statistics.getBatchedStatementCount() ).isEqualTo( COUNT );
+					// one block of 50 identifiers is enough
+					assertThat( statistics.getIdentifierBlockRefillCount() ).isEqualTo( 1L );
+					// the statements allocating the identifiers and the two batches
+					assertThat( statistics.getStatementCount() ).isGreaterThan( 2L );
+					assertThat( statistics.getStatementTime() ).isPositive();
+
+					assertThat( statistics.getEventLoopStatistics() ).isNotEmpty();
+					assertThat( statistics.getEventLoopStatistics().values().stream()
+										.mapToLong( ReactiveStatistics::getStatementCount )
+										.sum() ).isEqualTo( statistics.getStatementCount() );
+					assertThat( statistics.toMap() ).containsEntry( "batchCount", 2L );
+				} )
+		);
+	}
+
+	@Test
+	public void testClear(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item", Item.class ).getResultList() )
+				.invoke( () -> {
+					assertThat( statistics().getStatementCount() ).isEqualTo( 1L );
+					statistics().clear();
+					assertThat( statistics().getStatementCount() ).isZero();
+					assertThat( statistics().getEventLoopStatistics() ).isEmpty();
+				} )
+		);
+	}
+
+	private static ReactiveStatistics statistics() {
+		return getMutinySessionFactory().getReactiveStatistics();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "RS_ITEM")
+	static class Item {
+		@Id
+		@GeneratedValue(generator = "rs_item_seq")
+		@SequenceGenerator(name = "rs_item_seq", allocationSize = 50)
+		Long id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(String name) {
+			this.name = name;
+		}
+	}
+}
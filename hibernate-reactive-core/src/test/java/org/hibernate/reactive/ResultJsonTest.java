@@ -0,0 +1,290 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test writing the result of a query returning a projection as JSON.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ResultJsonTest extends BaseReactiveTest {
+
+	private static final int COUNT = 25;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		Book[] books = new Book[COUNT];
+		for ( int i = 0; i < books.length; i++ ) {
+			books[i] = new Book( i, "Book \"" + i + "\"", 100 + i, new Publisher( "Publisher " + i % 2, "City " + i % 3 ) );
+		}
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( (Object[]) books ) ) );
+	}
+
+	@Test
+	public void testProjection(VertxTestContext context) {
+		List<Buffer> buffers = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select b.title as title, b.pages as pages from Book b order by b.id", Object[].class )
+						.getResultJson( 10, buffers::add ) )
+				.thenAccept( rows -> {
+					assertThat( rows ).isEqualTo( COUNT );
+					// two full buffers, and the last one
+					assertThat( buffers ).hasSize( 3 );
+					assertBooks( parse( buffers ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testInstantiation(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select new " + Title.class.getName() + "(b.title, b.pages) from Book b order by b.id", Title.class )
+						.getResultJson( 7 )
+						.collect().asList() )
+				.invoke( buffers -> {
+					assertThat( buffers ).hasSize( 4 );
+					assertBooks( parse( buffers ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testCancellation(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select b.title as title, b.pages as pages from Book b order by b.id", Object[].class )
+						.getResultJson( 5 )
+						// the rest of the rows aren't read
+						.select().first( 2 )
+						.collect().asList() )
+				.invoke( buffers -> {
+					assertThat( buffers ).hasSize( 2 );
+					assertThat( buffers.get( 0 ).getByte( 0 ) ).isEqualTo( (byte) '[' );
+				} )
+		);
+	}
+
+	@Test
+	public void testCancellationStopsQueryBeforeClose(VertxTestContext context) {
+		final long cursorReads = cursorReads();
+		final long[] cursorReadsAtClose = { 0 };
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.createSelectionQuery( "select b.title as title, b.pages as pages from Book b order by b.id", Object[].class )
+						.setFetchSize( 5 )
+						.getResultJson( 5 )
+						.select().first( 2 )
+						.collect().asList() )
+				.invoke( buffers -> {
+					assertThat( buffers ).hasSize( 2 );
+					cursorReadsAtClose[0] = cursorReads();
+					// the rest of the rows aren't read
+					assertThat( cursorReadsAtClose[0] - cursorReads ).isLessThan( COUNT / 5 );
+				} )
+				// the query doesn't read more rows after the transaction has been committed
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Book.class, 0 ) ) )
+				.invoke( () -> assertThat( cursorReads() ).isEqualTo( cursorReadsAtClose[0] ) )
+		);
+	}
+
+	@Test
+	public void testSameValueTwice(VertxTestContext context) {
+		List<Buffer> buffers = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select b.title as title, b.title as name, b.pages as pages from Book b order by b.id", Object[].class )
+						.getResultJson( 100, buffers::add ) )
+				.thenAccept( rows -> {
+					List<JsonObject> books = parse( buffers );
+					assertThat( books ).hasSize( COUNT );
+					for ( int i = 0; i < COUNT; i++ ) {
+						assertThat( books.get( i ).fieldNames() ).containsExactly( "title", "name", "pages" );
+						assertThat( books.get( i ).getString( "name" ) ).isEqualTo( "Book \"" + i + "\"" );
+						assertThat( books.get( i ).getInteger( "pages" ) ).isEqualTo( 100 + i );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testEmbeddedValues(VertxTestContext context) {
+		List<Buffer> buffers = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select b.publisher.name, b.pages, b.publisher.city from Book b order by b.id", Object[].class )
+						.getResultJson( 100, buffers::add ) )
+				.thenAccept( rows -> {
+					List<JsonObject> books = parse( buffers );
+					assertThat( books ).hasSize( COUNT );
+					for ( int i = 0; i < COUNT; i++ ) {
+						assertThat( books.get( i ).fieldNames() ).containsExactly( "name", "pages", "city" );
+						assertThat( books.get( i ).getString( "name" ) ).isEqualTo( "Publisher " + i % 2 );
+						assertThat( books.get( i ).getInteger( "pages" ) ).isEqualTo( 100 + i );
+						assertThat( books.get( i ).getString( "city" ) ).isEqualTo( "City " + i % 3 );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testEmbeddableNotSupported(VertxTestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select b.title, b.publisher from Book b", Object[].class )
+						.getResultJson( 10 )
+						.collect().asList() ) )
+				.invoke( e -> assertThat( e ).hasMessageContaining( "'publisher'" ) )
+		);
+	}
+
+	@Test
+	public void testDuplicateNamesNotSupported(VertxTestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select a.title, b.title from Book a, Book b where a.id = b.id + 1", Object[].class )
+						.getResultJson( 10 )
+						.collect().asList() ) )
+				.invoke( e -> assertThat( e ).hasMessageContaining( "'title'" ) )
+		);
+	}
+
+	@Test
+	public void testNativeQuery(VertxTestContext context) {
+		List<Buffer> buffers = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withSession( s -> s.createNativeQuery( "select title, pages from RJ_BOOK order by id", Object[].class )
+						.getResultJson( 100, buffers::add ) )
+				.thenAccept( rows -> {
+					assertThat( rows ).isEqualTo( COUNT );
+					assertThat( buffers ).hasSize( 1 );
+					// the case of the column names depends on the database
+					List<JsonObject> books = parse( buffers ).stream()
+							.map( book -> new JsonObject( book.getMap().entrySet().stream()
+									.collect( Collectors.toMap( e -> e.getKey().toLowerCase( Locale.ROOT ), Map.Entry::getValue ) ) ) )
+							.collect( Collectors.toList() );
+					assertBooks( books );
+				} )
+		);
+	}
+
+	@Test
+	public void testEmptyResult(VertxTestContext context) {
+		List<Buffer> buffers = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "select b.title from Book b where b.id < 0", String.class )
+						.getResultJson( 10, buffers::add ) )
+				.thenAccept( rows -> {
+					assertThat( rows ).isZero();
+					assertThat( parse( buffers ) ).isEmpty();
+				} )
+		);
+	}
+
+	@Test
+	public void testEntityNotSupported(VertxTestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Book", Book.class )
+						.getResultJson( 10 )
+						.collect().asList() ) )
+		);
+	}
+
+	private static long cursorReads() {
+		return getMutinySessionFactory().getReactiveStatistics().getCursorReadCount();
+	}
+
+	private static List<JsonObject> parse(List<Buffer> buffers) {
+		Buffer json = Buffer.buffer();
+		buffers.forEach( json::appendBuffer );
+		JsonArray array = json.toJsonArray();
+		List<JsonObject> objects = new ArrayList<>();
+		for ( int i = 0; i < array.size(); i++ ) {
+			objects.add( array.getJsonObject( i ) );
+		}
+		return objects;
+	}
+
+	private static void assertBooks(List<JsonObject> books) {
+		assertThat( books ).hasSize( COUNT );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertThat( books.get( i ).fieldNames() ).containsExactlyInAnyOrder( "title", "pages" );
+			assertThat( books.get( i ).getString( "title" ) ).isEqualTo( "Book \"" + i + "\"" );
+			assertThat( books.get( i ).getInteger( "pages" ) ).isEqualTo( 100 + i );
+		}
+	}
+
+	public static class Title {
+		final String title;
+		final Integer pages;
+
+		public Title(String title, Integer pages) {
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "RJ_BOOK")
+	static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		Integer pages;
+
+		@Embedded
+		Publisher publisher;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, Integer pages, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+			this.publisher = publisher;
+		}
+	}
+
+	@Embeddable
+	static class Publisher {
+		String name;
+
+		String city;
+
+		Publisher() {
+		}
+
+		Publisher(String name, String city) {
+			this.name = name;
+			this.city = city;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test that a query returning more rows than the configured
+ * limit fails, and that the limit can be overridden per query
+ * without affecting the queries loading associations.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ResultRowLimitTest extends BaseReactiveTest {
+
+	private static final int LIMIT = 5;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class, Box.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.QUERY_RESULT_ROW_LIMIT, String.valueOf( LIMIT ) );
+		return configuration;
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		// The default implementation loads all the entities, exceeding the limit
+		return getSessionFactory()
+				.withTransaction( s -> s.createMutationQuery( "delete from Item" ).executeUpdate()
+						.thenCompose( v -> s.createMutationQuery( "delete from Box" ).executeUpdate() )
+						.thenCompose( CompletionStages::voidFuture ) );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		Item[] items = new Item[LIMIT * 2];
+		for ( int i = 0; i < items.length; i++ ) {
+			items[i] = new Item( i, "Item " + i );
+		}
+		Box box = new Box( 1, List.of( "red", "green", "blue" ) );
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( (Object[]) items )
+				.call( () -> s.persist( box ) ) ) );
+	}
+
+	@Test
+	public void testQueryExceedingLimitFails(VertxTestContext context) {
+		final long before = pool().getResultRowLimitExceededCount();
+		test( context, assertThrown( PersistenceException.class, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item", Item.class ).getResultList() ) )
+				.invoke( e -> {
+					assertThat( e ).hasStackTraceContaining( "HR000087" );
+					assertThat( pool().getResultRowLimitExceededCount() - before ).isEqualTo( 1L );
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryExceedingLimitInTransactionFails(VertxTestContext context) {
+		test( context, assertThrown( PersistenceException.class, getMutinySessionFactory()
+				.withTransaction( s -> s.createSelectionQuery( "from Item", Item.class ).getResultList() ) )
+				.invoke( e -> assertThat( e ).hasStackTraceContaining( "HR000087" ) )
+		);
+	}
+
+	@Test
+	public void testNativeQueryExceedingLimitFails(VertxTestContext context) {
+		test( context, assertThrown( PersistenceException.class, getMutinySessionFactory()
+				.withSession( s -> s.createNativeQuery( "select * from RRL_ITEM", Item.class ).getResultList() ) )
+				.invoke( e -> assertThat( e ).hasStackTraceContaining( "HR000087" ) )
+		);
+	}
+
+	@Test
+	public void testQueryWithinLimit(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item where id < :max", Item.class )
+						.setParameter( "max", LIMIT )
+						.getResultList() )
+				.invoke( items -> assertThat( items ).hasSize( LIMIT ) )
+		);
+	}
+
+	@Test
+	public void testQueryWithinLimitUsesNoCursor(VertxTestContext context) {
+		final long cursorReads = getMutinySessionFactory().getReactiveStatistics().getCursorReadCount();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item where id < :max", Item.class )
+						.setParameter( "max", LIMIT )
+						.getResultList() )
+				.invoke( () -> assertThat( getMutinySessionFactory().getReactiveStatistics().getCursorReadCount() )
+						.isEqualTo( cursorReads ) )
+		);
+	}
+
+	@Test
+	public void testMaxResultsWithinLimit(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item order by id", Item.class )
+						.setMaxResults( LIMIT )
+						.getResultList() )
+				.invoke( items -> assertThat( items ).hasSize( LIMIT ) )
+		);
+	}
+
+	@Test
+	public void testLimitOverriddenByQuery(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Item", Item.class )
+						.setResultRowLimit( 0 )
+						.getResultList()
+						.thenAccept( items -> assertThat( items ).hasSize( LIMIT * 2 ) )
+						// The override only applies to the query which set it
+						.thenCompose( v -> assertThrown( PersistenceException.class, s
+								.createSelectionQuery( "from Item", Item.class )
+								.getResultList() ) )
+						.thenCompose( v -> assertThrown( PersistenceException.class, s
+								.createSelectionQuery( "from Item", Item.class )
+								.setResultRowLimit( 2 )
+								.getResultList() ) )
+						.thenAccept( e -> assertThat( e ).hasStackTraceContaining( "2 rows" ) )
+				)
+		);
+	}
+
+	@Test
+	public void testLimitOfQueryNotAppliedToAssociations(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createSelectionQuery( "from Box", Box.class )
+						// The eager collection is loaded by a separate query with 3 rows
+						.setResultRowLimit( 1 )
+						.getSingleResult() )
+				.invoke( box -> assertThat( box.labels ).containsExactlyInAnyOrder( "red", "green", "blue" ) )
+		);
+	}
+
+	private static SqlClientPool pool() {
+		return (SqlClientPool) factoryManager.getReactiveConnectionPool();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "RRL_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Box")
+	@Table(name = "RRL_BOX")
+	static class Box {
+		@Id
+		Integer id;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		@CollectionTable(name = "RRL_BOX_LABELS")
+		List<String> labels;
+
+		Box() {
+		}
+
+		Box(Integer id, List<String> labels) {
+			this.id = id;
+			this.labels = new ArrayList<>( labels );
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.impl.ReactiveSessionFactoryImpl;
+import org.hibernate.reactive.sql.results.internal.SharedQueryExecutions;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that identical cacheable queries executed at the same time by
+ * different sessions only hit the database once, unless one of the
+ * tables they read has been updated in the meantime.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class SharedQueryExecutionTest extends BaseReactiveTest {
+
+	private static final int COUNT = 10;
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.getProperties().put( Settings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE );
+		configuration.getProperties().put( Settings.USE_QUERY_CACHE, Boolean.TRUE );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.internal.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		sqlTracker = new SqlStatementTracker( SharedQueryExecutionTest::isItemQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isItemQuery(String s) {
+		return s.toLowerCase().startsWith( "select" ) && s.toUpperCase().contains( "SQE_ITEM" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		Item[] items = new Item[COUNT];
+		for ( int i = 0; i < items.length; i++ ) {
+			items[i] = new Item( i, "Item " + i );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( (Object[]) items ) )
+				.thenAccept( v -> getSessionFactory().getCache().evictAll() )
+		);
+	}
+
+	@Test
+	public void testConcurrentQueriesShareExecution(VertxTestContext context) {
+		final long before = sharedQueryExecutions().getSharedCount();
+		test( context, getSessionFactory()
+				.withSession( first -> openSession()
+						.thenCompose( second -> {
+							sqlTracker.clear();
+							// Both queries start before the first one completes
+							final CompletionStage<List<Item>> firstResult = findAll( first );
+							final CompletionStage<List<Item>> secondResult = findAll( second );
+							return firstResult.thenCombine( secondResult, (firstItems, secondItems) -> {
+								assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+								assertThat( sharedQueryExecutions().getSharedCount() - before ).isEqualTo( 1L );
+								assertAllItems( firstItems, COUNT );
+								assertAllItems( secondItems, COUNT );
+								// Each session has its own instances
+								assertThat( firstItems.get( 0 ) ).isNotSameAs( secondItems.get( 0 ) );
+								return null;
+							} );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testUpdatedTableNotShared(VertxTestContext context) {
+		final long before = sharedQueryExecutions().getSharedCount();
+		final List<CompletionStage<List<Item>>> firstResult = new ArrayList<>();
+		test( context, getSessionFactory()
+				.withSession( first -> openSession()
+						.thenCompose( second -> second
+								.withTransaction( tx -> second
+										.persist( new Item( COUNT, "Item " + COUNT ) )
+										// The flush invalidates the table before the queries start
+										.thenCompose( v -> second.flush() )
+										.thenCompose( v -> {
+											sqlTracker.clear();
+											// Both queries start before the first one completes,
+											// but the second one must not read the rows of the first
+											firstResult.add( findAll( first ) );
+											return findAll( second );
+										} ) ) )
+						.thenAccept( secondItems -> assertAllItems( secondItems, COUNT + 1 ) )
+						// The first query might have to wait for the transaction to complete
+						.thenCompose( v -> firstResult.get( 0 ) )
+						.thenAccept( firstItems -> {
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+							assertThat( sharedQueryExecutions().getSharedCount() ).isEqualTo( before );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testNonCacheableQueryNotShared(VertxTestContext context) {
+		final long before = sharedQueryExecutions().getSharedCount();
+		test( context, getSessionFactory()
+				.withSession( first -> openSession()
+						.thenCompose( second -> {
+							sqlTracker.clear();
+							final CompletionStage<List<Item>> firstResult = first
+									.createSelectionQuery( "from Item order by id", Item.class )
+									.getResultList();
+							final CompletionStage<List<Item>> secondResult = second
+									.createSelectionQuery( "from Item order by id", Item.class )
+									.getResultList();
+							return firstResult.thenCombine( secondResult, (firstItems, secondItems) -> {
+								assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+								assertThat( sharedQueryExecutions().getSharedCount() ).isEqualTo( before );
+								return null;
+							} );
+						} ) )
+		);
+	}
+
+	private static CompletionStage<List<Item>> findAll(Stage.Session session) {
+		return session.createSelectionQuery( "from Item order by id", Item.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static void assertAllItems(List<Item> items, int count) {
+		assertThat( items ).hasSize( count );
+		for ( int i = 0; i < count; i++ ) {
+			assertThat( items.get( i ).id ).isEqualTo( i );
+			assertThat( items.get( i ).name ).isEqualTo( "Item " + i );
+		}
+	}
+
+	private static SharedQueryExecutions sharedQueryExecutions() {
+		return ( (ReactiveSessionFactoryImpl) factoryManager.getHibernateSessionFactory() ).getSharedQueryExecutions();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "SQE_ITEM")
+	static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -15,6 +15,7 @@
 
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Multi;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 import jakarta.persistence.Entity;
@@ -24,7 +25,9 @@
 
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.ORACLE;
 import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
 
 /**
  * Same as Hibernate ORM org.hibernate.orm.test.stateless.UpsertTest
@@ -188,6 +191,91 @@ public void testStageUpsertWithEntityName(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void testMutinyUpsertAll(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withStatelessTransaction( ss -> ss
+							  .upsertAll( new Record( 123L, "hello earth" ), new Record( 456L, "hello mars" ) )
+					  )
+					  .invoke( this::assertQueries )
+					  .call( () -> getMutinySessionFactory().withStatelessTransaction( ss -> ss
+							  .upsertAll( 10, new Record( 123L, "goodbye earth" ), new Record( 789L, "hello venus" ) )
+					  ) )
+					  .invoke( this::assertQueries )
+					  .call( v -> getMutinySessionFactory().withStatelessTransaction( ss -> ss
+									  .createSelectionQuery( "from Record order by id", Record.class ).getResultList() )
+							  .invoke( results -> assertThat( results ).containsExactly(
+									  new Record( 123L, "goodbye earth" ),
+									  new Record( 456L, "hello mars" ),
+									  new Record( 789L, "hello venus" )
+							  ) )
+					  )
+		);
+	}
+
+	@Test
+	public void testMutinyUpsertAllFromMulti(VertxTestContext context) {
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory().withStatelessTransaction( ss -> ss
+							  .upsertAll( 3, Multi.createFrom().range( 1, 11 )
+									  .map( i -> new Record( (long) i, "hello " + i ) ) )
+					  )
+					  .invoke( () -> {
+						  // The other databases execute each upsert on its own,
+						  // or as an update followed by an insert when needed
+						  if ( hasMergeOperator() && dbType() != ORACLE ) {
+							  // 10 entities in batches of 3, 3, 3 and 1
+							  assertThat( sqlTracker.getLoggedQueries() ).hasSize( 4 );
+						  }
+					  } )
+					  .call( () -> getMutinySessionFactory().withStatelessTransaction( ss -> ss
+							  .upsertAll( 3, Multi.createFrom().range( 6, 16 )
+									  .map( i -> new Record( (long) i, "goodbye " + i ) ) )
+					  ) )
+					  .invoke( this::assertQueries )
+					  .call( v -> getMutinySessionFactory().withStatelessTransaction( ss -> ss
+									  .createSelectionQuery( "select message from Record order by id", String.class )
+									  .getResultList() )
+							  .invoke( results -> assertThat( results ).containsExactly(
+									  "hello 1", "hello 2", "hello 3", "hello 4", "hello 5",
+									  "goodbye 6", "goodbye 7", "goodbye 8", "goodbye 9", "goodbye 10",
+									  "goodbye 11", "goodbye 12", "goodbye 13", "goodbye 14", "goodbye 15"
+							  ) )
+					  )
+		);
+	}
+
+	@Test
+	public void testMutinyUpsertAllInvalidBatchSize(VertxTestContext context) {
+		test( context, assertThrown(
+				IllegalArgumentException.class,
+				getMutinySessionFactory().withStatelessTransaction( ss -> ss
+						.upsertAll( 0, Multi.createFrom().items( new Record( 1L, "hello" ) ) ) )
+			  )
+			  .invoke( e -> assertThat( e ).hasMessageContaining( "The batch size must be greater than 0: 0" ) )
+		);
+	}
+
+	@Test
+	public void testStageUpsertAll(VertxTestContext context) {
+		test( context, getSessionFactory().withStatelessTransaction( ss -> ss
+							  .upsert( new Record( 123L, "hello earth" ), new Record( 456L, "hello mars" ) )
+					  )
+					  .thenAccept( v -> this.assertQueries() )
+					  .thenCompose( v -> getSessionFactory().withStatelessTransaction( ss -> ss
+							  .upsert( 10, new Record( 123L, "goodbye earth" ), new Record( 789L, "hello venus" ) )
+					  ) )
+					  .thenAccept( v -> this.assertQueries() )
+					  .thenCompose( v -> getSessionFactory().withStatelessTransaction( ss -> ss
+									  .createSelectionQuery( "from Record order by id", Record.class ).getResultList() )
+							  .thenAccept( results -> assertThat( results ).containsExactly(
+									  new Record( 123L, "goodbye earth" ),
+									  new Record( 456L, "hello mars" ),
+									  new Record( 789L, "hello venus" )
+							  ) )
+					  )
+		);
+	}
+
 	private void assertQueries() {
 		if ( hasMergeOperator() ) {
 			assertThat( sqlTracker.getLoggedQueries() ).have( IS_USING_MERGE );
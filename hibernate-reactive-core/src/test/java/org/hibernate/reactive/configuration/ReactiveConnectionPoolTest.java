@@ -18,6 +18,7 @@
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPoolConfiguration;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.testing.TestingRegistryExtension;
 import org.hibernate.reactive.annotations.EnabledFor;
 
@@ -34,6 +35,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.cfg.AvailableSettings.PASS;
+import static org.hibernate.cfg.AvailableSettings.POOL_SIZE;
 import static org.hibernate.cfg.AvailableSettings.URL;
 import static org.hibernate.cfg.AvailableSettings.USER;
 import static org.hibernate.reactive.BaseReactiveTest.test;
@@ -110,6 +112,27 @@ public void configureWithWrongCredentials(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void configureWithEventLoopAffinity(VertxTestContext context) {
+		Map<String, Object> config = new HashMap<>();
+		config.put( URL, getJdbcUrl() );
+		config.put( POOL_SIZE, 1 );
+		config.put( Settings.POOL_EVENT_LOOP_AFFINITY, true );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		// With a single connection for each event loop, the second
+		// connection is available only if the first one was released
+		test( context, verifyConnectivityAndClose( reactivePool )
+				.thenCompose( v -> verifyConnectivityAndClose( reactivePool ) )
+		);
+	}
+
+	private static CompletionStage<Void> verifyConnectivityAndClose(ReactiveConnectionPool reactivePool) {
+		return reactivePool.getConnection().thenCompose(
+				connection -> connection.select( "SELECT 1" )
+						.thenAccept( result -> assertEquals( 1, result.next()[0] ) )
+						.thenCompose( v -> connection.close() ) );
+	}
+
 	private static CompletionStage<Void> verifyConnectivity(ReactiveConnectionPool reactivePool) {
 		return reactivePool.getConnection().thenCompose(
 				connection -> connection.select( "SELECT 1" )
@@ -0,0 +1,147 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.schema;
+
+import java.nio.file.Path;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.BaseReactiveTest;
+import org.hibernate.reactive.annotations.DisabledFor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.DB2;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Test schema validation using the snapshot stored in the file
+ * set with {@link Settings#SCHEMA_SNAPSHOT_FILE}.
+ */
+@DisabledFor(value = DB2, reason = "We don't have an information extractor. See https://github.com/hibernate/hibernate-reactive/issues/911")
+public class SchemaSnapshotTest extends BaseReactiveTest {
+
+	@TempDir
+	Path snapshotDir;
+
+	// The queries extracting the metadata, and the one computing the checksum of the catalog
+	private final SqlStatementTracker sqlTracker = new SqlStatementTracker( SchemaSnapshotTest::isSelect );
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private Path snapshotFile() {
+		return snapshotDir.resolve( "schema.snapshot" );
+	}
+
+	protected Configuration constructConfiguration(String action) {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.HBM2DDL_AUTO, action );
+		configuration.setProperty( Settings.SCHEMA_SNAPSHOT_FILE, snapshotFile().toString() );
+		configuration.addAnnotatedClass( BasicTypesTestEntity.class );
+		return configuration;
+	}
+
+	@BeforeEach
+	@Override
+	public void before(VertxTestContext context) {
+		Configuration dropConf = constructConfiguration( "drop" );
+		dropConf.addAnnotatedClass( SchemaValidationTestBase.Extra.class );
+
+		test( context, setupSessionFactory( dropConf )
+				.thenCompose( v -> factoryManager.stop() )
+				.thenCompose( v -> setupSessionFactory( constructConfiguration( "create" ) ) )
+				.thenCompose( v -> factoryManager.stop() )
+		);
+	}
+
+	@AfterEach
+	@Override
+	public void after(VertxTestContext context) {
+		super.after( context );
+		closeFactory( context );
+	}
+
+	@Test
+	@Timeout(value = 10, timeUnit = MINUTES)
+	public void testSnapshotIsReused(VertxTestContext context) {
+		sqlTracker.clear();
+		test( context, setupSessionFactory( constructConfiguration( "validate" ) )
+				.thenCompose( v -> factoryManager.stop() )
+				.thenAccept( v -> {
+					assertThat( snapshotFile() ).exists();
+					assertThat( sqlTracker.getLoggedQueries() ).hasSizeGreaterThan( 1 );
+					sqlTracker.clear();
+				} )
+				.thenCompose( v -> setupSessionFactory( constructConfiguration( "validate" ) ) )
+				// Only the checksum of the catalog is queried, the metadata comes from the snapshot
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+		);
+	}
+
+	@Test
+	@Timeout(value = 10, timeUnit = MINUTES)
+	public void testSchemaChangeInvalidatesSnapshot(VertxTestContext context) {
+		Configuration updateConf = constructConfiguration( "update" );
+		updateConf.addAnnotatedClass( SchemaValidationTestBase.Extra.class );
+		Configuration validateConf = constructConfiguration( "validate" );
+		validateConf.addAnnotatedClass( SchemaValidationTestBase.Extra.class );
+
+		test( context, setupSessionFactory( constructConfiguration( "validate" ) )
+				.thenCompose( v -> factoryManager.stop() )
+				// Adds the missing table, which changes the checksum of the catalog
+				.thenCompose( v -> setupSessionFactory( updateConf ) )
+				.thenCompose( v -> factoryManager.stop() )
+				.thenAccept( v -> sqlTracker.clear() )
+				// Would fail with a missing table if the first snapshot was used
+				.thenCompose( v -> setupSessionFactory( validateConf ) )
+				.thenCompose( v -> factoryManager.stop() )
+				.thenAccept( v -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSizeGreaterThan( 1 );
+					sqlTracker.clear();
+				} )
+				.thenCompose( v -> setupSessionFactory( validateConf ) )
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+		);
+	}
+
+	@Test
+	@Timeout(value = 10, timeUnit = MINUTES)
+	public void testValidationFailsWithSnapshot(VertxTestContext context) {
+		Configuration validateConf = constructConfiguration( "validate" );
+		validateConf.addAnnotatedClass( SchemaValidationTestBase.Extra.class );
+
+		final String errorMessage = "Schema-validation: missing table [" + SchemaValidationTestBase.Extra.TABLE_NAME + "]";
+		test( context, setupSessionFactory( constructConfiguration( "validate" ) )
+				.thenCompose( v -> factoryManager.stop() )
+				.thenCompose( v -> setupSessionFactory( validateConf ) )
+				.handle( (unused, throwable) -> {
+					assertNotNull( throwable );
+					assertEquals( throwable.getClass(), SchemaManagementException.class );
+					assertEquals( throwable.getMessage(), errorMessage );
+					return null;
+				} )
+		);
+	}
+}
@@ -0,0 +1,556 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.testing;
+
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import io.vertx.sqlclient.impl.RowBase;
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+
+/**
+ * An in-memory {@link ReactiveConnectionPool} which doesn't connect to
+ * a database: it records the statements it receives, answers queries
+ * with the rows configured via {@link #onSelect(Predicate, Rows)}, and
+ * completes each operation after a configurable {@link #setLatency latency}.
+ * <p>
+ * It makes it possible to measure the overhead of Hibernate Reactive
+ * itself, for example of a flush or of the loading of many entities,
+ * without a container and independently of the time spent by a real
+ * database. The dialect must be set explicitly with
+ * {@link org.hibernate.reactive.provider.Settings#DIALECT}, and the
+ * schema can't be exported.
+ * <p>
+ * Check {@link #registerService(StandardServiceRegistryBuilder)} to
+ * register an instance of this class.
+ *
+ * @see #registerService(StandardServiceRegistryBuilder)
+ */
+public class FakeSqlClientPool implements ReactiveConnectionPool {
+
+	private final List<String> statements = new CopyOnWriteArrayList<>();
+	private final List<Script> scripts = new CopyOnWriteArrayList<>();
+	private final AtomicLong generatedIdentifiers = new AtomicLong();
+	private volatile Duration latency = Duration.ZERO;
+	private volatile int updateCount = 1;
+
+	/**
+	 * Answer the queries matching the predicate with the given rows.
+	 * The most recently added match wins. Queries which don't match
+	 * any predicate return no rows.
+	 */
+	public FakeSqlClientPool onSelect(Predicate<String> sql, Rows rows) {
+		scripts.add( 0, new Script( sql, rows ) );
+		return this;
+	}
+
+	/**
+	 * The time each operation takes to complete, simulating the round
+	 * trip to the database. When the operation is called on a Vert.x
+	 * context, it completes on the same context.
+	 */
+	public FakeSqlClientPool setLatency(Duration latency) {
+		this.latency = latency;
+		return this;
+	}
+
+	/**
+	 * The number of rows affected by each insert, update or delete,
+	 * {@code 1} by default.
+	 */
+	public FakeSqlClientPool setUpdateCount(int updateCount) {
+		this.updateCount = updateCount;
+		return this;
+	}
+
+	/**
+	 * @return the SQL of the statements executed since the last {@link #clear()},
+	 *         including each statement of a batch
+	 */
+	public List<String> getExecutedStatements() {
+		return statements;
+	}
+
+	public void clear() {
+		statements.clear();
+	}
+
+	/**
+	 * Register the current pool to the {@link StandardServiceRegistryBuilder}.
+	 *
+	 * @param builder the {@link StandardServiceRegistryBuilder} for the creation of the factory
+	 */
+	public void registerService(StandardServiceRegistryBuilder builder) {
+		builder.addInitiator( new Initiator( this ) );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return complete( new FakeConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(SqlExceptionHelper sqlExceptionHelper) {
+		return getConnection();
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getConnection();
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId, SqlExceptionHelper sqlExceptionHelper) {
+		return getConnection();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	private Rows rows(String sql) {
+		for ( Script script : scripts ) {
+			if ( script.sql.test( sql ) ) {
+				return script.rows;
+			}
+		}
+		return Rows.of();
+	}
+
+	private <T> CompletionStage<T> execute(String sql, T result) {
+		statements.add( sql );
+		return complete( result );
+	}
+
+	private <T> CompletionStage<T> complete(T result) {
+		final long millis = latency.toMillis();
+		if ( millis <= 0 ) {
+			return CompletableFuture.completedFuture( result );
+		}
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final Context context = Vertx.currentContext();
+		if ( context == null ) {
+			CompletableFuture.delayedExecutor( millis, TimeUnit.MILLISECONDS )
+					.execute( () -> future.complete( result ) );
+		}
+		else {
+			context.owner().setTimer( millis, id -> context.runOnContext( v -> future.complete( result ) ) );
+		}
+		return future;
+	}
+
+	/**
+	 * The rows returned by a query.
+	 */
+	public static class Rows {
+
+		private final List<String> columns;
+		private final List<Object[]> values = new ArrayList<>();
+
+		private Rows(List<String> columns) {
+			this.columns = columns;
+		}
+
+		/**
+		 * @param columns the names of the columns, in the order the query selects them
+		 */
+		public static Rows of(String... columns) {
+			return new Rows( List.of( columns ) );
+		}
+
+		/**
+		 * Add a row, with a value for each column.
+		 */
+		public Rows row(Object... values) {
+			if ( values.length != columns.size() ) {
+				throw new IllegalArgumentException( "Expected " + columns.size() + " values but got " + values.length );
+			}
+			this.values.add( values );
+			return this;
+		}
+
+		private FakeRowSet toRowSet() {
+			final List<Row> rows = new ArrayList<>( values.size() );
+			for ( Object[] row : values ) {
+				rows.add( new FakeRow( columns, Arrays.asList( row ) ) );
+			}
+			return new FakeRowSet( columns, rows );
+		}
+
+		private ReactiveConnection.Result toResult() {
+			final Iterator<Object[]> iterator = values.iterator();
+			final int size = values.size();
+			return new ReactiveConnection.Result() {
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Object[] next() {
+					return iterator.next().clone();
+				}
+			};
+		}
+	}
+
+	private static class Script {
+		private final Predicate<String> sql;
+		private final Rows rows;
+
+		Script(Predicate<String> sql, Rows rows) {
+			this.sql = sql;
+			this.rows = rows;
+		}
+	}
+
+	private class FakeConnection implements ReactiveConnection {
+
+		@Override
+		public DatabaseMetadata getDatabaseMetadata() {
+			return FakeDatabaseMetadata.INSTANCE;
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return execute( sql, null );
+		}
+
+		@Override
+		public CompletionStage<Void> executeOutsideTransaction(String sql) {
+			return execute( sql, null );
+		}
+
+		@Override
+		public CompletionStage<Void> executeUnprepared(String sql) {
+			return execute( sql, null );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return execute( sql, updateCount );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return execute( sql, updateCount );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+			return update( sql, paramValues )
+					.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			final int[] updateCounts = new int[paramValues.size()];
+			Arrays.fill( updateCounts, updateCount );
+			for ( int i = 1; i < paramValues.size(); i++ ) {
+				statements.add( sql );
+			}
+			return execute( sql, updateCounts );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return execute( sql, rows( sql ).toResult() );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return select( sql );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return selectJdbc( sql, paramValues, 0 );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int resultRowLimit) {
+			final FakeRowSet rows = rows( sql ).toRowSet();
+			if ( resultRowLimit > 0 && rows.size() > resultRowLimit ) {
+				statements.add( sql );
+				return CompletableFuture.failedFuture( new IllegalStateException(
+						"Query returned more than " + resultRowLimit + " rows: " + sql ) );
+			}
+			return execute( sql, new ResultSetAdaptor( rows ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize) {
+			return selectJdbc( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbcWithCursor(String sql, Object[] paramValues, int fetchSize, int resultRowLimit) {
+			return selectJdbc( sql, paramValues, resultRowLimit );
+		}
+
+		@Override
+		public int getResultRowLimit() {
+			return 0;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
+			return selectJdbc( sql, paramValues );
+		}
+
+		@Override
+		public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
+			return execute( sql, nextIdentifier( idClass ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> insertAndSelectIdentifierAsResultSet(String sql, Object[] paramValues, Class<?> idClass, String idColumnName) {
+			final Object id = nextIdentifier( idClass );
+			return execute( sql, new ResultSetAdaptor( Rows.of().toRowSet(), List.of( id ), idColumnName, idClass ) );
+		}
+
+		@Override
+		public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+			final Result result = rows( sql ).toResult();
+			return execute( sql, result.hasNext() ? idClass.cast( result.next()[0] ) : nextIdentifier( idClass ) );
+		}
+
+		private <T> T nextIdentifier(Class<T> idClass) {
+			final long id = generatedIdentifiers.incrementAndGet();
+			if ( idClass == Integer.class ) {
+				return idClass.cast( (int) id );
+			}
+			if ( idClass == String.class ) {
+				return idClass.cast( String.valueOf( id ) );
+			}
+			return idClass.cast( id );
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			return execute( "begin", null );
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return execute( "commit", null );
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return execute( "rollback", null );
+		}
+
+		@Override
+		public ReactiveConnection withBatchSize(int batchSize) {
+			return batchSize <= 1 ? this : new BatchingConnection( this, batchSize );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			return CompletableFuture.completedFuture( null );
+		}
+	}
+
+	private static class FakeRowSet implements RowSet<Row> {
+
+		private final List<String> columns;
+		private final List<ColumnDescriptor> columnDescriptors;
+		private final List<Row> rows;
+
+		FakeRowSet(List<String> columns, List<Row> rows) {
+			this.columns = columns;
+			this.rows = rows;
+			this.columnDescriptors = new ArrayList<>( columns.size() );
+			for ( String column : columns ) {
+				columnDescriptors.add( new FakeColumnDescriptor( column ) );
+			}
+		}
+
+		@Override
+		public RowIterator<Row> iterator() {
+			final Iterator<Row> iterator = rows.iterator();
+			return new RowIterator<>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Row next() {
+					return iterator.next();
+				}
+			};
+		}
+
+		@Override
+		public int rowCount() {
+			return rows.size();
+		}
+
+		@Override
+		public List<String> columnsNames() {
+			return columns;
+		}
+
+		@Override
+		public List<ColumnDescriptor> columnDescriptors() {
+			return columnDescriptors;
+		}
+
+		@Override
+		public int size() {
+			return rows.size();
+		}
+
+		@Override
+		public <V> V property(PropertyKind<V> propertyKind) {
+			return null;
+		}
+
+		@Override
+		public RowSet<Row> value() {
+			return this;
+		}
+
+		@Override
+		public RowSet<Row> next() {
+			return null;
+		}
+	}
+
+	private static class FakeRow extends RowBase {
+
+		private final List<String> columns;
+
+		FakeRow(List<String> columns, Collection<?> values) {
+			super( values );
+			this.columns = columns;
+		}
+
+		@Override
+		public String getColumnName(int pos) {
+			return pos < 0 || pos >= columns.size() ? null : columns.get( pos );
+		}
+
+		@Override
+		public int getColumnIndex(String column) {
+			return columns.indexOf( column );
+		}
+	}
+
+	private static class FakeColumnDescriptor implements ColumnDescriptor {
+
+		private final String name;
+
+		FakeColumnDescriptor(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String name() {
+			return name;
+		}
+
+		@Override
+		public boolean isArray() {
+			return false;
+		}
+
+		@Override
+		public String typeName() {
+			return null;
+		}
+
+		@Override
+		public JDBCType jdbcType() {
+			return null;
+		}
+	}
+
+	private static class FakeDatabaseMetadata implements DatabaseMetadata {
+
+		static final FakeDatabaseMetadata INSTANCE = new FakeDatabaseMetadata();
+
+		@Override
+		public String productName() {
+			return "Fake";
+		}
+
+		@Override
+		public String fullVersion() {
+			return "0.0";
+		}
+
+		@Override
+		public int majorVersion() {
+			return 0;
+		}
+
+		@Override
+		public int minorVersion() {
+			return 0;
+		}
+	}
+
+	private static class Initiator implements StandardServiceInitiator<ReactiveConnectionPool> {
+		private final FakeSqlClientPool pool;
+
+		public Initiator(FakeSqlClientPool pool) {
+			this.pool = pool;
+		}
+
+		@Override
+		public ReactiveConnectionPool initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+			return pool;
+		}
+
+		@Override
+		public Class<ReactiveConnectionPool> getServiceInitiated() {
+			return ReactiveConnectionPool.class;
+		}
+	}
+}